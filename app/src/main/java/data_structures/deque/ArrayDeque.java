@@ -0,0 +1,258 @@
+package data_structures.deque;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Circular array deque. Capacity is a power of two so both ends wrap by masking, and the array doubles when full, so
+ * every end operation is amortized O(1) with no per-element allocation, unlike using {@code DoublyLinkedList} as a
+ * deque. The batch operations copy with at most two {@link System#arraycopy} calls per wrap point. Not thread-safe.
+ */
+@SuppressWarnings({"unchecked", "unused"})
+public class ArrayDeque<T> implements Deque<T>, Iterable<T> {
+
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private Object[] elements;
+	private int mask;
+	private int head;
+	private int size;
+
+	//region - Constructors
+	public ArrayDeque() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	public ArrayDeque(int initialCapacity) {
+		if (initialCapacity <= 0 || initialCapacity > 1 << 30) {
+			throw new IllegalArgumentException("Capacity must be in [1, 2^30]: " + initialCapacity);
+		}
+
+		int capacity = 1 << (32 - Integer.numberOfLeadingZeros(initialCapacity - 1));
+		elements = new Object[capacity];
+		mask = capacity - 1;
+	}
+	//endregion
+
+	//region - Deque Operations
+	@Override
+	public void addFirst(T value) {
+		Objects.requireNonNull(value, "ArrayDeque does not accept null values");
+		ensureCapacity(1);
+		head = (head - 1) & mask;
+		elements[head] = value;
+		size++;
+	}
+
+	@Override
+	public void addLast(T value) {
+		Objects.requireNonNull(value, "ArrayDeque does not accept null values");
+		ensureCapacity(1);
+		elements[(head + size) & mask] = value;
+		size++;
+	}
+
+	@Override
+	public T pollFirst() {
+		if (size == 0) {
+			return null;
+		}
+
+		T value = (T) elements[head];
+		elements[head] = null;
+		head = (head + 1) & mask;
+		size--;
+		return value;
+	}
+
+	@Override
+	public T pollLast() {
+		if (size == 0) {
+			return null;
+		}
+
+		int tail = (head + size - 1) & mask;
+		T value = (T) elements[tail];
+		elements[tail] = null;
+		size--;
+		return value;
+	}
+
+	@Override
+	public T peekFirst() {
+		return (T) elements[head];
+	}
+
+	@Override
+	public T peekLast() {
+		return size == 0 ? null : (T) elements[(head + size - 1) & mask];
+	}
+
+	/** Returns the element {@code index} positions behind the front. */
+	public T get(int index) {
+		return (T) elements[(head + Objects.checkIndex(index, size)) & mask];
+	}
+	//endregion
+
+	//region - Batch Operations
+	@Override
+	public void addAllLast(T[] src, int off, int len) {
+		checkSlice(src, off, len);
+		ensureCapacity(len);
+		copyIn(src, off, (head + size) & mask, len);
+		size += len;
+	}
+
+	@Override
+	public void addAllFirst(T[] src, int off, int len) {
+		checkSlice(src, off, len);
+		ensureCapacity(len);
+		head = (head - len) & mask;
+		copyIn(src, off, head, len);
+		size += len;
+	}
+
+	@Override
+	public int drainFirst(Consumer<? super T> consumer, int limit) {
+		Objects.requireNonNull(consumer);
+		int count = Math.min(Math.max(limit, 0), size);
+
+		for (int i = 0; i < count; i++) {
+			int index = (head + i) & mask;
+			consumer.accept((T) elements[index]);
+			elements[index] = null;
+		}
+
+		head = (head + count) & mask;
+		size -= count;
+		return count;
+	}
+
+	@Override
+	public int drainLast(Consumer<? super T> consumer, int limit) {
+		Objects.requireNonNull(consumer);
+		int count = Math.min(Math.max(limit, 0), size);
+
+		for (int i = 1; i <= count; i++) {
+			int index = (head + size - i) & mask;
+			consumer.accept((T) elements[index]);
+			elements[index] = null;
+		}
+
+		size -= count;
+		return count;
+	}
+	//endregion
+
+	//region - Utilities
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public int capacity() {
+		return elements.length;
+	}
+
+	@Override
+	public boolean contains(T value) {
+		if (value == null) {
+			return false;
+		}
+
+		for (int i = 0; i < size; i++) {
+			if (value.equals(elements[(head + i) & mask])) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	@Override
+	public void clear() {
+		for (int i = 0; i < size; i++) {
+			elements[(head + i) & mask] = null;
+		}
+
+		head = 0;
+		size = 0;
+	}
+
+	/** Copies the elements from first to last with at most two {@link System#arraycopy} calls. */
+	public Object[] toArray() {
+		var array = new Object[size];
+		int firstRun = Math.min(size, elements.length - head);
+		System.arraycopy(elements, head, array, 0, firstRun);
+		System.arraycopy(elements, 0, array, firstRun, size - firstRun);
+		return array;
+	}
+	//endregion
+
+	//region - Private Helpers
+	private void ensureCapacity(int extra) {
+		if (size + extra <= elements.length) {
+			return;
+		}
+
+		if (size + extra > 1 << 30 || size + extra < 0) {
+			throw new IllegalStateException("Deque is full");
+		}
+
+		int capacity = 1 << (32 - Integer.numberOfLeadingZeros(size + extra - 1));
+		elements = Arrays.copyOf(toArray(), capacity);
+		mask = capacity - 1;
+		head = 0;
+	}
+
+	// Copies src[off, off + len) into the ring starting at start, splitting at the wrap point.
+	private void copyIn(T[] src, int off, int start, int len) {
+		int firstRun = Math.min(len, elements.length - start);
+		System.arraycopy(src, off, elements, start, firstRun);
+		System.arraycopy(src, off + firstRun, elements, 0, len - firstRun);
+	}
+
+	private static <T> void checkSlice(T[] src, int off, int len) {
+		Objects.checkFromIndexSize(off, len, src.length);
+
+		for (int i = off; i < off + len; i++) {
+			Objects.requireNonNull(src[i], "ArrayDeque does not accept null values");
+		}
+	}
+	//endregion
+
+	//region - Iterator
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<>() {
+			private int index;
+
+			@Override
+			public boolean hasNext() {
+				return index < size;
+			}
+
+			@Override
+			public T next() {
+				if (!hasNext()) {
+					throw new IndexOutOfBoundsException();
+				}
+
+				return (T) elements[(head + index++) & mask];
+			}
+		};
+	}
+	//endregion
+
+	@Override
+	public String toString() {
+		return Arrays.toString(toArray());
+	}
+}
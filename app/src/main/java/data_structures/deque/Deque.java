@@ -0,0 +1,78 @@
+package data_structures.deque;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+public interface Deque<T> {
+
+    void addFirst(T value);
+
+    void addLast(T value);
+
+    /** Removes and returns the first element, or {@code null} if the deque is empty. */
+    T pollFirst();
+
+    /** Removes and returns the last element, or {@code null} if the deque is empty. */
+    T pollLast();
+
+    T peekFirst();
+
+    T peekLast();
+
+    int size();
+
+    boolean isEmpty();
+
+    boolean contains(T value);
+
+    void clear();
+
+    //region - Batch Operations
+    // The defaults move one element per call; implementations override them to pay their per-operation cost
+    // (a copy, a lock, a wrap-point check) once per batch.
+
+    /** Adds the slice at the back, so {@code src[off + len - 1]} becomes the last element. */
+    default void addAllLast(T[] src, int off, int len) {
+        Objects.checkFromIndexSize(off, len, src.length);
+
+        for (int i = off; i < off + len; i++) {
+            addLast(src[i]);
+        }
+    }
+
+    /** Adds the slice at the front in its original order, so {@code src[off]} becomes the first element. */
+    default void addAllFirst(T[] src, int off, int len) {
+        Objects.checkFromIndexSize(off, len, src.length);
+
+        for (int i = off + len - 1; i >= off; i--) {
+            addFirst(src[i]);
+        }
+    }
+
+    /** Removes up to {@code limit} elements from the front, first to last. */
+    default int drainFirst(Consumer<? super T> consumer, int limit) {
+        Objects.requireNonNull(consumer);
+        int drained = 0;
+
+        while (drained < limit && !isEmpty()) {
+            consumer.accept(pollFirst());
+            drained++;
+        }
+
+        return drained;
+    }
+
+    /** Removes up to {@code limit} elements from the back, last to first. */
+    default int drainLast(Consumer<? super T> consumer, int limit) {
+        Objects.requireNonNull(consumer);
+        int drained = 0;
+
+        while (drained < limit && !isEmpty()) {
+            consumer.accept(pollLast());
+            drained++;
+        }
+
+        return drained;
+    }
+    //endregion
+}
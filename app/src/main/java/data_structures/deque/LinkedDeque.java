@@ -0,0 +1,386 @@
+package data_structures.deque;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Objects;
+
+/**
+ * Unrolled linked deque: a doubly linked chain of fixed-size element blocks, like C++'s {@code std::deque}. Both ends
+ * are O(1), growing never copies existing elements, and a block of 64 holds 64 elements in two objects instead of 64
+ * nodes. A block emptied at either end goes back to a bounded free-list and is reused by the next block that end
+ * needs, so a deque that oscillates in size stops allocating. Not thread-safe.
+ */
+@SuppressWarnings({"unchecked", "unused"})
+public class LinkedDeque<T> implements Deque<T>, Iterable<T> {
+
+	public static final int DEFAULT_BLOCK_SIZE = 64;
+	private static final int DEFAULT_POOL_CAPACITY = 4;
+
+	private final int blockSize;
+	private final int poolCapacity;
+
+	// The first element is head.slots[headIndex]; the last is tail.slots[tailIndex - 1].
+	private Block head;
+	private Block tail;
+	private int headIndex;
+	private int tailIndex;
+	private int size;
+	private int blockCount;
+
+	private Block free;
+	private int pooled;
+	private long allocations;
+	private long reuses;
+
+	//region - Constructors
+	public LinkedDeque() {
+		this(DEFAULT_BLOCK_SIZE, DEFAULT_POOL_CAPACITY);
+	}
+
+	public LinkedDeque(int blockSize, int poolCapacity) {
+		if (blockSize <= 0) {
+			throw new IllegalArgumentException("Block size must be positive: " + blockSize);
+		}
+
+		if (poolCapacity < 0) {
+			throw new IllegalArgumentException("Pool capacity must be non-negative: " + poolCapacity);
+		}
+
+		this.blockSize = blockSize;
+		this.poolCapacity = poolCapacity;
+		head = tail = acquire();
+		blockCount = 1;
+		recentre();
+	}
+	//endregion
+
+	//region - Deque Operations
+	@Override
+	public void addFirst(T value) {
+		Objects.requireNonNull(value, "LinkedDeque does not accept null values");
+
+		if (headIndex == 0) {
+			linkBefore();
+		}
+
+		head.slots[--headIndex] = value;
+		size++;
+	}
+
+	@Override
+	public void addLast(T value) {
+		Objects.requireNonNull(value, "LinkedDeque does not accept null values");
+
+		if (tailIndex == blockSize) {
+			linkAfter();
+		}
+
+		tail.slots[tailIndex++] = value;
+		size++;
+	}
+
+	@Override
+	public T pollFirst() {
+		if (size == 0) {
+			return null;
+		}
+
+		T value = (T) head.slots[headIndex];
+		head.slots[headIndex++] = null;
+		size--;
+
+		if (size == 0) {
+			recentre();
+		} else if (headIndex == blockSize) {
+			var emptied = head;
+			head = head.next;
+			head.prev = null;
+			headIndex = 0;
+			release(emptied);
+		}
+
+		return value;
+	}
+
+	@Override
+	public T pollLast() {
+		if (size == 0) {
+			return null;
+		}
+
+		T value = (T) tail.slots[--tailIndex];
+		tail.slots[tailIndex] = null;
+		size--;
+
+		if (size == 0) {
+			recentre();
+		} else if (tailIndex == 0) {
+			var emptied = tail;
+			tail = tail.prev;
+			tail.next = null;
+			tailIndex = blockSize;
+			release(emptied);
+		}
+
+		return value;
+	}
+
+	@Override
+	public T peekFirst() {
+		return size == 0 ? null : (T) head.slots[headIndex];
+	}
+
+	@Override
+	public T peekLast() {
+		return size == 0 ? null : (T) tail.slots[tailIndex - 1];
+	}
+
+	/** Returns the element {@code index} positions behind the front, walking one block at a time. */
+	public T get(int index) {
+		int offset = headIndex + Objects.checkIndex(index, size);
+		var block = head;
+
+		for (int i = offset / blockSize; i > 0; i--) {
+			block = block.next;
+		}
+
+		return (T) block.slots[offset % blockSize];
+	}
+	//endregion
+
+	//region - Batch Operations
+	@Override
+	public void addAllLast(T[] src, int off, int len) {
+		checkSlice(src, off, len);
+
+		for (int copied = 0; copied < len; ) {
+			if (tailIndex == blockSize) {
+				linkAfter();
+			}
+
+			int run = Math.min(len - copied, blockSize - tailIndex);
+			System.arraycopy(src, off + copied, tail.slots, tailIndex, run);
+			tailIndex += run;
+			copied += run;
+			size += run;
+		}
+	}
+
+	@Override
+	public void addAllFirst(T[] src, int off, int len) {
+		checkSlice(src, off, len);
+
+		for (int remaining = len; remaining > 0; ) {
+			if (headIndex == 0) {
+				linkBefore();
+			}
+
+			int run = Math.min(remaining, headIndex);
+			headIndex -= run;
+			remaining -= run;
+			System.arraycopy(src, off + remaining, head.slots, headIndex, run);
+			size += run;
+		}
+	}
+	//endregion
+
+	//region - Utilities
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public boolean contains(T value) {
+		if (value == null) {
+			return false;
+		}
+
+		for (T element : this) {
+			if (value.equals(element)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/** Releases every block but one to the pool. */
+	@Override
+	public void clear() {
+		while (head != tail) {
+			var emptied = head;
+			head = head.next;
+			Arrays.fill(emptied.slots, null);
+			release(emptied);
+		}
+
+		head.prev = null;
+		Arrays.fill(head.slots, null);
+		size = 0;
+		recentre();
+	}
+
+	public Object[] toArray() {
+		var array = new Object[size];
+		int copied = 0;
+
+		for (var block = head; copied < size; block = block.next) {
+			int start = block == head ? headIndex : 0;
+			int run = Math.min(size - copied, blockSize - start);
+			System.arraycopy(block.slots, start, array, copied, run);
+			copied += run;
+		}
+
+		return array;
+	}
+
+	public int blockSize() {
+		return blockSize;
+	}
+
+	/** Blocks currently linked into the deque. */
+	public int blockCount() {
+		return blockCount;
+	}
+
+	/** Empty blocks waiting in the free-list. */
+	public int pooledBlocks() {
+		return pooled;
+	}
+
+	/** Blocks created with {@code new}, as opposed to taken from the free-list. */
+	public long allocations() {
+		return allocations;
+	}
+
+	public long reuses() {
+		return reuses;
+	}
+	//endregion
+
+	//region - Private Helpers
+	// An empty deque only needs its cursors moved, which keeps the end blocks non-empty whenever head != tail.
+	private void linkBefore() {
+		if (size == 0) {
+			headIndex = tailIndex = blockSize;
+			return;
+		}
+
+		var block = acquire();
+		block.next = head;
+		head.prev = block;
+		head = block;
+		headIndex = blockSize;
+		blockCount++;
+	}
+
+	private void linkAfter() {
+		if (size == 0) {
+			headIndex = tailIndex = 0;
+			return;
+		}
+
+		var block = acquire();
+		block.prev = tail;
+		tail.next = block;
+		tail = block;
+		tailIndex = 0;
+		blockCount++;
+	}
+
+	// An empty deque keeps its one block with the cursors in the middle, so either end can grow without linking.
+	private void recentre() {
+		headIndex = tailIndex = blockSize / 2;
+	}
+
+	private Block acquire() {
+		var block = free;
+
+		if (block == null) {
+			allocations++;
+			return new Block(blockSize);
+		}
+
+		free = block.next;
+		block.next = null;
+		pooled--;
+		reuses++;
+		return block;
+	}
+
+	// Callers have already nulled the block's slots.
+	private void release(Block block) {
+		block.prev = null;
+		block.next = null;
+		blockCount--;
+
+		if (pooled < poolCapacity) {
+			block.next = free;
+			free = block;
+			pooled++;
+		}
+	}
+
+	private static <T> void checkSlice(T[] src, int off, int len) {
+		Objects.checkFromIndexSize(off, len, src.length);
+
+		for (int i = off; i < off + len; i++) {
+			Objects.requireNonNull(src[i], "LinkedDeque does not accept null values");
+		}
+	}
+	//endregion
+
+	//region - Iterator
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<>() {
+			private Block block = head;
+			private int index = headIndex;
+			private int remaining = size;
+
+			@Override
+			public boolean hasNext() {
+				return remaining > 0;
+			}
+
+			@Override
+			public T next() {
+				if (!hasNext()) {
+					throw new IndexOutOfBoundsException();
+				}
+
+				if (index == blockSize) {
+					block = block.next;
+					index = 0;
+				}
+
+				remaining--;
+				return (T) block.slots[index++];
+			}
+		};
+	}
+	//endregion
+
+	@Override
+	public String toString() {
+		return Arrays.toString(toArray());
+	}
+
+	//region - Block
+	private static final class Block {
+		final Object[] slots;
+		Block prev;
+		Block next;
+
+		Block(int size) {
+			slots = new Object[size];
+		}
+	}
+	//endregion
+}
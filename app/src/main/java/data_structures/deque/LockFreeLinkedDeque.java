@@ -0,0 +1,673 @@
+package data_structures.deque;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Objects;
+
+/**
+ * Unbounded non-blocking deque on a doubly linked list, following the algorithm of
+ * {@code java.util.concurrent.ConcurrentLinkedDeque}. Nodes are added by one CAS on the end node's {@code prev} or
+ * {@code next}, which is the linearization point. Removal first CASes a node's item to {@code null}; that logical
+ * deletion mark is what makes an element gone. Unlinking the node from the list happens afterwards and is only an
+ * optimisation, so a thread that stalls halfway never blocks others.
+ * <p>
+ * {@code head} and {@code tail} are hints that may lag behind the real ends; every traversal follows {@code prev} or
+ * {@code next} from them to the true first or last node. A node that has been unlinked from the list points to itself,
+ * or to a terminator node, so a traversal that lands on it knows to restart from the nearest end.
+ * <p>
+ * {@link #size()}, {@link #contains(Object)}, {@link #toArray()} and the iterator walk the list and are weakly
+ * consistent: they never throw because of concurrent updates and reflect some state at or after their start.
+ */
+@SuppressWarnings("unused")
+public class LockFreeLinkedDeque<T> implements Deque<T>, Iterable<T> {
+
+	private static final VarHandle HEAD;
+	private static final VarHandle TAIL;
+	private static final VarHandle PREV;
+	private static final VarHandle NEXT;
+	private static final VarHandle ITEM;
+	// Deleted nodes closer than this to an end are left linked until more of them pile up.
+	private static final int HOPS = 2;
+	private static final Node<Object> PREV_TERMINATOR = new Node<>(null);
+	private static final Node<Object> NEXT_TERMINATOR = new Node<>(null);
+
+	static {
+		try {
+			var lookup = MethodHandles.lookup();
+			HEAD = lookup.findVarHandle(LockFreeLinkedDeque.class, "head", Node.class);
+			TAIL = lookup.findVarHandle(LockFreeLinkedDeque.class, "tail", Node.class);
+			PREV = lookup.findVarHandle(Node.class, "prev", Node.class);
+			NEXT = lookup.findVarHandle(Node.class, "next", Node.class);
+			ITEM = lookup.findVarHandle(Node.class, "item", Object.class);
+		} catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+
+		PREV_TERMINATOR.next = PREV_TERMINATOR;
+		NEXT_TERMINATOR.prev = NEXT_TERMINATOR;
+	}
+
+	private volatile Node<T> head;
+	private volatile Node<T> tail;
+
+	public LockFreeLinkedDeque() {
+		head = tail = new Node<>(null);
+	}
+
+	//region - Deque Operations
+	@Override
+	public void addFirst(T value) {
+		var node = new Node<>(Objects.requireNonNull(value, "LockFreeLinkedDeque does not accept null values"));
+
+		restart:
+		while (true) {
+			for (Node<T> h = head, p = h, q; ; ) {
+				if ((q = p.prev) != null && (q = (p = q).prev) != null) {
+					// Re-read head every second hop and jump to it if it moved.
+					p = h != (h = head) ? h : q;
+				} else if (p.next == p) {
+					continue restart;
+				} else {
+					NEXT.set(node, p);
+
+					if (PREV.compareAndSet(p, null, node)) {
+						if (p != h) {
+							HEAD.weakCompareAndSet(this, h, node);
+						}
+
+						return;
+					}
+				}
+			}
+		}
+	}
+
+	@Override
+	public void addLast(T value) {
+		var node = new Node<>(Objects.requireNonNull(value, "LockFreeLinkedDeque does not accept null values"));
+		linkLast(node, node);
+	}
+
+	@Override
+	public T pollFirst() {
+		restart:
+		while (true) {
+			for (Node<T> first = first(), p = first; ; ) {
+				T item = p.item;
+
+				if (item != null) {
+					// Someone added in front of first since we found it; the answer may have changed.
+					if (first.prev != null) {
+						continue restart;
+					}
+
+					if (ITEM.compareAndSet(p, item, null)) {
+						unlink(p);
+						return item;
+					}
+				}
+
+				if (p == (p = p.next)) {
+					continue restart;
+				}
+
+				if (p == null) {
+					if (first.prev != null) {
+						continue restart;
+					}
+
+					return null;
+				}
+			}
+		}
+	}
+
+	@Override
+	public T pollLast() {
+		restart:
+		while (true) {
+			for (Node<T> last = last(), p = last; ; ) {
+				T item = p.item;
+
+				if (item != null) {
+					if (last.next != null) {
+						continue restart;
+					}
+
+					if (ITEM.compareAndSet(p, item, null)) {
+						unlink(p);
+						return item;
+					}
+				}
+
+				if (p == (p = p.prev)) {
+					continue restart;
+				}
+
+				if (p == null) {
+					if (last.next != null) {
+						continue restart;
+					}
+
+					return null;
+				}
+			}
+		}
+	}
+
+	@Override
+	public T peekFirst() {
+		restart:
+		while (true) {
+			Node<T> first = first();
+			Node<T> p = first;
+			T item;
+
+			while ((item = p.item) == null) {
+				if (p == (p = p.next)) {
+					continue restart;
+				}
+
+				if (p == null) {
+					break;
+				}
+			}
+
+			if (first.prev != null) {
+				continue restart;
+			}
+
+			return item;
+		}
+	}
+
+	@Override
+	public T peekLast() {
+		restart:
+		while (true) {
+			Node<T> last = last();
+			Node<T> p = last;
+			T item;
+
+			while ((item = p.item) == null) {
+				if (p == (p = p.prev)) {
+					continue restart;
+				}
+
+				if (p == null) {
+					break;
+				}
+			}
+
+			if (last.next != null) {
+				continue restart;
+			}
+
+			return item;
+		}
+	}
+	//endregion
+
+	//region - Batch Operations
+	/** Links the whole slice with one CAS, so it appears at the back all at once and in order. */
+	@Override
+	public void addAllLast(T[] src, int off, int len) {
+		Objects.checkFromIndexSize(off, len, src.length);
+
+		if (len == 0) {
+			return;
+		}
+
+		Node<T> first = null;
+		Node<T> last = null;
+
+		for (int i = off; i < off + len; i++) {
+			var node = new Node<>(Objects.requireNonNull(src[i], "LockFreeLinkedDeque does not accept null values"));
+
+			if (first == null) {
+				first = node;
+			} else {
+				node.prev = last;
+				last.next = node;
+			}
+
+			last = node;
+		}
+
+		linkLast(first, last);
+	}
+	//endregion
+
+	//region - Utilities
+	@Override
+	public int size() {
+		restart:
+		while (true) {
+			int count = 0;
+
+			for (Node<T> p = first(); p != null; ) {
+				if (p.item != null && ++count == Integer.MAX_VALUE) {
+					break;
+				}
+
+				if (p == (p = p.next)) {
+					continue restart;
+				}
+			}
+
+			return count;
+		}
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return peekFirst() == null;
+	}
+
+	@Override
+	public boolean contains(T value) {
+		if (value == null) {
+			return false;
+		}
+
+		for (Node<T> p = first(); p != null; p = successor(p)) {
+			T item = p.item;
+
+			if (item != null && value.equals(item)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	@Override
+	public void clear() {
+		while (pollFirst() != null) {
+			// keep polling
+		}
+	}
+
+	public Object[] toArray() {
+		var elements = new ArrayList<T>();
+		forEach(elements::add);
+		return elements.toArray();
+	}
+	//endregion
+
+	//region - Private Helpers
+	// Appends the chain first..last (already linked to each other) after the true last node.
+	private void linkLast(Node<T> first, Node<T> last) {
+		restart:
+		while (true) {
+			for (Node<T> t = tail, p = t, q; ; ) {
+				if ((q = p.next) != null && (q = (p = q).next) != null) {
+					p = t != (t = tail) ? t : q;
+				} else if (p.prev == p) {
+					continue restart;
+				} else {
+					PREV.set(first, p);
+
+					if (NEXT.compareAndSet(p, null, first)) {
+						if (p != t || first != last) {
+							TAIL.weakCompareAndSet(this, t, last);
+						}
+
+						return;
+					}
+				}
+			}
+		}
+	}
+
+	// Walks prev from the head hint to the true first node, swinging head to it.
+	private Node<T> first() {
+		restart:
+		while (true) {
+			for (Node<T> h = head, p = h, q; ; ) {
+				if ((q = p.prev) != null && (q = (p = q).prev) != null) {
+					p = h != (h = head) ? h : q;
+				} else if (p == h || HEAD.compareAndSet(this, h, p)) {
+					return p;
+				} else {
+					continue restart;
+				}
+			}
+		}
+	}
+
+	private Node<T> last() {
+		restart:
+		while (true) {
+			for (Node<T> t = tail, p = t, q; ; ) {
+				if ((q = p.next) != null && (q = (p = q).next) != null) {
+					p = t != (t = tail) ? t : q;
+				} else if (p == t || TAIL.compareAndSet(this, t, p)) {
+					return p;
+				} else {
+					continue restart;
+				}
+			}
+		}
+	}
+
+	// Next node, or the first node again if p has been unlinked and points to itself.
+	private Node<T> successor(Node<T> p) {
+		return p == (p = p.next) ? first() : p;
+	}
+
+	// Physically removes a node whose item is already null, if it can be done without blocking.
+	private void unlink(Node<T> x) {
+		Node<T> prev = x.prev;
+		Node<T> next = x.next;
+
+		if (prev == null) {
+			unlinkFirst(x, next);
+			return;
+		}
+
+		if (next == null) {
+			unlinkLast(x, prev);
+			return;
+		}
+
+		Node<T> activePred;
+		Node<T> activeSucc;
+		boolean isFirst;
+		boolean isLast;
+		int hops = 1;
+
+		for (Node<T> p = prev; ; ++hops) {
+			if (p.item != null) {
+				activePred = p;
+				isFirst = false;
+				break;
+			}
+
+			Node<T> q = p.prev;
+
+			if (q == null) {
+				if (p.next == p) {
+					return;
+				}
+
+				activePred = p;
+				isFirst = true;
+				break;
+			} else if (p == q) {
+				return;
+			} else {
+				p = q;
+			}
+		}
+
+		for (Node<T> p = next; ; ++hops) {
+			if (p.item != null) {
+				activeSucc = p;
+				isLast = false;
+				break;
+			}
+
+			Node<T> q = p.next;
+
+			if (q == null) {
+				if (p.prev == p) {
+					return;
+				}
+
+				activeSucc = p;
+				isLast = true;
+				break;
+			} else if (p == q) {
+				return;
+			} else {
+				p = q;
+			}
+		}
+
+		// Dead nodes next to an end are cheap to leave for a while; interior ones are always squeezed out.
+		if (hops < HOPS && (isFirst | isLast)) {
+			return;
+		}
+
+		skipDeletedSuccessors(activePred);
+		skipDeletedPredecessors(activeSucc);
+
+		if ((isFirst | isLast)
+			&& activePred.next == activeSucc
+			&& activeSucc.prev == activePred
+			&& (isFirst ? activePred.prev == null : activePred.item != null)
+			&& (isLast ? activeSucc.next == null : activeSucc.item != null)) {
+			// Make sure neither hint can still reach x before cutting it loose.
+			updateHead();
+			updateTail();
+			PREV.setRelease(x, isFirst ? prevTerminator() : x);
+			NEXT.setRelease(x, isLast ? nextTerminator() : x);
+		}
+	}
+
+	private void unlinkFirst(Node<T> first, Node<T> next) {
+		for (Node<T> o = null, p = next, q; ; ) {
+			if (p.item != null || (q = p.next) == null) {
+				if (o != null && p.prev != p && NEXT.compareAndSet(first, next, p)) {
+					skipDeletedPredecessors(p);
+
+					if (first.prev == null && (p.next == null || p.item != null) && p.prev == first) {
+						updateHead();
+						updateTail();
+						NEXT.setRelease(o, o);
+						PREV.setRelease(o, prevTerminator());
+					}
+				}
+
+				return;
+			} else if (p == q) {
+				return;
+			} else {
+				o = p;
+				p = q;
+			}
+		}
+	}
+
+	private void unlinkLast(Node<T> last, Node<T> prev) {
+		for (Node<T> o = null, p = prev, q; ; ) {
+			if (p.item != null || (q = p.prev) == null) {
+				if (o != null && p.next != p && PREV.compareAndSet(last, prev, p)) {
+					skipDeletedSuccessors(p);
+
+					if (last.next == null && (p.prev == null || p.item != null) && p.next == last) {
+						updateHead();
+						updateTail();
+						PREV.setRelease(o, o);
+						NEXT.setRelease(o, nextTerminator());
+					}
+				}
+
+				return;
+			} else if (p == q) {
+				return;
+			} else {
+				o = p;
+				p = q;
+			}
+		}
+	}
+
+	// Moves head off a deleted node onto the true first node.
+	private void updateHead() {
+		Node<T> h;
+		Node<T> p;
+		Node<T> q;
+
+		restart:
+		while ((h = head).item == null && (p = h.prev) != null) {
+			while (true) {
+				if ((q = p.prev) == null || (q = (p = q).prev) == null) {
+					// p may be PREV_TERMINATOR, but then the CAS is bound to fail.
+					if (HEAD.compareAndSet(this, h, p)) {
+						return;
+					}
+
+					continue restart;
+				} else if (h != head) {
+					continue restart;
+				} else {
+					p = q;
+				}
+			}
+		}
+	}
+
+	private void updateTail() {
+		Node<T> t;
+		Node<T> p;
+		Node<T> q;
+
+		restart:
+		while ((t = tail).item == null && (p = t.next) != null) {
+			while (true) {
+				if ((q = p.next) == null || (q = (p = q).next) == null) {
+					if (TAIL.compareAndSet(this, t, p)) {
+						return;
+					}
+
+					continue restart;
+				} else if (t != tail) {
+					continue restart;
+				} else {
+					p = q;
+				}
+			}
+		}
+	}
+
+	// Points x.prev at its nearest live predecessor, skipping deleted nodes.
+	private void skipDeletedPredecessors(Node<T> x) {
+		outer:
+		do {
+			Node<T> prev = x.prev;
+			Node<T> p = prev;
+
+			while (p.item == null) {
+				Node<T> q = p.prev;
+
+				if (q == null) {
+					if (p.next == p) {
+						continue outer;
+					}
+
+					break;
+				} else if (p == q) {
+					continue outer;
+				} else {
+					p = q;
+				}
+			}
+
+			if (prev == p || PREV.compareAndSet(x, prev, p)) {
+				return;
+			}
+		} while (x.item != null || x.next == null);
+	}
+
+	private void skipDeletedSuccessors(Node<T> x) {
+		outer:
+		do {
+			Node<T> next = x.next;
+			Node<T> p = next;
+
+			while (p.item == null) {
+				Node<T> q = p.next;
+
+				if (q == null) {
+					if (p.prev == p) {
+						continue outer;
+					}
+
+					break;
+				} else if (p == q) {
+					continue outer;
+				} else {
+					p = q;
+				}
+			}
+
+			if (next == p || NEXT.compareAndSet(x, next, p)) {
+				return;
+			}
+		} while (x.item != null || x.prev == null);
+	}
+
+	// The terminators are shared by every deque, whatever its element type.
+	@SuppressWarnings("unchecked")
+	private Node<T> prevTerminator() {
+		return (Node<T>) PREV_TERMINATOR;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Node<T> nextTerminator() {
+		return (Node<T>) NEXT_TERMINATOR;
+	}
+	//endregion
+
+	//region - Iterator
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<>() {
+			private T nextItem;
+			private Node<T> nextNode = advance(null);
+
+			private Node<T> advance(Node<T> from) {
+				for (Node<T> p = from == null ? first() : successor(from); p != null; p = successor(p)) {
+					T item = p.item;
+
+					if (item != null) {
+						nextItem = item;
+						return p;
+					}
+				}
+
+				nextItem = null;
+				return null;
+			}
+
+			@Override
+			public boolean hasNext() {
+				return nextNode != null;
+			}
+
+			@Override
+			public T next() {
+				if (nextNode == null) {
+					throw new IndexOutOfBoundsException();
+				}
+
+				T item = nextItem;
+				nextNode = advance(nextNode);
+				return item;
+			}
+		};
+	}
+	//endregion
+
+	@Override
+	public String toString() {
+		return Arrays.toString(toArray());
+	}
+
+	//region - Node
+	private static final class Node<T> {
+		volatile Node<T> prev;
+		volatile T item;
+		volatile Node<T> next;
+
+		Node(T item) {
+			this.item = item;
+		}
+	}
+	//endregion
+}
@@ -0,0 +1,177 @@
+package data_structures.deque;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+
+/**
+ * Chase-Lev work-stealing deque. One owner thread pushes and pops tasks at the bottom; any number of thief threads
+ * steal from the top. The owner's push is a plain slot write followed by a release store of {@code bottom}, and its pop
+ * only needs a CAS when it races a thief for the last element. Thieves claim an element with one CAS on {@code top}.
+ * The circular array grows by doubling when the owner finds it full; thieves that still hold the old array read the
+ * same elements from it, so no copying happens under contention. This follows the C11 formulation by Le, Pop, Cohen and
+ * Zappa Nardelli, with the fences mapped onto {@link VarHandle} access modes.
+ * <p>
+ * {@link #push(Object)} and {@link #pop()} may only be called from the owner thread; {@link #steal()} from any thread.
+ * {@link #size()} and {@link #isEmpty()} are safe from any thread but only approximate under concurrent use. A thief
+ * never writes a slot, since the owner may already have wrapped around and reused it, so a stolen slot keeps its
+ * reference until the owner overwrites it.
+ */
+@SuppressWarnings({"unchecked", "unused"})
+public class WorkStealingDeque<T> {
+
+	private static final int DEFAULT_CAPACITY = 64;
+	private static final VarHandle CURSOR;
+	private static final VarHandle ARRAY;
+	private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(Object[].class);
+
+	static {
+		try {
+			CURSOR = MethodHandles.lookup().findVarHandle(Cursor.class, "value", long.class);
+			ARRAY = MethodHandles.lookup().findVarHandle(WorkStealingDeque.class, "array", Object[].class);
+		} catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	private final Cursor top = new Cursor();
+	private final Cursor bottom = new Cursor();
+	private Object[] array;
+
+	//region - Constructors
+	public WorkStealingDeque() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	public WorkStealingDeque(int initialCapacity) {
+		if (initialCapacity <= 0 || initialCapacity > 1 << 30) {
+			throw new IllegalArgumentException("Capacity must be in [1, 2^30]: " + initialCapacity);
+		}
+
+		array = new Object[1 << (32 - Integer.numberOfLeadingZeros(initialCapacity - 1))];
+	}
+	//endregion
+
+	//region - Owner
+	/** Pushes a task at the bottom; owner thread only. */
+	public void push(T value) {
+		Objects.requireNonNull(value, "WorkStealingDeque does not accept null values");
+
+		long b = bottom.value;
+		long t = (long) CURSOR.getAcquire(top);
+		var a = array;
+
+		if (b - t >= a.length) {
+			a = grow(a, t, b);
+		}
+
+		SLOTS.setOpaque(a, (int) b & (a.length - 1), value);
+		CURSOR.setRelease(bottom, b + 1);
+	}
+
+	/** Pops the most recently pushed task, or returns {@code null} if the deque is empty; owner thread only. */
+	public T pop() {
+		long b = bottom.value - 1;
+		var a = array;
+		CURSOR.setOpaque(bottom, b);
+		// bottom must be visible before top is read, or the owner and a thief could both take the last task.
+		VarHandle.fullFence();
+		long t = (long) CURSOR.getOpaque(top);
+
+		if (t > b) {
+			CURSOR.setOpaque(bottom, b + 1);
+			return null;
+		}
+
+		int index = (int) b & (a.length - 1);
+		T value = (T) SLOTS.getOpaque(a, index);
+
+		if (t == b) {
+			// Last task: race the thieves for it through top.
+			boolean won = CURSOR.compareAndSet(top, t, t + 1);
+			CURSOR.setOpaque(bottom, b + 1);
+
+			if (!won) {
+				return null;
+			}
+		}
+
+		SLOTS.setOpaque(a, index, null);
+		return value;
+	}
+	//endregion
+
+	//region - Thieves
+	/**
+	 * Takes the oldest task, or returns {@code null} if the deque looked empty or another thread won the race for the
+	 * task. Callers that need to tell the two apart can check {@link #isEmpty()} and retry.
+	 */
+	public T steal() {
+		long t = (long) CURSOR.getAcquire(top);
+		VarHandle.fullFence();
+		long b = (long) CURSOR.getAcquire(bottom);
+
+		if (t >= b) {
+			return null;
+		}
+
+		var a = (Object[]) ARRAY.getAcquire(this);
+		int index = (int) t & (a.length - 1);
+		T value = (T) SLOTS.getAcquire(a, index);
+
+		if (value == null || !CURSOR.compareAndSet(top, t, t + 1)) {
+			return null;
+		}
+
+		return value;
+	}
+	//endregion
+
+	//region - Utilities
+	public int size() {
+		long t = (long) CURSOR.getAcquire(top);
+		long b = (long) CURSOR.getAcquire(bottom);
+		return (int) Math.max(0, b - t);
+	}
+
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	public int capacity() {
+		return ((Object[]) ARRAY.getAcquire(this)).length;
+	}
+	//endregion
+
+	//region - Private Helpers
+	// Copies the live range into an array twice as large; the old array stays valid for thieves already reading it.
+	private Object[] grow(Object[] old, long t, long b) {
+		if (old.length == 1 << 30) {
+			throw new IllegalStateException("Deque is full");
+		}
+
+		var grown = new Object[old.length * 2];
+
+		for (long i = t; i < b; i++) {
+			grown[(int) i & (grown.length - 1)] = old[(int) i & (old.length - 1)];
+		}
+
+		ARRAY.setRelease(this, grown);
+		return grown;
+	}
+	//endregion
+
+	@Override
+	public String toString() {
+		return "WorkStealingDeque[size=" + size() + "]";
+	}
+
+	//region - Cursor
+	// Padded so the owner's bottom and the thieves' top do not share a cache line.
+	private static final class Cursor {
+		long p01, p02, p03, p04, p05, p06, p07;
+		long value;
+		long p11, p12, p13, p14, p15, p16, p17;
+	}
+	//endregion
+}
@@ -0,0 +1,162 @@
+package data_structures.linked_list;
+
+import data_structures.linked_list.SinglyLinkedList.Node;
+
+/**
+ * Bounded free-list of {@link Node}s so linked structures can recycle nodes instead of allocating one per insert.
+ * A pool is not thread-safe; share one between structures only when they are confined to the same thread, or use
+ * {@link #threadLocal(int)} which hands every thread its own free-list.
+ */
+@SuppressWarnings("unchecked")
+public class NodePool<T> {
+
+	private final int capacity;
+	private Node<T> free;
+	private int pooled;
+
+	private long allocations;
+	private long reuses;
+	private long discards;
+
+	public NodePool(int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("Capacity must be non-negative: " + capacity);
+		}
+
+		this.capacity = capacity;
+	}
+
+	public static <T> NodePool<T> disabled() {
+		return new NodePool<>(0);
+	}
+
+	public static <T> NodePool<T> threadLocal(int capacity) {
+		return (NodePool<T>) new ThreadLocalNodePool(capacity);
+	}
+
+	//region - Pooling
+	public Node<T> acquire(T value, Node<T> next) {
+		var node = free;
+
+		if (node == null) {
+			allocations++;
+			return new Node<>(value, next);
+		}
+
+		free = node.next;
+		pooled--;
+		reuses++;
+
+		node.value = value;
+		node.next = next;
+		return node;
+	}
+
+	public void release(Node<T> node) {
+		node.value = null;
+
+		if (pooled == capacity) {
+			node.next = null;
+			discards++;
+			return;
+		}
+
+		node.next = free;
+		free = node;
+		pooled++;
+	}
+
+	public void trim() {
+		free = null;
+		pooled = 0;
+	}
+	//endregion
+
+	//region - Statistics
+	public int capacity() {
+		return capacity;
+	}
+
+	public int pooled() {
+		return pooled;
+	}
+
+	public long allocations() {
+		return allocations;
+	}
+
+	public long reuses() {
+		return reuses;
+	}
+
+	public long discards() {
+		return discards;
+	}
+
+	public void resetStatistics() {
+		allocations = 0;
+		reuses = 0;
+		discards = 0;
+	}
+	//endregion
+
+	@Override
+	public String toString() {
+		return "NodePool[pooled=" + pooled() + "/" + capacity()
+			+ ", allocations=" + allocations()
+			+ ", reuses=" + reuses()
+			+ ", discards=" + discards() + "]";
+	}
+
+	//region - Thread Local
+	private static final class ThreadLocalNodePool extends NodePool<Object> {
+
+		private final ThreadLocal<NodePool<Object>> local;
+
+		ThreadLocalNodePool(int capacity) {
+			super(capacity);
+			local = ThreadLocal.withInitial(() -> new NodePool<>(capacity));
+		}
+
+		@Override
+		public Node<Object> acquire(Object value, Node<Object> next) {
+			return local.get().acquire(value, next);
+		}
+
+		@Override
+		public void release(Node<Object> node) {
+			local.get().release(node);
+		}
+
+		@Override
+		public void trim() {
+			local.get().trim();
+		}
+
+		@Override
+		public int pooled() {
+			return local.get().pooled();
+		}
+
+		@Override
+		public long allocations() {
+			return local.get().allocations();
+		}
+
+		@Override
+		public long reuses() {
+			return local.get().reuses();
+		}
+
+		@Override
+		public long discards() {
+			return local.get().discards();
+		}
+
+		@Override
+		public void resetStatistics() {
+			local.get().resetStatistics();
+		}
+	}
+	//endregion
+}
@@ -0,0 +1,549 @@
+package data_structures.queue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Optionally bounded linked blocking queue using the two-lock design: producers only take {@code putLock} to append at
+ * the tail and consumers only take {@code takeLock} to unlink at the head, with a dummy head node so the two never
+ * touch the same node while the queue is non-empty. The element count is an {@link AtomicInteger} shared by both sides.
+ * <p>
+ * Wake-ups cascade instead of broadcasting. A producer only crosses to the other lock to signal {@code notEmpty} when
+ * the queue was empty, and a consumer that leaves elements behind signals the next consumer itself, so a burst of
+ * elements wakes waiting consumers one at a time instead of all at once. The same applies to {@code notFull}. Batch
+ * operations take their lock once and cross over at most once.
+ */
+@SuppressWarnings("unused")
+public class BlockingLinkedQueue<T> implements BlockingQueue<T>, Iterable<T> {
+
+	private final int capacity;
+	private final AtomicInteger count = new AtomicInteger();
+
+	private Node<T> head;
+	private Node<T> tail;
+
+	private final ReentrantLock takeLock = new ReentrantLock();
+	private final Condition notEmpty = takeLock.newCondition();
+	private final ReentrantLock putLock = new ReentrantLock();
+	private final Condition notFull = putLock.newCondition();
+
+	//region - Constructors
+	public BlockingLinkedQueue() {
+		this(Integer.MAX_VALUE);
+	}
+
+	public BlockingLinkedQueue(int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+		}
+
+		this.capacity = capacity;
+		head = tail = new Node<>(null);
+	}
+	//endregion
+
+	//region - Queue Operations
+	@Override
+	public void enqueue(T value) {
+		if (!offer(value)) {
+			throw new IllegalStateException("Queue is full");
+		}
+	}
+
+	@Override
+	public T dequeue() {
+		T value = poll();
+
+		if (value == null) {
+			throw new IndexOutOfBoundsException("Queue is empty");
+		}
+
+		return value;
+	}
+
+	@Override
+	public T peek() {
+		takeLock.lock();
+		try {
+			// Reading count first pairs with the producer's increment, which follows its link under putLock.
+			if (count.get() == 0) {
+				throw new IndexOutOfBoundsException("Queue is empty");
+			}
+
+			return head.next.value;
+		} finally {
+			takeLock.unlock();
+		}
+	}
+
+	@Override
+	public boolean offer(T value) {
+		Objects.requireNonNull(value, "BlockingLinkedQueue does not accept null values");
+
+		if (count.get() == capacity) {
+			return false;
+		}
+
+		var node = new Node<>(value);
+		int c;
+
+		putLock.lock();
+		try {
+			if (count.get() == capacity) {
+				return false;
+			}
+
+			link(node, node);
+			c = count.getAndIncrement();
+
+			if (c + 1 < capacity) {
+				notFull.signal();
+			}
+		} finally {
+			putLock.unlock();
+		}
+
+		if (c == 0) {
+			signalNotEmpty();
+		}
+
+		return true;
+	}
+
+	@Override
+	public T poll() {
+		if (count.get() == 0) {
+			return null;
+		}
+
+		T value;
+		int c;
+
+		takeLock.lock();
+		try {
+			if (count.get() == 0) {
+				return null;
+			}
+
+			value = unlinkFirst();
+			c = count.getAndDecrement();
+
+			if (c > 1) {
+				notEmpty.signal();
+			}
+		} finally {
+			takeLock.unlock();
+		}
+
+		if (c == capacity) {
+			signalNotFull();
+		}
+
+		return value;
+	}
+	//endregion
+
+	//region - Blocking Operations
+	@Override
+	public void put(T value) throws InterruptedException {
+		Objects.requireNonNull(value, "BlockingLinkedQueue does not accept null values");
+		var node = new Node<>(value);
+		int c;
+
+		putLock.lockInterruptibly();
+		try {
+			while (count.get() == capacity) {
+				notFull.await();
+			}
+
+			link(node, node);
+			c = count.getAndIncrement();
+
+			if (c + 1 < capacity) {
+				notFull.signal();
+			}
+		} finally {
+			putLock.unlock();
+		}
+
+		if (c == 0) {
+			signalNotEmpty();
+		}
+	}
+
+	@Override
+	public T take() throws InterruptedException {
+		T value;
+		int c;
+
+		takeLock.lockInterruptibly();
+		try {
+			while (count.get() == 0) {
+				notEmpty.await();
+			}
+
+			value = unlinkFirst();
+			c = count.getAndDecrement();
+
+			if (c > 1) {
+				notEmpty.signal();
+			}
+		} finally {
+			takeLock.unlock();
+		}
+
+		if (c == capacity) {
+			signalNotFull();
+		}
+
+		return value;
+	}
+
+	@Override
+	public boolean offer(T value, long timeout, TimeUnit unit) throws InterruptedException {
+		Objects.requireNonNull(value, "BlockingLinkedQueue does not accept null values");
+		long nanos = unit.toNanos(timeout);
+		var node = new Node<>(value);
+		int c;
+
+		putLock.lockInterruptibly();
+		try {
+			while (count.get() == capacity) {
+				if (nanos <= 0) {
+					return false;
+				}
+
+				nanos = notFull.awaitNanos(nanos);
+			}
+
+			link(node, node);
+			c = count.getAndIncrement();
+
+			if (c + 1 < capacity) {
+				notFull.signal();
+			}
+		} finally {
+			putLock.unlock();
+		}
+
+		if (c == 0) {
+			signalNotEmpty();
+		}
+
+		return true;
+	}
+
+	@Override
+	public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+		long nanos = unit.toNanos(timeout);
+		T value;
+		int c;
+
+		takeLock.lockInterruptibly();
+		try {
+			while (count.get() == 0) {
+				if (nanos <= 0) {
+					return null;
+				}
+
+				nanos = notEmpty.awaitNanos(nanos);
+			}
+
+			value = unlinkFirst();
+			c = count.getAndDecrement();
+
+			if (c > 1) {
+				notEmpty.signal();
+			}
+		} finally {
+			takeLock.unlock();
+		}
+
+		if (c == capacity) {
+			signalNotFull();
+		}
+
+		return value;
+	}
+	//endregion
+
+	//region - Batch Operations
+	@Override
+	public int drainTo(Consumer<? super T> consumer, int limit) {
+		Objects.requireNonNull(consumer);
+
+		if (limit <= 0) {
+			return 0;
+		}
+
+		int drained = 0;
+		int c;
+
+		takeLock.lock();
+		try {
+			int n = Math.min(limit, count.get());
+
+			while (drained < n) {
+				consumer.accept(unlinkFirst());
+				drained++;
+			}
+		} finally {
+			// Even if the consumer threw, the elements already unlinked must leave the count.
+			if (drained > 0) {
+				c = count.getAndAdd(-drained);
+
+				if (c > drained) {
+					notEmpty.signal();
+				}
+			} else {
+				c = 0;
+			}
+
+			takeLock.unlock();
+		}
+
+		if (drained > 0 && c == capacity) {
+			signalNotFull();
+		}
+
+		return drained;
+	}
+
+	@Override
+	public int dequeueBatch(T[] dst) {
+		int[] index = {0};
+		return drainTo(value -> dst[index[0]++] = value, dst.length);
+	}
+
+	/** Appends the whole slice under one {@code putLock} acquisition, or nothing if it does not fit. */
+	@Override
+	public void enqueueAll(T[] src, int off, int len) {
+		Objects.checkFromIndexSize(off, len, src.length);
+
+		if (len == 0) {
+			return;
+		}
+
+		var first = new Node<>(Objects.requireNonNull(src[off], "BlockingLinkedQueue does not accept null values"));
+		var last = first;
+
+		for (int i = off + 1; i < off + len; i++) {
+			last.next = new Node<>(Objects.requireNonNull(src[i], "BlockingLinkedQueue does not accept null values"));
+			last = last.next;
+		}
+
+		int c;
+
+		putLock.lock();
+		try {
+			if (len > capacity - count.get()) {
+				throw new IllegalStateException("Queue is full");
+			}
+
+			link(first, last);
+			c = count.getAndAdd(len);
+
+			if (c + len < capacity) {
+				notFull.signal();
+			}
+		} finally {
+			putLock.unlock();
+		}
+
+		if (c == 0) {
+			signalNotEmpty();
+		}
+	}
+	//endregion
+
+	//region - Utilities
+	@Override
+	public int size() {
+		return count.get();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return count.get() == 0;
+	}
+
+	public int capacity() {
+		return capacity;
+	}
+
+	@Override
+	public int remainingCapacity() {
+		return capacity - count.get();
+	}
+
+	@Override
+	public boolean contains(T value) {
+		if (value == null) {
+			return false;
+		}
+
+		fullyLock();
+		try {
+			for (var curr = head.next; curr != null; curr = curr.next) {
+				if (value.equals(curr.value)) {
+					return true;
+				}
+			}
+
+			return false;
+		} finally {
+			fullyUnlock();
+		}
+	}
+
+	@Override
+	public void clear() {
+		fullyLock();
+		try {
+			for (var curr = head.next; curr != null; curr = curr.next) {
+				curr.value = null;
+			}
+
+			head.next = null;
+			tail = head;
+
+			if (count.getAndSet(0) == capacity) {
+				notFull.signal();
+			}
+		} finally {
+			fullyUnlock();
+		}
+	}
+
+	public Object[] toArray() {
+		fullyLock();
+		try {
+			var array = new Object[count.get()];
+			int i = 0;
+
+			for (var curr = head.next; curr != null; curr = curr.next) {
+				array[i++] = curr.value;
+			}
+
+			return array;
+		} finally {
+			fullyUnlock();
+		}
+	}
+	//endregion
+
+	//region - Iterator
+	/** Iterates over a snapshot taken under both locks. */
+	@Override
+	public Iterator<T> iterator() {
+		var snapshot = new ArrayList<T>(count.get());
+
+		fullyLock();
+		try {
+			for (var curr = head.next; curr != null; curr = curr.next) {
+				snapshot.add(curr.value);
+			}
+		} finally {
+			fullyUnlock();
+		}
+
+		var iterator = snapshot.iterator();
+		return new Iterator<>() {
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+
+			@Override
+			public T next() {
+				if (!iterator.hasNext()) {
+					throw new IndexOutOfBoundsException();
+				}
+
+				return iterator.next();
+			}
+		};
+	}
+	//endregion
+
+	//region - Private Helpers
+	// Caller holds putLock.
+	private void link(Node<T> first, Node<T> last) {
+		tail.next = first;
+		tail = last;
+	}
+
+	// Caller holds takeLock and has checked count > 0. The first node becomes the new dummy; the old one is self-linked
+	// so it cannot keep a chain of dead nodes reachable.
+	private T unlinkFirst() {
+		var dummy = head;
+		var first = dummy.next;
+		dummy.next = dummy;
+		head = first;
+		T value = first.value;
+		first.value = null;
+		return value;
+	}
+
+	private void signalNotEmpty() {
+		takeLock.lock();
+		try {
+			notEmpty.signal();
+		} finally {
+			takeLock.unlock();
+		}
+	}
+
+	private void signalNotFull() {
+		putLock.lock();
+		try {
+			notFull.signal();
+		} finally {
+			putLock.unlock();
+		}
+	}
+
+	private void fullyLock() {
+		putLock.lock();
+		takeLock.lock();
+	}
+
+	private void fullyUnlock() {
+		takeLock.unlock();
+		putLock.unlock();
+	}
+	//endregion
+
+	@Override
+	public String toString() {
+		var sb = new StringBuilder("[");
+		var iterator = iterator();
+
+		while (iterator.hasNext()) {
+			sb.append(iterator.next());
+
+			if (iterator.hasNext()) {
+				sb.append(", ");
+			}
+		}
+
+		return sb.append("]").toString();
+	}
+
+	//region - Node
+	private static final class Node<T> {
+		T value;
+		Node<T> next;
+
+		Node(T value) {
+			this.value = value;
+		}
+	}
+	//endregion
+}
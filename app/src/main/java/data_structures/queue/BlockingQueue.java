@@ -0,0 +1,26 @@
+package data_structures.queue;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link Queue} whose producers and consumers can wait for space or elements. The plain {@link Queue} methods never
+ * block: {@code enqueue} throws {@link IllegalStateException} when full and {@code dequeue} throws
+ * {@link IndexOutOfBoundsException} when empty. Null elements are rejected because {@code null} signals an empty or
+ * timed-out {@code poll}.
+ */
+public interface BlockingQueue<T> extends Queue<T> {
+
+    boolean offer(T value);
+
+    T poll();
+
+    void put(T value) throws InterruptedException;
+
+    T take() throws InterruptedException;
+
+    boolean offer(T value, long timeout, TimeUnit unit) throws InterruptedException;
+
+    T poll(long timeout, TimeUnit unit) throws InterruptedException;
+
+    int remainingCapacity();
+}
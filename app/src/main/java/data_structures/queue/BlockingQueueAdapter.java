@@ -0,0 +1,346 @@
+package data_structures.queue;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Adds blocking semantics to any single-threaded {@link Queue}, such as {@link ArrayQueue} or {@link LinkedQueue}, by
+ * guarding it with one {@link ReentrantLock} and two conditions. The delegate must not be touched directly once
+ * wrapped. An optional capacity bounds the wrapper even if the delegate grows.
+ * <p>
+ * Waiters are counted so a producer or consumer only signals when somebody is parked, and each element added or
+ * removed wakes at most one waiter rather than all of them; batch operations take the lock once and issue at most one
+ * signal per moved element.
+ */
+@SuppressWarnings("unused")
+public class BlockingQueueAdapter<T> implements BlockingQueue<T> {
+
+	private final Queue<T> delegate;
+	private final int capacity;
+
+	private final ReentrantLock lock;
+	private final Condition notEmpty;
+	private final Condition notFull;
+	private int takeWaiters;
+	private int putWaiters;
+
+	//region - Constructors
+	public BlockingQueueAdapter(Queue<T> delegate) {
+		this(delegate, Integer.MAX_VALUE, false);
+	}
+
+	public BlockingQueueAdapter(Queue<T> delegate, int capacity) {
+		this(delegate, capacity, false);
+	}
+
+	public BlockingQueueAdapter(Queue<T> delegate, int capacity, boolean fair) {
+		this.delegate = Objects.requireNonNull(delegate);
+
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+		}
+
+		if (delegate.size() > capacity) {
+			throw new IllegalArgumentException("Delegate already holds more than " + capacity + " elements");
+		}
+
+		this.capacity = capacity;
+		lock = new ReentrantLock(fair);
+		notEmpty = lock.newCondition();
+		notFull = lock.newCondition();
+	}
+	//endregion
+
+	//region - Queue Operations
+	@Override
+	public void enqueue(T value) {
+		if (!offer(value)) {
+			throw new IllegalStateException("Queue is full");
+		}
+	}
+
+	@Override
+	public T dequeue() {
+		T value = poll();
+
+		if (value == null) {
+			throw new IndexOutOfBoundsException("Queue is empty");
+		}
+
+		return value;
+	}
+
+	@Override
+	public T peek() {
+		lock.lock();
+		try {
+			return delegate.peek();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public boolean offer(T value) {
+		Objects.requireNonNull(value, "BlockingQueueAdapter does not accept null values");
+
+		lock.lock();
+		try {
+			if (delegate.size() == capacity) {
+				return false;
+			}
+
+			insert(value);
+			return true;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public T poll() {
+		lock.lock();
+		try {
+			return delegate.isEmpty() ? null : extract();
+		} finally {
+			lock.unlock();
+		}
+	}
+	//endregion
+
+	//region - Blocking Operations
+	@Override
+	public void put(T value) throws InterruptedException {
+		Objects.requireNonNull(value, "BlockingQueueAdapter does not accept null values");
+
+		lock.lockInterruptibly();
+		try {
+			while (delegate.size() == capacity) {
+				putWaiters++;
+				try {
+					notFull.await();
+				} finally {
+					putWaiters--;
+				}
+			}
+
+			insert(value);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public T take() throws InterruptedException {
+		lock.lockInterruptibly();
+		try {
+			while (delegate.isEmpty()) {
+				takeWaiters++;
+				try {
+					notEmpty.await();
+				} finally {
+					takeWaiters--;
+				}
+			}
+
+			return extract();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public boolean offer(T value, long timeout, TimeUnit unit) throws InterruptedException {
+		Objects.requireNonNull(value, "BlockingQueueAdapter does not accept null values");
+		long nanos = unit.toNanos(timeout);
+
+		lock.lockInterruptibly();
+		try {
+			while (delegate.size() == capacity) {
+				if (nanos <= 0) {
+					return false;
+				}
+
+				putWaiters++;
+				try {
+					nanos = notFull.awaitNanos(nanos);
+				} finally {
+					putWaiters--;
+				}
+			}
+
+			insert(value);
+			return true;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+		long nanos = unit.toNanos(timeout);
+
+		lock.lockInterruptibly();
+		try {
+			while (delegate.isEmpty()) {
+				if (nanos <= 0) {
+					return null;
+				}
+
+				takeWaiters++;
+				try {
+					nanos = notEmpty.awaitNanos(nanos);
+				} finally {
+					takeWaiters--;
+				}
+			}
+
+			return extract();
+		} finally {
+			lock.unlock();
+		}
+	}
+	//endregion
+
+	//region - Batch Operations
+	@Override
+	public int drainTo(Consumer<? super T> consumer, int limit) {
+		Objects.requireNonNull(consumer);
+
+		lock.lock();
+		try {
+			int drained = 0;
+
+			while (drained < limit && !delegate.isEmpty()) {
+				consumer.accept(delegate.dequeue());
+				drained++;
+			}
+
+			signalNotFull(drained);
+			return drained;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public int dequeueBatch(T[] dst) {
+		lock.lock();
+		try {
+			int count = delegate.dequeueBatch(dst);
+			signalNotFull(count);
+			return count;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/** Adds the whole slice under one lock acquisition, or nothing if it does not fit. */
+	@Override
+	public void enqueueAll(T[] src, int off, int len) {
+		Objects.checkFromIndexSize(off, len, src.length);
+
+		for (int i = off; i < off + len; i++) {
+			Objects.requireNonNull(src[i], "BlockingQueueAdapter does not accept null values");
+		}
+
+		lock.lock();
+		try {
+			if (len > capacity - delegate.size()) {
+				throw new IllegalStateException("Queue is full");
+			}
+
+			delegate.enqueueAll(src, off, len);
+			signalNotEmpty(len);
+		} finally {
+			lock.unlock();
+		}
+	}
+	//endregion
+
+	//region - Utilities
+	@Override
+	public int size() {
+		lock.lock();
+		try {
+			return delegate.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	public int capacity() {
+		return capacity;
+	}
+
+	@Override
+	public int remainingCapacity() {
+		return capacity - size();
+	}
+
+	@Override
+	public boolean contains(T value) {
+		lock.lock();
+		try {
+			return delegate.contains(value);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void clear() {
+		lock.lock();
+		try {
+			int removed = delegate.size();
+			delegate.clear();
+			signalNotFull(removed);
+		} finally {
+			lock.unlock();
+		}
+	}
+	//endregion
+
+	//region - Private Helpers
+	private void insert(T value) {
+		delegate.enqueue(value);
+		signalNotEmpty(1);
+	}
+
+	private T extract() {
+		T value = delegate.dequeue();
+		signalNotFull(1);
+		return value;
+	}
+
+	private void signalNotEmpty(int added) {
+		for (int i = Math.min(added, takeWaiters); i > 0; i--) {
+			notEmpty.signal();
+		}
+	}
+
+	private void signalNotFull(int removed) {
+		for (int i = Math.min(removed, putWaiters); i > 0; i--) {
+			notFull.signal();
+		}
+	}
+	//endregion
+
+	@Override
+	public String toString() {
+		lock.lock();
+		try {
+			return delegate.toString();
+		} finally {
+			lock.unlock();
+		}
+	}
+}
@@ -0,0 +1,314 @@
+package data_structures.queue;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Wraps any {@link Queue} with a hash index of its elements so {@link #contains(Object)} is O(1) expected instead of a
+ * scan. A {@link #counting(Queue)} queue keeps a count per distinct element and allows duplicates; a
+ * {@link #unique(Queue)} queue refuses an element that is already queued, which turns the usual
+ * contains-then-enqueue dedup into a single {@link #enqueueIfAbsent(Object)}.
+ * <p>
+ * The index is an open-addressing table with linear probing and backward-shift deletion, kept at most half full, so
+ * there is no node per element and counts are not boxed. {@link #indexBytes()} reports its footprint. The delegate
+ * must not be touched directly once wrapped. Not thread-safe.
+ */
+@SuppressWarnings("unused")
+public class HashIndexedQueue<T> implements Queue<T> {
+
+	private static final int INITIAL_TABLE_SIZE = 16;
+	private static final int ARRAY_HEADER_BYTES = 16;
+
+	private final Queue<T> delegate;
+	private final boolean unique;
+	private Object[] keys;
+	private int[] counts;
+	private int shift;
+	private int distinct;
+
+	//region - Constructors
+	private HashIndexedQueue(Queue<T> delegate, boolean unique) {
+		this.delegate = Objects.requireNonNull(delegate);
+		this.unique = unique;
+		allocate(INITIAL_TABLE_SIZE);
+
+		// Rotates the existing elements through once so any Queue can be indexed without an iterator.
+		T duplicate = null;
+
+		for (int i = delegate.size(); i > 0; i--) {
+			T value = delegate.dequeue();
+
+			if (!index(value) && unique && duplicate == null) {
+				duplicate = value;
+			}
+
+			delegate.enqueue(value);
+		}
+
+		if (duplicate != null) {
+			throw new IllegalArgumentException("Delegate holds duplicate element: " + duplicate);
+		}
+	}
+
+	/** Index that allows duplicates and counts how often each element is queued. */
+	public static <T> HashIndexedQueue<T> counting(Queue<T> delegate) {
+		return new HashIndexedQueue<>(delegate, false);
+	}
+
+	/** Index that rejects an element equal to one already queued. */
+	public static <T> HashIndexedQueue<T> unique(Queue<T> delegate) {
+		return new HashIndexedQueue<>(delegate, true);
+	}
+	//endregion
+
+	//region - Queue Operations
+	@Override
+	public void enqueue(T value) {
+		if (!enqueueIfAbsent(value) && unique) {
+			throw new IllegalArgumentException("Element is already queued: " + value);
+		}
+	}
+
+	/**
+	 * Enqueues {@code value} unless an equal element is queued and the queue is unique. A counting queue always
+	 * enqueues and returns whether the element was new.
+	 */
+	public boolean enqueueIfAbsent(T value) {
+		Objects.requireNonNull(value, "HashIndexedQueue does not accept null values");
+
+		if (unique && keys[find(value)] != null) {
+			return false;
+		}
+
+		// Indexed only once the delegate has taken it, so a full bounded delegate leaves the index untouched.
+		delegate.enqueue(value);
+		return index(value);
+	}
+
+	@Override
+	public T dequeue() {
+		T value = delegate.dequeue();
+		unindex(value);
+		return value;
+	}
+
+	@Override
+	public T peek() {
+		return delegate.peek();
+	}
+	//endregion
+
+	//region - Batch Operations
+	@Override
+	public int drainTo(Consumer<? super T> consumer, int limit) {
+		Objects.requireNonNull(consumer);
+		return delegate.drainTo(value -> {
+			unindex(value);
+			consumer.accept(value);
+		}, limit);
+	}
+
+	@Override
+	public int dequeueBatch(T[] dst) {
+		int count = delegate.dequeueBatch(dst);
+
+		for (int i = 0; i < count; i++) {
+			unindex(dst[i]);
+		}
+
+		return count;
+	}
+
+	/** In a unique queue the whole slice is rejected if any element is already queued or repeats within it. */
+	@Override
+	public void enqueueAll(T[] src, int off, int len) {
+		Objects.checkFromIndexSize(off, len, src.length);
+
+		for (int i = off; i < off + len; i++) {
+			Objects.requireNonNull(src[i], "HashIndexedQueue does not accept null values");
+
+			if (!index(src[i]) && unique) {
+				for (int j = off; j < i; j++) {
+					unindex(src[j]);
+				}
+
+				throw new IllegalArgumentException("Element is already queued: " + src[i]);
+			}
+		}
+
+		int before = delegate.size();
+
+		try {
+			delegate.enqueueAll(src, off, len);
+		} catch (RuntimeException e) {
+			// A delegate that fills up part-way has still taken a prefix of the slice; only the rest is unindexed.
+			for (int i = off + delegate.size() - before; i < off + len; i++) {
+				unindex(src[i]);
+			}
+
+			throw e;
+		}
+	}
+	//endregion
+
+	//region - Utilities
+	@Override
+	public int size() {
+		return delegate.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return delegate.isEmpty();
+	}
+
+	@Override
+	public boolean contains(T value) {
+		return value != null && keys[find(value)] != null;
+	}
+
+	/** Number of queued elements equal to {@code value}; at most 1 in a unique queue. */
+	public int count(T value) {
+		if (value == null) {
+			return 0;
+		}
+
+		int slot = find(value);
+		return keys[slot] == null ? 0 : unique ? 1 : counts[slot];
+	}
+
+	public int distinctCount() {
+		return distinct;
+	}
+
+	public boolean isUnique() {
+		return unique;
+	}
+
+	/**
+	 * Bytes held by the index arrays, assuming 4-byte compressed references; the elements themselves are shared with
+	 * the delegate and not counted.
+	 */
+	public long indexBytes() {
+		int arrays = counts == null ? 1 : 2;
+		return (long) arrays * ARRAY_HEADER_BYTES + (long) arrays * Integer.BYTES * keys.length;
+	}
+
+	@Override
+	public void clear() {
+		delegate.clear();
+		allocate(INITIAL_TABLE_SIZE);
+	}
+	//endregion
+
+	//region - Private Helpers
+	// Returns false if the element was already present.
+	private boolean index(T value) {
+		int slot = find(value);
+
+		if (keys[slot] != null) {
+			if (!unique) {
+				counts[slot]++;
+			}
+
+			return false;
+		}
+
+		keys[slot] = value;
+
+		if (!unique) {
+			counts[slot] = 1;
+		}
+
+		if (++distinct > keys.length >>> 1) {
+			rehash(keys.length * 2);
+		}
+
+		return true;
+	}
+
+	private void unindex(T value) {
+		int slot = find(value);
+
+		if (keys[slot] == null) {
+			return;
+		}
+
+		if (!unique && --counts[slot] > 0) {
+			return;
+		}
+
+		distinct--;
+		int mask = keys.length - 1;
+
+		// Backward-shift deletion: pull later entries of the probe run into the hole so lookups need no tombstones.
+		for (int next = (slot + 1) & mask; keys[next] != null; next = (next + 1) & mask) {
+			int home = home(keys[next]);
+
+			if (((next - home) & mask) >= ((next - slot) & mask)) {
+				keys[slot] = keys[next];
+
+				if (!unique) {
+					counts[slot] = counts[next];
+				}
+
+				slot = next;
+			}
+		}
+
+		keys[slot] = null;
+	}
+
+	// Slot holding value, or the empty slot where it would go.
+	private int find(Object value) {
+		int mask = keys.length - 1;
+		int slot = home(value);
+
+		while (keys[slot] != null && !keys[slot].equals(value)) {
+			slot = (slot + 1) & mask;
+		}
+
+		return slot;
+	}
+
+	// Fibonacci hashing spreads poor hashCodes over the high bits that the shift keeps.
+	private int home(Object value) {
+		return (value.hashCode() * 0x9E3779B9) >>> shift;
+	}
+
+	private void rehash(int tableSize) {
+		if (tableSize <= 0) {
+			throw new IllegalStateException("Queue is full");
+		}
+
+		var oldKeys = keys;
+		var oldCounts = counts;
+		allocate(tableSize);
+
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldKeys[i] != null) {
+				int slot = find(oldKeys[i]);
+				keys[slot] = oldKeys[i];
+
+				if (!unique) {
+					counts[slot] = oldCounts[i];
+				}
+
+				distinct++;
+			}
+		}
+	}
+
+	private void allocate(int tableSize) {
+		keys = new Object[tableSize];
+		counts = unique ? null : new int[tableSize];
+		shift = 32 - Integer.numberOfTrailingZeros(tableSize);
+		distinct = 0;
+	}
+	//endregion
+
+	@Override
+	public String toString() {
+		return delegate.toString();
+	}
+}
@@ -0,0 +1,307 @@
+package data_structures.queue;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Objects;
+
+/**
+ * d-ary min-heap like {@link PriorityQueue} whose {@link #insert(Object)} returns a {@link Handle} for the element.
+ * Each handle records its current heap slot, updated on every move, so {@link #decreaseKey(Handle, Object)},
+ * {@link #update(Handle, Object)} and {@link #remove(Handle)} find the element in O(1) and restore the heap in
+ * O(log n) without searching. A handle becomes invalid once its element leaves the queue.
+ * <p>
+ * Iteration and {@link #toArray()} follow heap order, not priority order. Null elements are rejected.
+ */
+@SuppressWarnings({"unchecked", "rawtypes", "unused"})
+public class IndexedPriorityQueue<T> implements Queue<T>, Iterable<T> {
+
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private final Comparator<? super T> comparator;
+	private final int arity;
+	private Handle<T>[] heap;
+	private int size;
+
+	//region - Constructors
+	public IndexedPriorityQueue(Comparator<? super T> comparator) {
+		this(PriorityQueue.DEFAULT_ARITY, comparator);
+	}
+
+	public IndexedPriorityQueue(int arity, Comparator<? super T> comparator) {
+		if (arity < 2) {
+			throw new IllegalArgumentException("Arity must be at least 2: " + arity);
+		}
+
+		this.comparator = Objects.requireNonNull(comparator);
+		this.arity = arity;
+		heap = new Handle[DEFAULT_CAPACITY];
+	}
+
+	public static <T extends Comparable<? super T>> IndexedPriorityQueue<T> naturalOrder() {
+		return new IndexedPriorityQueue<>(Comparator.naturalOrder());
+	}
+	//endregion
+
+	//region - Queue Operations
+	public Handle<T> insert(T value) {
+		Objects.requireNonNull(value, "IndexedPriorityQueue does not accept null values");
+
+		if (size == heap.length) {
+			heap = Arrays.copyOf(heap, heap.length * 2);
+		}
+
+		var handle = new Handle<>(this, value);
+		siftUp(size++, handle);
+		return handle;
+	}
+
+	@Override
+	public void enqueue(T value) {
+		insert(value);
+	}
+
+	@Override
+	public T dequeue() {
+		return pollHandle().value;
+	}
+
+	/** Removes the smallest element and returns its (now invalid) handle. */
+	public Handle<T> pollHandle() {
+		if (size == 0) {
+			throw new IndexOutOfBoundsException("Queue is empty");
+		}
+
+		var top = heap[0];
+		removeAt(0);
+		return top;
+	}
+
+	@Override
+	public T peek() {
+		if (size == 0) {
+			throw new IndexOutOfBoundsException("Queue is empty");
+		}
+
+		return heap[0].value;
+	}
+	//endregion
+
+	//region - Handle Operations
+	/** Replaces the handle's element with one that does not compare greater and sifts it up. */
+	public void decreaseKey(Handle<T> handle, T value) {
+		checkHandle(handle);
+		Objects.requireNonNull(value, "IndexedPriorityQueue does not accept null values");
+
+		if (comparator.compare(value, handle.value) > 0) {
+			throw new IllegalArgumentException("New key is greater than current key");
+		}
+
+		handle.value = value;
+		siftUp(handle.index, handle);
+	}
+
+	/** Replaces the handle's element and moves it in whichever direction the new key requires. */
+	public void update(Handle<T> handle, T value) {
+		checkHandle(handle);
+		Objects.requireNonNull(value, "IndexedPriorityQueue does not accept null values");
+
+		int direction = comparator.compare(value, handle.value);
+		handle.value = value;
+
+		if (direction < 0) {
+			siftUp(handle.index, handle);
+		} else if (direction > 0) {
+			siftDown(handle.index, handle);
+		}
+	}
+
+	public T remove(Handle<T> handle) {
+		checkHandle(handle);
+		removeAt(handle.index);
+		return handle.value;
+	}
+
+	public boolean containsHandle(Handle<T> handle) {
+		return handle != null && handle.owner == this && handle.index >= 0;
+	}
+	//endregion
+
+	//region - Utilities
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public int arity() {
+		return arity;
+	}
+
+	@Override
+	public boolean contains(T value) {
+		if (value == null) {
+			return false;
+		}
+
+		for (int i = 0; i < size; i++) {
+			if (value.equals(heap[i].value)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	@Override
+	public void clear() {
+		for (int i = 0; i < size; i++) {
+			heap[i].index = -1;
+			heap[i] = null;
+		}
+
+		size = 0;
+	}
+
+	public Object[] toArray() {
+		var array = new Object[size];
+
+		for (int i = 0; i < size; i++) {
+			array[i] = heap[i].value;
+		}
+
+		return array;
+	}
+	//endregion
+
+	//region - Iterator
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<>() {
+			private int index;
+
+			@Override
+			public boolean hasNext() {
+				return index < size;
+			}
+
+			@Override
+			public T next() {
+				if (index >= size) {
+					throw new IndexOutOfBoundsException();
+				}
+
+				return heap[index++].value;
+			}
+		};
+	}
+	//endregion
+
+	//region - Private Helpers
+	private void checkHandle(Handle<T> handle) {
+		if (!containsHandle(handle)) {
+			throw new IllegalArgumentException("Handle is not in this queue");
+		}
+	}
+
+	private void removeAt(int index) {
+		var removed = heap[index];
+		var last = heap[--size];
+		heap[size] = null;
+		removed.index = -1;
+
+		if (index < size) {
+			siftDown(index, last);
+
+			if (last.index == index) {
+				siftUp(index, last);
+			}
+		}
+	}
+
+	private void siftUp(int index, Handle<T> handle) {
+		while (index > 0) {
+			int parent = (index - 1) / arity;
+			var parentHandle = heap[parent];
+
+			if (comparator.compare(handle.value, parentHandle.value) >= 0) {
+				break;
+			}
+
+			place(index, parentHandle);
+			index = parent;
+		}
+
+		place(index, handle);
+	}
+
+	private void siftDown(int index, Handle<T> handle) {
+		while (true) {
+			int first = arity * index + 1;
+
+			if (first >= size) {
+				break;
+			}
+
+			int smallest = first;
+			int end = Math.min(first + arity, size);
+
+			for (int child = first + 1; child < end; child++) {
+				if (comparator.compare(heap[child].value, heap[smallest].value) < 0) {
+					smallest = child;
+				}
+			}
+
+			if (comparator.compare(heap[smallest].value, handle.value) >= 0) {
+				break;
+			}
+
+			place(index, heap[smallest]);
+			index = smallest;
+		}
+
+		place(index, handle);
+	}
+
+	private void place(int index, Handle<T> handle) {
+		heap[index] = handle;
+		handle.index = index;
+	}
+	//endregion
+
+	@Override
+	public String toString() {
+		return Arrays.toString(toArray());
+	}
+
+	//region - Handle
+	/** Reference to one element of one queue; valid until the element is dequeued, removed or cleared. */
+	public static final class Handle<T> {
+		private final IndexedPriorityQueue<T> owner;
+		private T value;
+		private int index = -1;
+
+		private Handle(IndexedPriorityQueue<T> owner, T value) {
+			this.owner = owner;
+			this.value = value;
+		}
+
+		public T value() {
+			return value;
+		}
+
+		public boolean isValid() {
+			return index >= 0;
+		}
+
+		@Override
+		public String toString() {
+			return "Handle[" + value + "]";
+		}
+	}
+	//endregion
+}
@@ -0,0 +1,215 @@
+package data_structures.queue;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Indexed 4-ary min-heap of {@code int} ids in {@code [0, maxId)} keyed by {@code long} priorities, for Dijkstra and
+ * Prim style searches. Priorities and ids live in parallel primitive arrays and a position index maps each id to its
+ * heap slot, so {@link #decreaseKey(int, long)} is O(log n) and nothing is boxed. Every array is sized to
+ * {@code maxId} up front, so no operation allocates.
+ * <p>
+ * {@link RadixIntPriorityQueue} has the same API and is faster when popped priorities never decrease.
+ */
+@SuppressWarnings("unused")
+public class IntPriorityQueue {
+
+	private static final int ARITY = 4;
+
+	private final long[] priorities;
+	private final int[] ids;
+	private final int[] positions;
+	private int size;
+
+	//region - Constructors
+	public IntPriorityQueue(int maxId) {
+		if (maxId < 0) {
+			throw new IllegalArgumentException("Max id must not be negative: " + maxId);
+		}
+
+		priorities = new long[maxId];
+		ids = new int[maxId];
+		positions = new int[maxId];
+		Arrays.fill(positions, -1);
+	}
+	//endregion
+
+	//region - Queue Operations
+	public void push(int id, long priority) {
+		if (contains(id)) {
+			throw new IllegalArgumentException("Id is already queued: " + id);
+		}
+
+		siftUp(size++, id, priority);
+	}
+
+	/** Inserts {@code id} or lowers its priority; returns {@code false} if it was already queued at or below it. */
+	public boolean pushOrDecrease(int id, long priority) {
+		int position = positions[Objects.checkIndex(id, positions.length)];
+
+		if (position < 0) {
+			siftUp(size++, id, priority);
+			return true;
+		}
+
+		if (priority >= priorities[position]) {
+			return false;
+		}
+
+		siftUp(position, id, priority);
+		return true;
+	}
+
+	public int pop() {
+		int id = peek();
+		removeAt(0);
+		return id;
+	}
+
+	public int peek() {
+		if (size == 0) {
+			throw new IndexOutOfBoundsException("Queue is empty");
+		}
+
+		return ids[0];
+	}
+
+	public long peekPriority() {
+		if (size == 0) {
+			throw new IndexOutOfBoundsException("Queue is empty");
+		}
+
+		return priorities[0];
+	}
+
+	public void decreaseKey(int id, long priority) {
+		int position = positionOf(id);
+
+		if (priority > priorities[position]) {
+			throw new IllegalArgumentException("New priority " + priority + " is greater than " + priorities[position]);
+		}
+
+		siftUp(position, id, priority);
+	}
+
+	public boolean remove(int id) {
+		if (!contains(id)) {
+			return false;
+		}
+
+		removeAt(positions[id]);
+		return true;
+	}
+	//endregion
+
+	//region - Utilities
+	public boolean contains(int id) {
+		return positions[Objects.checkIndex(id, positions.length)] >= 0;
+	}
+
+	public long priorityOf(int id) {
+		return priorities[positionOf(id)];
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public int maxId() {
+		return positions.length;
+	}
+
+	public void clear() {
+		for (int i = 0; i < size; i++) {
+			positions[ids[i]] = -1;
+		}
+
+		size = 0;
+	}
+	//endregion
+
+	//region - Private Helpers
+	private int positionOf(int id) {
+		int position = positions[Objects.checkIndex(id, positions.length)];
+
+		if (position < 0) {
+			throw new IllegalArgumentException("Id is not queued: " + id);
+		}
+
+		return position;
+	}
+
+	private void removeAt(int index) {
+		positions[ids[index]] = -1;
+		int last = --size;
+
+		if (index < last) {
+			int id = ids[last];
+			long priority = priorities[last];
+			siftDown(index, id, priority);
+
+			if (positions[id] == index) {
+				siftUp(index, id, priority);
+			}
+		}
+	}
+
+	private void siftUp(int index, int id, long priority) {
+		while (index > 0) {
+			int parent = (index - 1) / ARITY;
+
+			if (priority >= priorities[parent]) {
+				break;
+			}
+
+			place(index, ids[parent], priorities[parent]);
+			index = parent;
+		}
+
+		place(index, id, priority);
+	}
+
+	private void siftDown(int index, int id, long priority) {
+		while (true) {
+			int first = ARITY * index + 1;
+
+			if (first >= size) {
+				break;
+			}
+
+			int smallest = first;
+			int end = Math.min(first + ARITY, size);
+
+			for (int child = first + 1; child < end; child++) {
+				if (priorities[child] < priorities[smallest]) {
+					smallest = child;
+				}
+			}
+
+			if (priorities[smallest] >= priority) {
+				break;
+			}
+
+			place(index, ids[smallest], priorities[smallest]);
+			index = smallest;
+		}
+
+		place(index, id, priority);
+	}
+
+	private void place(int index, int id, long priority) {
+		ids[index] = id;
+		priorities[index] = priority;
+		positions[id] = index;
+	}
+	//endregion
+
+	@Override
+	public String toString() {
+		return "IntPriorityQueue[size=" + size + ", maxId=" + maxId() + "]";
+	}
+}
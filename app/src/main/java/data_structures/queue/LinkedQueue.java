@@ -1,45 +1,166 @@
 package data_structures.queue;
 
 import java.util.Iterator;
+import java.util.Objects;
+
+import data_structures.linked_list.NodePool;
+import data_structures.linked_list.SinglyLinkedList.Node;
 
 @SuppressWarnings({ "NullableProblems", "ConstantConditions", "ReturnOfNull", "unused" })
-public class LinkedQueue<T> implements Iterable<T> {
+public class LinkedQueue<T> implements Queue<T>, Iterable<T> {
+
+	private final NodePool<T> pool;
+	private Node<T> head;
+	private Node<T> tail;
+	private int size;
+
+	//region - Constructors
+	public LinkedQueue() {
+		this(NodePool.disabled());
+	}
+
+	public LinkedQueue(int poolCapacity) {
+		this(new NodePool<>(poolCapacity));
+	}
+
+	public LinkedQueue(NodePool<T> pool) {
+		this.pool = Objects.requireNonNull(pool);
+	}
+	//endregion
 
+	//region - Queue Operations
+	@Override
 	public void enqueue(T value) {
-		throw new UnsupportedOperationException("Not implemented");
+		var node = pool.acquire(value, null);
+
+		if (tail == null) {
+			head = node;
+		} else {
+			tail.next = node;
+		}
+
+		tail = node;
+		size++;
 	}
 
+	@Override
 	public T dequeue() {
-		throw new UnsupportedOperationException("Not implemented");
+		if (isEmpty()) {
+			throw new IndexOutOfBoundsException("Queue is empty");
+		}
+
+		var oldHead = head;
+		T value = oldHead.value;
+
+		head = oldHead.next;
+		if (head == null) {
+			tail = null;
+		}
+
+		size--;
+		pool.release(oldHead);
+
+		return value;
 	}
 
+	@Override
 	public T peek() {
-		throw new UnsupportedOperationException("Not implemented");
+		if (isEmpty()) {
+			throw new IndexOutOfBoundsException("Queue is empty");
+		}
+
+		return head.value;
 	}
+	//endregion
 
+	//region - Utilities
+	@Override
 	public int size() {
-		throw new UnsupportedOperationException("Not implemented");
+		return size;
 	}
 
+	@Override
 	public boolean isEmpty() {
-		throw new UnsupportedOperationException("Not implemented");
+		return size == 0;
 	}
 
+	@Override
 	public boolean contains(T value) {
-		throw new UnsupportedOperationException("Not implemented");
+		for (var curr = head; curr != null; curr = curr.next) {
+			if (Objects.equals(curr.value, value)) {
+				return true;
+			}
+		}
+
+		return false;
 	}
 
 	@Override
-	public Iterator<T> iterator() {
-		throw new UnsupportedOperationException("Not implemented");
+	public void clear() {
+		while (head != null) {
+			var oldHead = head;
+			head = oldHead.next;
+			pool.release(oldHead);
+		}
+
+		tail = null;
+		size = 0;
 	}
 
 	public Object[] toArray() {
-		throw new UnsupportedOperationException("Not implemented");
+		var array = new Object[size];
+		var curr = head;
+
+		for (int i = 0; i < size; i++) {
+			array[i] = curr.value;
+			curr = curr.next;
+		}
+
+		return array;
 	}
 
+	public NodePool<T> pool() {
+		return pool;
+	}
+	//endregion
+
+	//region - Iterator
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<>() {
+			private Node<T> curr = head;
+
+			@Override
+			public boolean hasNext() {
+				return curr != null;
+			}
+
+			@Override
+			public T next() {
+				if (curr == null) {
+					throw new IndexOutOfBoundsException();
+				}
+
+				T value = curr.value;
+				curr = curr.next;
+				return value;
+			}
+		};
+	}
+	//endregion
+
 	@Override
 	public String toString() {
-		throw new UnsupportedOperationException("Not implemented");
+		var sb = new StringBuilder("[");
+
+		for (var curr = head; curr != null; curr = curr.next) {
+			sb.append(curr.value);
+
+			if (curr.next != null) {
+				sb.append(", ");
+			}
+		}
+
+		return sb.append("]").toString();
 	}
 }
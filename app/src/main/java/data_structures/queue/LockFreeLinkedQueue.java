@@ -0,0 +1,307 @@
+package data_structures.queue;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Unbounded non-blocking FIFO after Michael and Scott. The list always starts with a dummy node; producers CAS a new
+ * node onto the last node's {@code next} and then try to swing {@code tail}, consumers CAS {@code head} forward. A
+ * thread that finds {@code tail} lagging behind helps advance it before retrying, so no thread ever waits on another.
+ * <p>
+ * {@link #size()}, {@link #contains(Object)}, {@link #toArray()} and the iterator walk the live list and are weakly
+ * consistent: they never throw because of concurrent updates and reflect some state at or after their start. Null
+ * elements are rejected because {@code null} marks a node whose element has already been taken.
+ */
+@SuppressWarnings({"unchecked", "unused"})
+public class LockFreeLinkedQueue<T> implements Queue<T>, Iterable<T> {
+
+	private static final VarHandle HEAD;
+	private static final VarHandle TAIL;
+	private static final VarHandle NEXT;
+
+	static {
+		try {
+			var lookup = MethodHandles.lookup();
+			HEAD = lookup.findVarHandle(LockFreeLinkedQueue.class, "head", Node.class);
+			TAIL = lookup.findVarHandle(LockFreeLinkedQueue.class, "tail", Node.class);
+			NEXT = lookup.findVarHandle(Node.class, "next", Node.class);
+		} catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	private volatile Node<T> head;
+	private volatile Node<T> tail;
+
+	public LockFreeLinkedQueue() {
+		head = new Node<>(null);
+		tail = head;
+	}
+
+	//region - Queue Operations
+	@Override
+	public void enqueue(T value) {
+		Objects.requireNonNull(value, "LockFreeLinkedQueue does not accept null values");
+		var node = new Node<>(value);
+
+		while (true) {
+			var last = tail;
+			var next = last.next;
+
+			if (last != tail) {
+				continue;
+			}
+
+			if (next == null) {
+				if (NEXT.compareAndSet(last, null, node)) {
+					TAIL.compareAndSet(this, last, node);
+					return;
+				}
+			} else {
+				TAIL.compareAndSet(this, last, next);
+			}
+		}
+	}
+
+	// Links a pre-built chain with one CAS; tail may then lag several nodes, which the helping in enqueue/poll absorbs.
+	@Override
+	public void enqueueAll(T[] src, int off, int len) {
+		Objects.checkFromIndexSize(off, len, src.length);
+
+		if (len == 0) {
+			return;
+		}
+
+		var first = new Node<>(Objects.requireNonNull(src[off], "LockFreeLinkedQueue does not accept null values"));
+		var chainEnd = first;
+
+		for (int i = off + 1; i < off + len; i++) {
+			var node = new Node<>(Objects.requireNonNull(src[i], "LockFreeLinkedQueue does not accept null values"));
+			chainEnd.next = node;
+			chainEnd = node;
+		}
+
+		while (true) {
+			var last = tail;
+			var next = last.next;
+
+			if (last != tail) {
+				continue;
+			}
+
+			if (next == null) {
+				if (NEXT.compareAndSet(last, null, first)) {
+					TAIL.compareAndSet(this, last, chainEnd);
+					return;
+				}
+			} else {
+				TAIL.compareAndSet(this, last, next);
+			}
+		}
+	}
+
+	public T poll() {
+		while (true) {
+			var first = head;
+			var last = tail;
+			var next = first.next;
+
+			if (first != head) {
+				continue;
+			}
+
+			if (next == null) {
+				return null;
+			}
+
+			if (first == last) {
+				TAIL.compareAndSet(this, last, next);
+				continue;
+			}
+
+			T value = next.value;
+
+			if (HEAD.compareAndSet(this, first, next)) {
+				next.value = null;
+				return value;
+			}
+		}
+	}
+
+	@Override
+	public T dequeue() {
+		T value = poll();
+
+		if (value == null) {
+			throw new IndexOutOfBoundsException("Queue is empty");
+		}
+
+		return value;
+	}
+
+	@Override
+	public int drainTo(Consumer<? super T> consumer, int limit) {
+		Objects.requireNonNull(consumer);
+		int drained = 0;
+		T value;
+
+		while (drained < limit && (value = poll()) != null) {
+			consumer.accept(value);
+			drained++;
+		}
+
+		return drained;
+	}
+
+	@Override
+	public int dequeueBatch(T[] dst) {
+		int count = 0;
+		T value;
+
+		while (count < dst.length && (value = poll()) != null) {
+			dst[count++] = value;
+		}
+
+		return count;
+	}
+
+	@Override
+	public T peek() {
+		while (true) {
+			var first = head;
+			var next = first.next;
+
+			if (next == null) {
+				throw new IndexOutOfBoundsException("Queue is empty");
+			}
+
+			T value = next.value;
+
+			if (value != null && first == head) {
+				return value;
+			}
+		}
+	}
+	//endregion
+
+	//region - Utilities
+	@Override
+	public int size() {
+		int size = 0;
+
+		for (var curr = head.next; curr != null && size < Integer.MAX_VALUE; curr = curr.next) {
+			if (curr.value != null) {
+				size++;
+			}
+		}
+
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return head.next == null;
+	}
+
+	@Override
+	public boolean contains(T value) {
+		if (value == null) {
+			return false;
+		}
+
+		for (var curr = head.next; curr != null; curr = curr.next) {
+			if (value.equals(curr.value)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	@Override
+	public void clear() {
+		while (poll() != null) {
+			// discard
+		}
+	}
+
+	public Object[] toArray() {
+		var snapshot = new ArrayList<>();
+
+		for (T value : this) {
+			snapshot.add(value);
+		}
+
+		return snapshot.toArray();
+	}
+	//endregion
+
+	//region - Iterator
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<>() {
+			private Node<T> node = head;
+			private T nextValue = advance();
+
+			private T advance() {
+				for (node = node.next; node != null; node = node.next) {
+					T value = node.value;
+
+					if (value != null) {
+						return value;
+					}
+				}
+
+				return null;
+			}
+
+			@Override
+			public boolean hasNext() {
+				return nextValue != null;
+			}
+
+			@Override
+			public T next() {
+				if (nextValue == null) {
+					throw new IndexOutOfBoundsException();
+				}
+
+				T value = nextValue;
+				nextValue = advance();
+				return value;
+			}
+		};
+	}
+	//endregion
+
+	@Override
+	public String toString() {
+		var sb = new StringBuilder("[");
+		var iterator = iterator();
+
+		while (iterator.hasNext()) {
+			sb.append(iterator.next());
+
+			if (iterator.hasNext()) {
+				sb.append(", ");
+			}
+		}
+
+		return sb.append("]").toString();
+	}
+
+	//region - Node
+	private static final class Node<T> {
+		volatile T value;
+		volatile Node<T> next;
+
+		Node(T value) {
+			this.value = value;
+		}
+	}
+	//endregion
+}
@@ -0,0 +1,171 @@
+package data_structures.queue;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Primitive {@code long} counterpart of {@link ArrayQueue}; nothing is boxed on enqueue or dequeue. The backing
+ * array is always a power of two, so slots are found by masking rather than modulo. By default the buffer doubles
+ * when full and its capacity is the array length; an {@link #overwriting(int)} buffer keeps exactly the capacity it
+ * was given and drops the oldest element instead, which suits rolling windows of recent samples.
+ */
+@SuppressWarnings("unused")
+public class LongRingBuffer {
+
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private final boolean overwrite;
+	private long[] elements;
+	private int mask;
+	private int capacity;
+	private int front;
+	private int size;
+	private long overwritten;
+
+	//region - Constructors
+	public LongRingBuffer() {
+		this(DEFAULT_CAPACITY, false);
+	}
+
+	public LongRingBuffer(int initialCapacity) {
+		this(initialCapacity, false);
+	}
+
+	private LongRingBuffer(int requestedCapacity, boolean overwrite) {
+		if (requestedCapacity <= 0 || requestedCapacity > 1 << 30) {
+			throw new IllegalArgumentException("Capacity must be in [1, 2^30]: " + requestedCapacity);
+		}
+
+		int length = 1 << (32 - Integer.numberOfLeadingZeros(requestedCapacity - 1));
+		elements = new long[length];
+		mask = length - 1;
+		capacity = overwrite ? requestedCapacity : length;
+		this.overwrite = overwrite;
+	}
+
+	/** Fixed-capacity buffer that evicts the oldest element when a new one arrives while full. */
+	public static LongRingBuffer overwriting(int capacity) {
+		return new LongRingBuffer(capacity, true);
+	}
+	//endregion
+
+	//region - Queue Operations
+	public void enqueue(long value) {
+		if (size == capacity) {
+			if (overwrite) {
+				elements[(front + size) & mask] = value;
+				front = (front + 1) & mask;
+				overwritten++;
+				return;
+			}
+
+			resize(elements.length * 2);
+		}
+
+		elements[(front + size) & mask] = value;
+		size++;
+	}
+
+	public long dequeue() {
+		if (size == 0) {
+			throw new IndexOutOfBoundsException("Queue is empty");
+		}
+
+		long value = elements[front];
+		front = (front + 1) & mask;
+		size--;
+		return value;
+	}
+
+	public long peek() {
+		if (size == 0) {
+			throw new IndexOutOfBoundsException("Queue is empty");
+		}
+
+		return elements[front];
+	}
+
+	public long peekRear() {
+		if (size == 0) {
+			throw new IndexOutOfBoundsException("Queue is empty");
+		}
+
+		return elements[(front + size - 1) & mask];
+	}
+
+	/** Returns the element {@code index} positions behind the front. */
+	public long get(int index) {
+		return elements[(front + Objects.checkIndex(index, size)) & mask];
+	}
+	//endregion
+
+	//region - Utilities
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public boolean isFull() {
+		return size == capacity;
+	}
+
+	public int capacity() {
+		return capacity;
+	}
+
+	public boolean isOverwriting() {
+		return overwrite;
+	}
+
+	/** Number of elements evicted by overwriting since construction or the last {@link #clear()}. */
+	public long overwritten() {
+		return overwritten;
+	}
+
+	public boolean contains(long value) {
+		for (int i = 0; i < size; i++) {
+			if (elements[(front + i) & mask] == value) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	public void clear() {
+		front = 0;
+		size = 0;
+		overwritten = 0;
+	}
+
+	/** Copies the elements from front to rear with at most two {@link System#arraycopy} calls. */
+	public long[] toArray() {
+		var array = new long[size];
+		int firstRun = Math.min(size, elements.length - front);
+		System.arraycopy(elements, front, array, 0, firstRun);
+		System.arraycopy(elements, 0, array, firstRun, size - firstRun);
+		return array;
+	}
+	//endregion
+
+	//region - Private Helpers
+	private void resize(int newCapacity) {
+		if (newCapacity > 1 << 30) {
+			throw new IllegalStateException("Queue is full");
+		}
+
+		elements = Arrays.copyOf(toArray(), newCapacity);
+		mask = newCapacity - 1;
+		capacity = newCapacity;
+		front = 0;
+	}
+	//endregion
+
+	@Override
+	public String toString() {
+		return Arrays.toString(toArray());
+	}
+}
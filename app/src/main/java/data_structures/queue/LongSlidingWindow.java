@@ -0,0 +1,284 @@
+package data_structures.queue;
+
+import java.util.Arrays;
+import java.util.function.LongBinaryOperator;
+
+/**
+ * Sliding window over {@code long} samples that answers min, max and an arbitrary associative aggregate in O(1)
+ * amortized time per sample, without rescanning the window. Samples carry a non-decreasing timestamp; the window keeps
+ * at most {@code maxCount} samples, and only those younger than {@code span} relative to the latest timestamp.
+ * <p>
+ * Min and max come from monotonic deques of sample sequence numbers. The aggregate uses the two-stack scheme: evicted
+ * samples are taken from a front part that holds suffix aggregates, and new samples fold into a single running back
+ * aggregate; when the front runs dry the back is flipped into it. The combiner therefore only needs to be associative,
+ * not invertible, so it works for max, gcd or bitwise or as well as for sums. All storage is power-of-two rings indexed
+ * by masking, as in {@link LongRingBuffer}. Not thread-safe.
+ */
+@SuppressWarnings("unused")
+public class LongSlidingWindow {
+
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private final int maxCount;
+	private final long span;
+	private final LongBinaryOperator combiner;
+
+	private long[] values;
+	private long[] timestamps;
+	private long[] suffixAggregates;
+	private long[] minSequences;
+	private long[] maxSequences;
+	private int mask;
+
+	// Sequence numbers: the window holds [head, tail); [head, boundary) is the aggregate's front part.
+	private long head;
+	private long tail;
+	private long boundary;
+	private long backAggregate;
+	private long minHead;
+	private long minTail;
+	private long maxHead;
+	private long maxTail;
+	private long latest = Long.MIN_VALUE;
+
+	//region - Constructors
+	/**
+	 * @param maxCount most samples kept, or {@link Integer#MAX_VALUE} for no count limit
+	 * @param span     samples with {@code timestamp <= latest - span} are evicted; {@link Long#MAX_VALUE} for no limit
+	 * @param combiner associative function for {@link #aggregate()}, or {@code null} if only min and max are needed
+	 */
+	public LongSlidingWindow(int maxCount, long span, LongBinaryOperator combiner) {
+		if (maxCount <= 0) {
+			throw new IllegalArgumentException("Max count must be positive: " + maxCount);
+		}
+
+		if (span <= 0) {
+			throw new IllegalArgumentException("Span must be positive: " + span);
+		}
+
+		this.maxCount = maxCount;
+		this.span = span;
+		this.combiner = combiner;
+		allocate(Math.min(DEFAULT_CAPACITY, 1 << (32 - Integer.numberOfLeadingZeros(Math.min(maxCount, 1 << 30) - 1))));
+	}
+
+	/** Window over the last {@code size} samples. */
+	public static LongSlidingWindow ofCount(int size, LongBinaryOperator combiner) {
+		return new LongSlidingWindow(size, Long.MAX_VALUE, combiner);
+	}
+
+	/** Window over the samples whose timestamps lie within {@code span} of the latest one. */
+	public static LongSlidingWindow ofSpan(long span, LongBinaryOperator combiner) {
+		return new LongSlidingWindow(Integer.MAX_VALUE, span, combiner);
+	}
+	//endregion
+
+	//region - Window Operations
+	/** Adds a sample stamped with the latest timestamp seen so far, or 0 for the first sample. */
+	public void add(long value) {
+		add(latest == Long.MIN_VALUE ? 0 : latest, value);
+	}
+
+	public void add(long timestamp, long value) {
+		advanceTo(timestamp);
+
+		if (tail - head == maxCount) {
+			evictOldest();
+		}
+
+		if (tail - head == values.length) {
+			grow();
+		}
+
+		int slot = (int) tail & mask;
+		values[slot] = value;
+		timestamps[slot] = timestamp;
+
+		while (minTail != minHead && values[(int) minSequences[(int) (minTail - 1) & mask] & mask] >= value) {
+			minTail--;
+		}
+
+		minSequences[(int) minTail++ & mask] = tail;
+
+		while (maxTail != maxHead && values[(int) maxSequences[(int) (maxTail - 1) & mask] & mask] <= value) {
+			maxTail--;
+		}
+
+		maxSequences[(int) maxTail++ & mask] = tail;
+
+		if (combiner != null) {
+			backAggregate = tail == boundary ? value : combiner.applyAsLong(backAggregate, value);
+		}
+
+		tail++;
+	}
+
+	/** Moves the window's clock forward and evicts samples that fall out of the span. */
+	public void advanceTo(long now) {
+		if (latest != Long.MIN_VALUE && now < latest) {
+			throw new IllegalArgumentException("Timestamp " + now + " is before latest timestamp " + latest);
+		}
+
+		latest = now;
+
+		if (span == Long.MAX_VALUE) {
+			return;
+		}
+
+		while (head != tail && now - timestamps[(int) head & mask] >= span) {
+			evictOldest();
+		}
+	}
+
+	public long min() {
+		checkNotEmpty();
+		return values[(int) minSequences[(int) minHead & mask] & mask];
+	}
+
+	public long max() {
+		checkNotEmpty();
+		return values[(int) maxSequences[(int) maxHead & mask] & mask];
+	}
+
+	/** The combiner folded over the window from oldest to newest sample. */
+	public long aggregate() {
+		if (combiner == null) {
+			throw new IllegalStateException("Window has no combiner");
+		}
+
+		checkNotEmpty();
+
+		if (head == boundary) {
+			return backAggregate;
+		}
+
+		long front = suffixAggregates[(int) head & mask];
+		return boundary == tail ? front : combiner.applyAsLong(front, backAggregate);
+	}
+
+	public long oldest() {
+		checkNotEmpty();
+		return values[(int) head & mask];
+	}
+
+	public long newest() {
+		checkNotEmpty();
+		return values[(int) (tail - 1) & mask];
+	}
+	//endregion
+
+	//region - Utilities
+	public int size() {
+		return (int) (tail - head);
+	}
+
+	public boolean isEmpty() {
+		return head == tail;
+	}
+
+	/** Latest timestamp passed to {@link #add(long, long)} or {@link #advanceTo(long)}. */
+	public long latest() {
+		return latest;
+	}
+
+	public long[] toArray() {
+		var array = new long[size()];
+
+		for (int i = 0; i < array.length; i++) {
+			array[i] = values[(int) (head + i) & mask];
+		}
+
+		return array;
+	}
+
+	public void clear() {
+		head = tail = boundary = 0;
+		minHead = minTail = maxHead = maxTail = 0;
+		latest = Long.MIN_VALUE;
+	}
+	//endregion
+
+	//region - Private Helpers
+	private void evictOldest() {
+		if (minSequences[(int) minHead & mask] == head) {
+			minHead++;
+		}
+
+		if (maxSequences[(int) maxHead & mask] == head) {
+			maxHead++;
+		}
+
+		if (combiner != null && head == boundary) {
+			flip();
+		}
+
+		head++;
+	}
+
+	// Moves every back sample to the front, storing for each the aggregate of itself and all newer samples.
+	private void flip() {
+		long aggregate = values[(int) (tail - 1) & mask];
+		suffixAggregates[(int) (tail - 1) & mask] = aggregate;
+
+		for (long sequence = tail - 2; sequence >= head; sequence--) {
+			aggregate = combiner.applyAsLong(values[(int) sequence & mask], aggregate);
+			suffixAggregates[(int) sequence & mask] = aggregate;
+		}
+
+		boundary = tail;
+	}
+
+	// Sequence numbers stay the same; only their slots move to the larger mask.
+	private void grow() {
+		var oldValues = values;
+		var oldTimestamps = timestamps;
+		var oldSuffixAggregates = suffixAggregates;
+		var oldMinSequences = minSequences;
+		var oldMaxSequences = maxSequences;
+		int oldMask = mask;
+
+		allocate(values.length * 2);
+
+		for (long sequence = head; sequence < tail; sequence++) {
+			values[(int) sequence & mask] = oldValues[(int) sequence & oldMask];
+			timestamps[(int) sequence & mask] = oldTimestamps[(int) sequence & oldMask];
+
+			if (suffixAggregates != null) {
+				suffixAggregates[(int) sequence & mask] = oldSuffixAggregates[(int) sequence & oldMask];
+			}
+		}
+
+		for (long i = minHead; i < minTail; i++) {
+			minSequences[(int) i & mask] = oldMinSequences[(int) i & oldMask];
+		}
+
+		for (long i = maxHead; i < maxTail; i++) {
+			maxSequences[(int) i & mask] = oldMaxSequences[(int) i & oldMask];
+		}
+	}
+
+	private void allocate(int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalStateException("Window is full");
+		}
+
+		values = new long[capacity];
+		timestamps = new long[capacity];
+		suffixAggregates = combiner == null ? null : new long[capacity];
+		minSequences = new long[capacity];
+		maxSequences = new long[capacity];
+		mask = capacity - 1;
+	}
+
+	private void checkNotEmpty() {
+		if (head == tail) {
+			throw new IndexOutOfBoundsException("Window is empty");
+		}
+	}
+	//endregion
+
+	@Override
+	public String toString() {
+		return Arrays.toString(toArray());
+	}
+}
@@ -0,0 +1,454 @@
+package data_structures.queue;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.CRC32;
+
+/**
+ * Durable FIFO of byte records backed by memory-mapped files, so contents survive restarts and the backlog lives in
+ * the page cache instead of the heap. Records are appended to fixed-size segment files named by a sequence number; a
+ * record that does not fit in the current segment rolls over to a new one. Each record is an {@code int} length, an
+ * {@code int} CRC32 of the payload and the payload itself. The length is written first and the checksum last, so a
+ * zero length marks the end of written data and a record torn by a crash still says how far it reaches.
+ * <p>
+ * The consumer position is a single {@code long} (segment number and offset) in a small mapped index file, updated
+ * with one store per dequeue. Next to it the writer keeps a high-water mark, the furthest offset it has ever written in
+ * the tail segment, stored before the record bytes. Once the consumer leaves a segment the index is updated first and the segment file is
+ * deleted second, so a crash in between only leaves a stale file behind. A file that cannot be deleted yet, as on
+ * Windows while its mapping is still reachable, is left behind too; {@link #close()} and the next open retry.
+ * <p>
+ * On open, the tail segment is scanned up to the first record whose header or checksum is invalid, and everything from
+ * there to the high-water mark is zeroed, so no stale bytes past a torn record can later pass for a record. A clean
+ * shutdown leaves nothing to zero. A consumer position past the recovered tail is pulled back to it rather than rewound, so records
+ * already consumed are not delivered again. {@link #size()} is rebuilt by walking the record headers from the
+ * consumer position.
+ * <p>
+ * Writes reach the OS page cache immediately and survive a process crash. Call {@link #sync()} to also survive power
+ * loss. Not thread-safe.
+ */
+@SuppressWarnings("unused")
+public class MappedPersistentQueue implements Queue<byte[]>, Closeable {
+
+	public static final int DEFAULT_SEGMENT_SIZE = 64 << 20;
+	static final int HEADER = 8;
+	private static final String SEGMENT_SUFFIX = ".segment";
+	private static final String INDEX_FILE = "consumer.index";
+
+	private final Path directory;
+	private final int segmentSize;
+	private final CRC32 crc = new CRC32();
+	private final MappedByteBuffer index;
+	// One mapping per live segment, shared by the reader, the writer and contains(), and dropped once consumed.
+	private final Map<Long, MappedByteBuffer> mappings = new HashMap<>();
+
+	private long writeSegment;
+	private MappedByteBuffer writeBuffer;
+	private int writePosition;
+	private int highWater;
+
+	private long readSegment;
+	private MappedByteBuffer readBuffer;
+	private int readPosition;
+
+	private int size;
+	private boolean closed;
+
+	//region - Constructors
+	public MappedPersistentQueue(Path directory) {
+		this(directory, DEFAULT_SEGMENT_SIZE);
+	}
+
+	public MappedPersistentQueue(Path directory, int segmentSize) {
+		if (segmentSize < HEADER + 1) {
+			throw new IllegalArgumentException("Segment size must be at least " + (HEADER + 1) + ": " + segmentSize);
+		}
+
+		this.directory = Objects.requireNonNull(directory);
+		this.segmentSize = segmentSize;
+
+		try {
+			Files.createDirectories(directory);
+			index = map(directory.resolve(INDEX_FILE), 2 * Long.BYTES);
+			recover();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	//endregion
+
+	//region - Queue Operations
+	@Override
+	public void enqueue(byte[] record) {
+		Objects.requireNonNull(record, "MappedPersistentQueue does not accept null values");
+		checkOpen();
+
+		if (record.length == 0 || record.length > segmentSize - HEADER) {
+			throw new IllegalArgumentException("Record length must be in [1, " + (segmentSize - HEADER) + "]: "
+				+ record.length);
+		}
+
+		if (writePosition + HEADER + record.length > segmentSize) {
+			rollWriteSegment();
+		}
+
+		int end = writePosition + HEADER + record.length;
+
+		if (end > highWater) {
+			highWater = end;
+			storeHighWater();
+		}
+
+		crc.reset();
+		crc.update(record);
+		writeBuffer.putInt(writePosition, record.length);
+		writeBuffer.put(writePosition + HEADER, record);
+		writeBuffer.putInt(writePosition + Integer.BYTES, (int) crc.getValue());
+		writePosition += HEADER + record.length;
+		size++;
+	}
+
+	@Override
+	public byte[] dequeue() {
+		byte[] record = peek();
+		readPosition += HEADER + record.length;
+		storeReadPosition();
+		size--;
+		return record;
+	}
+
+	@Override
+	public byte[] peek() {
+		checkOpen();
+
+		if (!seekRecord()) {
+			throw new IndexOutOfBoundsException("Queue is empty");
+		}
+
+		var record = new byte[readBuffer.getInt(readPosition)];
+		readBuffer.get(readPosition + HEADER, record);
+		return record;
+	}
+	//endregion
+
+	//region - Utilities
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public boolean contains(byte[] record) {
+		if (record == null || size == 0) {
+			return false;
+		}
+
+		checkOpen();
+		long segment = readSegment;
+		var buffer = readBuffer;
+		int position = readPosition;
+
+		for (int remaining = size; remaining > 0; ) {
+			int length = position + HEADER <= segmentSize ? buffer.getInt(position) : 0;
+
+			if (length == 0) {
+				segment++;
+				buffer = segmentBuffer(segment);
+				position = 0;
+				continue;
+			}
+
+			if (length == record.length) {
+				var candidate = new byte[length];
+				buffer.get(position + HEADER, candidate);
+
+				if (Arrays.equals(candidate, record)) {
+					return true;
+				}
+			}
+
+			position += HEADER + length;
+			remaining--;
+		}
+
+		return false;
+	}
+
+	/** Discards every record by moving the consumer position to the end and deleting consumed segments. */
+	@Override
+	public void clear() {
+		checkOpen();
+
+		while (readSegment < writeSegment) {
+			advanceReadSegment();
+		}
+
+		readPosition = writePosition;
+		storeReadPosition();
+		size = 0;
+	}
+
+	/** Forces the tail segment and the consumer index to the storage device. */
+	public void sync() {
+		checkOpen();
+		writeBuffer.force();
+		index.force();
+	}
+
+	public int segmentSize() {
+		return segmentSize;
+	}
+
+	/** Number of segment files currently on disk. */
+	public int segmentCount() {
+		return (int) (writeSegment - readSegment + 1);
+	}
+
+	public Path directory() {
+		return directory;
+	}
+
+	@Override
+	public void close() {
+		if (!closed) {
+			sync();
+			closed = true;
+			writeBuffer = null;
+			readBuffer = null;
+			mappings.clear();
+
+			try {
+				deleteConsumedSegments(listSegments());
+			} catch (IOException e) {
+				// The next open retries.
+			}
+		}
+	}
+	//endregion
+
+	//region - Private Helpers
+	private void recover() throws IOException {
+		var segments = listSegments();
+
+		if (segments.isEmpty()) {
+			segments.add(0L);
+		}
+
+		long first = segments.get(0);
+		writeSegment = segments.get(segments.size() - 1);
+		writeBuffer = segmentBuffer(writeSegment);
+
+		// A mark for another segment is missing or corrupt, so the whole segment may hold stale bytes.
+		long mark = index.getLong(Long.BYTES);
+		int written = mark >>> 32 == writeSegment ? (int) mark : segmentSize;
+		writePosition = scanTail(writeBuffer, Math.max(0, Math.min(written, segmentSize)));
+		highWater = writePosition;
+		storeHighWater();
+
+		long stored = index.getLong(0);
+		readSegment = stored >>> 32;
+		readPosition = (int) stored;
+
+		if (readSegment < first || readSegment > writeSegment || readPosition < 0) {
+			readSegment = first;
+			readPosition = 0;
+		} else if (readSegment == writeSegment && readPosition > writePosition) {
+			// The consumer had already read past the torn record; everything before the new tail was consumed.
+			readPosition = writePosition;
+		}
+
+		deleteConsumedSegments(segments);
+		readBuffer = segmentBuffer(readSegment);
+		storeReadPosition();
+		size = countRecords();
+	}
+
+	// Returns the end of the last intact record and zeroes everything after it up to what the writer ever wrote.
+	private int scanTail(MappedByteBuffer buffer, int written) {
+		int position = 0;
+		int length = 0;
+
+		while (position + HEADER <= segmentSize) {
+			length = buffer.getInt(position);
+
+			if (length <= 0 || length > segmentSize - HEADER - position) {
+				break;
+			}
+
+			var payload = new byte[length];
+			buffer.get(position + HEADER, payload);
+			crc.reset();
+			crc.update(payload);
+
+			if ((int) crc.getValue() != buffer.getInt(position + Integer.BYTES)) {
+				break;
+			}
+
+			position += HEADER + length;
+		}
+
+		int end = written;
+
+		if (position + HEADER <= segmentSize && length > 0 && length <= segmentSize - HEADER - position) {
+			end = Math.max(end, position + HEADER + length);
+		}
+
+		// Bytes that are already zero are left alone, so pages the writer never touched are not dirtied.
+		for (int i = position; i < end; i++) {
+			if (buffer.get(i) != 0) {
+				buffer.put(i, (byte) 0);
+			}
+		}
+
+		return position;
+	}
+
+	private int countRecords() {
+		int count = 0;
+		long segment = readSegment;
+		var buffer = readBuffer;
+		int position = readPosition;
+
+		while (true) {
+			int length = position + HEADER <= segmentSize ? buffer.getInt(position) : 0;
+
+			if (length == 0) {
+				if (segment == writeSegment) {
+					return count;
+				}
+
+				segment++;
+				buffer = segmentBuffer(segment);
+				position = 0;
+				continue;
+			}
+
+			position += HEADER + length;
+			count++;
+		}
+	}
+
+	// Moves the consumer onto the next record, crossing into later segments; false if there is none.
+	private boolean seekRecord() {
+		while (true) {
+			if (readPosition + HEADER <= segmentSize && readBuffer.getInt(readPosition) != 0) {
+				return true;
+			}
+
+			if (readSegment == writeSegment) {
+				return false;
+			}
+
+			advanceReadSegment();
+		}
+	}
+
+	private void advanceReadSegment() {
+		long consumed = readSegment;
+		readSegment++;
+		readPosition = 0;
+		readBuffer = segmentBuffer(readSegment);
+		storeReadPosition();
+		mappings.remove(consumed);
+		deleteSegment(consumed);
+	}
+
+	private void deleteConsumedSegments(List<Long> segments) {
+		for (long segment : segments) {
+			if (segment < readSegment) {
+				deleteSegment(segment);
+			}
+		}
+	}
+
+	// Windows refuses to delete a file that is still mapped, and a mapping is only released once it is collected.
+	private void deleteSegment(long segment) {
+		try {
+			Files.deleteIfExists(segmentPath(segment));
+		} catch (IOException e) {
+			// Left for close() or the next open to delete.
+		}
+	}
+
+	private void rollWriteSegment() {
+		writeBuffer.force();
+		writeSegment++;
+		highWater = 0;
+		storeHighWater();
+		writeBuffer = segmentBuffer(writeSegment);
+		writePosition = 0;
+	}
+
+	private void storeReadPosition() {
+		index.putLong(0, readSegment << 32 | readPosition);
+	}
+
+	private void storeHighWater() {
+		index.putLong(Long.BYTES, writeSegment << 32 | highWater);
+	}
+
+	private List<Long> listSegments() throws IOException {
+		var segments = new ArrayList<Long>();
+
+		try (var files = Files.list(directory)) {
+			files.map(path -> path.getFileName().toString())
+				.filter(name -> name.endsWith(SEGMENT_SUFFIX))
+				.forEach(name -> segments.add(Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()))));
+		}
+
+		segments.sort(null);
+		return segments;
+	}
+
+	private Path segmentPath(long segment) {
+		return directory.resolve(String.format("%019d%s", segment, SEGMENT_SUFFIX));
+	}
+
+	private MappedByteBuffer segmentBuffer(long segment) {
+		return mappings.computeIfAbsent(segment, this::mapSegment);
+	}
+
+	private MappedByteBuffer mapSegment(long segment) {
+		try {
+			return map(segmentPath(segment), segmentSize);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	// The mapping stays valid after the channel is closed.
+	private static MappedByteBuffer map(Path path, long length) throws IOException {
+		try (var channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+			StandardOpenOption.WRITE)) {
+			return channel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+		}
+	}
+
+	private void checkOpen() {
+		if (closed) {
+			throw new IllegalStateException("Queue is closed");
+		}
+	}
+	//endregion
+
+	@Override
+	public String toString() {
+		return "MappedPersistentQueue[" + directory + ", size=" + size + ", segments=" + segmentCount() + "]";
+	}
+}
@@ -0,0 +1,235 @@
+package data_structures.queue;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Bounded lock-free queue for any number of producers and consumers, after Dmitry Vyukov's bounded MPMC queue. Each
+ * slot carries a sequence number: a producer may fill slot {@code t & mask} once its sequence equals {@code t}, and a
+ * consumer may empty it once its sequence equals {@code h + 1}. Producers and consumers claim positions with a CAS on
+ * the padded tail and head cursors respectively, so they only contend with their own kind.
+ * <p>
+ * {@link #size()}, {@link #isEmpty()} and {@link #contains(Object)} are estimates while other threads are active.
+ */
+@SuppressWarnings({"unchecked", "unused"})
+public class MpmcArrayQueue<T> implements Queue<T> {
+
+	private static final VarHandle CURSOR;
+	private static final VarHandle SEQUENCES = MethodHandles.arrayElementVarHandle(long[].class);
+	private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(Object[].class);
+
+	static {
+		try {
+			CURSOR = MethodHandles.lookup().findVarHandle(Cursor.class, "value", long.class);
+		} catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	private final Object[] buffer;
+	private final long[] sequences;
+	private final int mask;
+	private final Cursor tail = new Cursor();
+	private final Cursor head = new Cursor();
+
+	//region - Constructors
+	public MpmcArrayQueue(int requestedCapacity) {
+		if (requestedCapacity < 2 || requestedCapacity > 1 << 30) {
+			throw new IllegalArgumentException("Capacity must be in [2, 2^30]: " + requestedCapacity);
+		}
+
+		int capacity = 1 << (32 - Integer.numberOfLeadingZeros(requestedCapacity - 1));
+		buffer = new Object[capacity];
+		sequences = new long[capacity];
+		mask = capacity - 1;
+
+		for (int i = 0; i < capacity; i++) {
+			sequences[i] = i;
+		}
+	}
+	//endregion
+
+	//region - Queue Operations
+	public boolean offer(T value) {
+		Objects.requireNonNull(value, "MpmcArrayQueue does not accept null values");
+
+		long t = (long) CURSOR.getVolatile(tail);
+
+		while (true) {
+			int index = (int) t & mask;
+			long sequence = (long) SEQUENCES.getAcquire(sequences, index);
+			long difference = sequence - t;
+
+			if (difference == 0) {
+				if (CURSOR.compareAndSet(tail, t, t + 1)) {
+					buffer[index] = value;
+					SEQUENCES.setRelease(sequences, index, t + 1);
+					return true;
+				}
+
+				t = (long) CURSOR.getVolatile(tail);
+			} else if (difference < 0) {
+				return false;
+			} else {
+				t = (long) CURSOR.getVolatile(tail);
+			}
+		}
+	}
+
+	public T poll() {
+		long h = (long) CURSOR.getVolatile(head);
+
+		while (true) {
+			int index = (int) h & mask;
+			long sequence = (long) SEQUENCES.getAcquire(sequences, index);
+			long difference = sequence - (h + 1);
+
+			if (difference == 0) {
+				if (CURSOR.compareAndSet(head, h, h + 1)) {
+					T value = (T) buffer[index];
+					buffer[index] = null;
+					SEQUENCES.setRelease(sequences, index, h + buffer.length);
+					return value;
+				}
+
+				h = (long) CURSOR.getVolatile(head);
+			} else if (difference < 0) {
+				return null;
+			} else {
+				h = (long) CURSOR.getVolatile(head);
+			}
+		}
+	}
+
+	@Override
+	public void enqueue(T value) {
+		if (!offer(value)) {
+			throw new IllegalStateException("Queue is full");
+		}
+	}
+
+	@Override
+	public T dequeue() {
+		T value = poll();
+
+		if (value == null) {
+			throw new IndexOutOfBoundsException("Queue is empty");
+		}
+
+		return value;
+	}
+
+	@Override
+	public int drainTo(Consumer<? super T> consumer, int limit) {
+		Objects.requireNonNull(consumer);
+		int drained = 0;
+		T value;
+
+		while (drained < limit && (value = poll()) != null) {
+			consumer.accept(value);
+			drained++;
+		}
+
+		return drained;
+	}
+
+	@Override
+	public int dequeueBatch(T[] dst) {
+		int count = 0;
+		T value;
+
+		while (count < dst.length && (value = poll()) != null) {
+			dst[count++] = value;
+		}
+
+		return count;
+	}
+
+	@Override
+	public T peek() {
+		while (true) {
+			long h = (long) CURSOR.getVolatile(head);
+			int index = (int) h & mask;
+			long sequence = (long) SEQUENCES.getAcquire(sequences, index);
+
+			if (sequence - (h + 1) < 0) {
+				throw new IndexOutOfBoundsException("Queue is empty");
+			}
+
+			T value = (T) SLOTS.getAcquire(buffer, index);
+
+			if (value != null && (long) CURSOR.getVolatile(head) == h) {
+				return value;
+			}
+		}
+	}
+	//endregion
+
+	//region - Utilities
+	@Override
+	public int size() {
+		long before = (long) CURSOR.getVolatile(head);
+
+		while (true) {
+			long t = (long) CURSOR.getVolatile(tail);
+			long after = (long) CURSOR.getVolatile(head);
+
+			if (before == after) {
+				return (int) Math.max(0, Math.min(t - after, buffer.length));
+			}
+
+			before = after;
+		}
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	public int capacity() {
+		return buffer.length;
+	}
+
+	@Override
+	public boolean contains(T value) {
+		if (value == null) {
+			return false;
+		}
+
+		long h = (long) CURSOR.getVolatile(head);
+		long t = (long) CURSOR.getVolatile(tail);
+
+		for (long i = h; i < t; i++) {
+			if (value.equals(SLOTS.getAcquire(buffer, (int) i & mask))) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	@Override
+	public void clear() {
+		while (poll() != null) {
+			// discard
+		}
+	}
+	//endregion
+
+	@Override
+	public String toString() {
+		return "MpmcArrayQueue[size=" + size() + ", capacity=" + capacity() + "]";
+	}
+
+	//region - Cursor
+	// Padded so the producer and consumer cursors never share a cache line.
+	private static final class Cursor {
+		long p01, p02, p03, p04, p05, p06, p07;
+		long value;
+		long p11, p12, p13, p14, p15, p16, p17;
+	}
+	//endregion
+}
@@ -0,0 +1,239 @@
+package data_structures.queue;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Unbounded multi-producer single-consumer linked queue, after Dmitry Vyukov's MPSC node queue. A producer swaps
+ * itself in as the new tail with one atomic {@code getAndSet} and then links the previous tail to its node, so
+ * {@link #enqueue(Object)} is wait-free. The consumer owns the head exclusively and never writes shared state other
+ * than the nodes it has already taken, which suits actor mailboxes drained by a single thread.
+ * <p>
+ * Only the consumer thread may call {@link #dequeue()}, {@link #poll()}, {@link #peek()}, {@link #drainTo(Consumer,
+ * int)}, {@link #dequeueBatch(Object[])} and {@link #clear()}. {@link #enqueueAll(Object[], int, int)} links the
+ * whole batch with a single tail swap. {@link #size()} and {@link #contains(Object)} walk the list and are only
+ * estimates while producers are active. Null elements are rejected because {@code null} signals an empty {@link #poll()}.
+ */
+@SuppressWarnings({"unchecked", "unused"})
+public class MpscLinkedQueue<T> implements Queue<T> {
+
+	private static final VarHandle TAIL;
+	private static final VarHandle NEXT;
+
+	static {
+		try {
+			var lookup = MethodHandles.lookup();
+			TAIL = lookup.findVarHandle(MpscLinkedQueue.class, "tail", Node.class);
+			NEXT = lookup.findVarHandle(Node.class, "next", Node.class);
+		} catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	private Node<T> head;
+	private volatile Node<T> tail;
+
+	public MpscLinkedQueue() {
+		head = new Node<>(null);
+		tail = head;
+	}
+
+	//region - Producer
+	@Override
+	public void enqueue(T value) {
+		Objects.requireNonNull(value, "MpscLinkedQueue does not accept null values");
+
+		var node = new Node<>(value);
+		var previous = (Node<T>) TAIL.getAndSet(this, node);
+		NEXT.setRelease(previous, node);
+	}
+
+	@Override
+	public void enqueueAll(T[] src, int off, int len) {
+		Objects.checkFromIndexSize(off, len, src.length);
+
+		if (len == 0) {
+			return;
+		}
+
+		var first = new Node<>(Objects.requireNonNull(src[off], "MpscLinkedQueue does not accept null values"));
+		var last = first;
+
+		for (int i = off + 1; i < off + len; i++) {
+			last.next = new Node<>(Objects.requireNonNull(src[i], "MpscLinkedQueue does not accept null values"));
+			last = last.next;
+		}
+
+		var previous = (Node<T>) TAIL.getAndSet(this, last);
+		NEXT.setRelease(previous, first);
+	}
+	//endregion
+
+	//region - Consumer
+	public T poll() {
+		var next = nextOf(head);
+
+		if (next == null) {
+			if (head == tail) {
+				return null;
+			}
+
+			next = awaitLink(head);
+		}
+
+		return advance(next);
+	}
+
+	@Override
+	public T dequeue() {
+		T value = poll();
+
+		if (value == null) {
+			throw new IndexOutOfBoundsException("Queue is empty");
+		}
+
+		return value;
+	}
+
+	@Override
+	public T peek() {
+		var next = nextOf(head);
+
+		if (next == null) {
+			if (head == tail) {
+				throw new IndexOutOfBoundsException("Queue is empty");
+			}
+
+			next = awaitLink(head);
+		}
+
+		return next.value;
+	}
+
+	@Override
+	public int drainTo(Consumer<? super T> consumer, int limit) {
+		Objects.requireNonNull(consumer);
+		int drained = 0;
+
+		while (drained < limit) {
+			var next = nextOf(head);
+
+			if (next == null) {
+				break;
+			}
+
+			consumer.accept(advance(next));
+			drained++;
+		}
+
+		return drained;
+	}
+
+	@Override
+	public int dequeueBatch(T[] dst) {
+		int count = 0;
+
+		while (count < dst.length) {
+			var next = nextOf(head);
+
+			if (next == null) {
+				break;
+			}
+
+			dst[count++] = advance(next);
+		}
+
+		return count;
+	}
+
+	@Override
+	public void clear() {
+		while (poll() != null) {
+			// discard
+		}
+	}
+	//endregion
+
+	//region - Utilities
+	@Override
+	public int size() {
+		int size = 0;
+		var last = tail;
+
+		for (var curr = head; curr != last && size < Integer.MAX_VALUE; size++) {
+			var next = nextOf(curr);
+
+			if (next == null) {
+				break;
+			}
+
+			curr = next;
+		}
+
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return head == tail;
+	}
+
+	@Override
+	public boolean contains(T value) {
+		if (value == null) {
+			return false;
+		}
+
+		for (var curr = nextOf(head); curr != null; curr = nextOf(curr)) {
+			if (value.equals(curr.value)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+	//endregion
+
+	//region - Private Helpers
+	private Node<T> nextOf(Node<T> node) {
+		return (Node<T>) NEXT.getAcquire(node);
+	}
+
+	// A producer has swapped the tail but not linked its node yet; the link is its very next instruction.
+	private Node<T> awaitLink(Node<T> node) {
+		Node<T> next;
+
+		while ((next = nextOf(node)) == null) {
+			Thread.onSpinWait();
+		}
+
+		return next;
+	}
+
+	private T advance(Node<T> next) {
+		T value = next.value;
+		next.value = null;
+		head.next = null;
+		head = next;
+		return value;
+	}
+	//endregion
+
+	@Override
+	public String toString() {
+		return "MpscLinkedQueue[size=" + size() + "]";
+	}
+
+	//region - Node
+	private static final class Node<T> {
+		T value;
+		Node<T> next;
+
+		Node(T value) {
+			this.value = value;
+		}
+	}
+	//endregion
+}
@@ -0,0 +1,261 @@
+package data_structures.queue;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Objects;
+
+/**
+ * Array-backed d-ary min-heap ordered by a {@link Comparator}: {@link #dequeue()} and {@link #peek()} return the
+ * smallest element. A wider node (default {@value #DEFAULT_ARITY} children) makes the tree shallower, so sift-up does
+ * fewer comparisons and sift-down touches fewer cache lines per level, at the cost of comparing more siblings.
+ * <p>
+ * Bulk construction and {@link #enqueueAll(Object[], int, int)} of a large batch use Floyd's bottom-up heapify, which
+ * is O(n) instead of O(n log n). Iteration and {@link #toArray()} follow heap order, not priority order. Null elements
+ * are rejected.
+ */
+@SuppressWarnings({"unchecked", "unused"})
+public class PriorityQueue<T> implements Queue<T>, Iterable<T> {
+
+	public static final int DEFAULT_ARITY = 4;
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private final Comparator<? super T> comparator;
+	private final int arity;
+	private Object[] heap;
+	private int size;
+
+	//region - Constructors
+	public PriorityQueue(Comparator<? super T> comparator) {
+		this(DEFAULT_ARITY, DEFAULT_CAPACITY, comparator);
+	}
+
+	public PriorityQueue(int arity, Comparator<? super T> comparator) {
+		this(arity, DEFAULT_CAPACITY, comparator);
+	}
+
+	public PriorityQueue(int arity, int initialCapacity, Comparator<? super T> comparator) {
+		if (arity < 2) {
+			throw new IllegalArgumentException("Arity must be at least 2: " + arity);
+		}
+
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("Capacity must not be negative: " + initialCapacity);
+		}
+
+		this.comparator = Objects.requireNonNull(comparator);
+		this.arity = arity;
+		heap = new Object[Math.max(1, initialCapacity)];
+	}
+
+	/** Builds a heap from {@code values} in O(n). */
+	public PriorityQueue(int arity, Collection<? extends T> values, Comparator<? super T> comparator) {
+		this(arity, values.size(), comparator);
+
+		for (T value : values) {
+			heap[size++] = Objects.requireNonNull(value, "PriorityQueue does not accept null values");
+		}
+
+		heapify();
+	}
+
+	public static <T extends Comparable<? super T>> PriorityQueue<T> naturalOrder() {
+		return new PriorityQueue<>(Comparator.naturalOrder());
+	}
+	//endregion
+
+	//region - Queue Operations
+	@Override
+	public void enqueue(T value) {
+		Objects.requireNonNull(value, "PriorityQueue does not accept null values");
+
+		if (size == heap.length) {
+			grow(size + 1);
+		}
+
+		siftUp(size++, value);
+	}
+
+	@Override
+	public T dequeue() {
+		if (size == 0) {
+			throw new IndexOutOfBoundsException("Queue is empty");
+		}
+
+		T top = (T) heap[0];
+		T last = (T) heap[--size];
+		heap[size] = null;
+
+		if (size > 0) {
+			siftDown(0, last);
+		}
+
+		return top;
+	}
+
+	@Override
+	public T peek() {
+		if (size == 0) {
+			throw new IndexOutOfBoundsException("Queue is empty");
+		}
+
+		return (T) heap[0];
+	}
+
+	/** Appends the slice; when it is at least as large as the heap, re-heapifies once instead of sifting each element. */
+	@Override
+	public void enqueueAll(T[] src, int off, int len) {
+		Objects.checkFromIndexSize(off, len, src.length);
+
+		for (int i = off; i < off + len; i++) {
+			Objects.requireNonNull(src[i], "PriorityQueue does not accept null values");
+		}
+
+		if (size + len > heap.length) {
+			grow(size + len);
+		}
+
+		if (len >= size) {
+			System.arraycopy(src, off, heap, size, len);
+			size += len;
+			heapify();
+		} else {
+			for (int i = off; i < off + len; i++) {
+				siftUp(size++, src[i]);
+			}
+		}
+	}
+	//endregion
+
+	//region - Utilities
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public int arity() {
+		return arity;
+	}
+
+	public Comparator<? super T> comparator() {
+		return comparator;
+	}
+
+	@Override
+	public boolean contains(T value) {
+		if (value == null) {
+			return false;
+		}
+
+		for (int i = 0; i < size; i++) {
+			if (value.equals(heap[i])) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	@Override
+	public void clear() {
+		Arrays.fill(heap, 0, size, null);
+		size = 0;
+	}
+
+	public Object[] toArray() {
+		return Arrays.copyOf(heap, size);
+	}
+	//endregion
+
+	//region - Iterator
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<>() {
+			private int index;
+
+			@Override
+			public boolean hasNext() {
+				return index < size;
+			}
+
+			@Override
+			public T next() {
+				if (index >= size) {
+					throw new IndexOutOfBoundsException();
+				}
+
+				return (T) heap[index++];
+			}
+		};
+	}
+	//endregion
+
+	//region - Private Helpers
+	// Floyd's heapify: sift down every internal node, deepest first.
+	private void heapify() {
+		for (int i = (size - 2) / arity; i >= 0; i--) {
+			siftDown(i, (T) heap[i]);
+		}
+	}
+
+	// Hole-based sifts move parents/children into the hole and write the value once at the end.
+	private void siftUp(int index, T value) {
+		while (index > 0) {
+			int parent = (index - 1) / arity;
+			T parentValue = (T) heap[parent];
+
+			if (comparator.compare(value, parentValue) >= 0) {
+				break;
+			}
+
+			heap[index] = parentValue;
+			index = parent;
+		}
+
+		heap[index] = value;
+	}
+
+	private void siftDown(int index, T value) {
+		while (true) {
+			int first = arity * index + 1;
+
+			if (first >= size) {
+				break;
+			}
+
+			int smallest = first;
+			int end = Math.min(first + arity, size);
+
+			for (int child = first + 1; child < end; child++) {
+				if (comparator.compare((T) heap[child], (T) heap[smallest]) < 0) {
+					smallest = child;
+				}
+			}
+
+			if (comparator.compare((T) heap[smallest], value) >= 0) {
+				break;
+			}
+
+			heap[index] = heap[smallest];
+			index = smallest;
+		}
+
+		heap[index] = value;
+	}
+
+	private void grow(int minCapacity) {
+		heap = Arrays.copyOf(heap, Math.max(minCapacity, heap.length * 2));
+	}
+	//endregion
+
+	@Override
+	public String toString() {
+		return Arrays.toString(toArray());
+	}
+}
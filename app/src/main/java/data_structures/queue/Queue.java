@@ -1,5 +1,8 @@
 package data_structures.queue;
 
+import java.util.Objects;
+import java.util.function.Consumer;
+
 public interface Queue<T> {
 
     void enqueue(T value);
@@ -15,4 +18,38 @@ public interface Queue<T> {
     boolean contains(T value);
 
     void clear();
+
+    //region - Batch Operations
+    // The defaults move one element per call; implementations override them to pay their per-operation cost
+    // (a fence, a lock, a wrap-point check) once per batch.
+    default int drainTo(Consumer<? super T> consumer, int limit) {
+        Objects.requireNonNull(consumer);
+        int drained = 0;
+
+        while (drained < limit && !isEmpty()) {
+            consumer.accept(dequeue());
+            drained++;
+        }
+
+        return drained;
+    }
+
+    default int dequeueBatch(T[] dst) {
+        int count = 0;
+
+        while (count < dst.length && !isEmpty()) {
+            dst[count++] = dequeue();
+        }
+
+        return count;
+    }
+
+    default void enqueueAll(T[] src, int off, int len) {
+        Objects.checkFromIndexSize(off, len, src.length);
+
+        for (int i = off; i < off + len; i++) {
+            enqueue(src[i]);
+        }
+    }
+    //endregion
 }
@@ -0,0 +1,393 @@
+package data_structures.queue;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Exposes a single-threaded {@link Queue} as a {@link Flow.Publisher}. Producers call {@link #submit(Object)} or
+ * {@link #offer(Object)}, which block or fail once {@code capacity} elements are buffered; that is the backpressure on
+ * the producer side. Subscribers compete for elements, so each element reaches exactly one subscriber.
+ * <p>
+ * Every subscriber gets its own drain loop, by default on a virtual thread. The loop parks until the subscriber has
+ * demand and the buffer has elements, then takes up to {@code min(demand, maxBatch)} elements in one lock acquisition
+ * with {@link Queue#drainTo} and delivers them outside the lock. Taken elements keep their place in {@code capacity}
+ * until their batch has been delivered. A subscriber that cancels mid-batch gets no further {@code onNext}; the rest of
+ * its batch goes back to the front of the buffer, ahead of the queue, so the next drain loop takes those elements
+ * first and in their original order. {@link #close()} lets the loops drain the buffer and then completes every
+ * subscriber. The wrapped queue must not be touched directly once published.
+ */
+@SuppressWarnings("unused")
+public class QueuePublisher<T> implements Flow.Publisher<T>, AutoCloseable {
+
+	public static final int DEFAULT_MAX_BATCH = 64;
+	private static final Executor VIRTUAL_THREADS = task -> Thread.ofVirtual().name("queue-publisher").start(task);
+
+	private final Queue<T> queue;
+	private final int capacity;
+	private final int maxBatch;
+	private final Executor executor;
+	private final List<QueueSubscription> subscriptions = new CopyOnWriteArrayList<>();
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition notFull = lock.newCondition();
+	private final ArrayDeque<T> returned = new ArrayDeque<>();
+	private int inFlight;
+	private int putWaiters;
+	private boolean closed;
+	private Throwable failure;
+
+	//region - Constructors
+	public QueuePublisher(Queue<T> queue, int capacity) {
+		this(queue, capacity, DEFAULT_MAX_BATCH, VIRTUAL_THREADS);
+	}
+
+	public QueuePublisher(Queue<T> queue, int capacity, int maxBatch, Executor executor) {
+		this.queue = Objects.requireNonNull(queue);
+		this.executor = Objects.requireNonNull(executor);
+
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+		}
+
+		if (maxBatch <= 0) {
+			throw new IllegalArgumentException("Max batch must be positive: " + maxBatch);
+		}
+
+		this.capacity = capacity;
+		this.maxBatch = maxBatch;
+	}
+	//endregion
+
+	//region - Publishing
+	@Override
+	public void subscribe(Flow.Subscriber<? super T> subscriber) {
+		var subscription = new QueueSubscription(Objects.requireNonNull(subscriber));
+		subscriptions.add(subscription);
+		executor.execute(subscription::run);
+	}
+
+	/** Adds an element, waiting while the buffer is full. */
+	public void submit(T value) throws InterruptedException {
+		Objects.requireNonNull(value, "QueuePublisher does not accept null values");
+
+		lock.lockInterruptibly();
+		try {
+			while (!closed && isFull()) {
+				putWaiters++;
+				try {
+					notFull.await();
+				} finally {
+					putWaiters--;
+				}
+			}
+
+			insert(value);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/** Adds an element if the buffer has room; returns {@code false} otherwise. */
+	public boolean offer(T value) {
+		Objects.requireNonNull(value, "QueuePublisher does not accept null values");
+
+		lock.lock();
+		try {
+			if (!closed && isFull()) {
+				return false;
+			}
+
+			insert(value);
+			return true;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public boolean offer(T value, long timeout, TimeUnit unit) throws InterruptedException {
+		Objects.requireNonNull(value, "QueuePublisher does not accept null values");
+		long nanos = unit.toNanos(timeout);
+
+		lock.lockInterruptibly();
+		try {
+			while (!closed && isFull()) {
+				if (nanos <= 0) {
+					return false;
+				}
+
+				putWaiters++;
+				try {
+					nanos = notFull.awaitNanos(nanos);
+				} finally {
+					putWaiters--;
+				}
+			}
+
+			insert(value);
+			return true;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/** Stops accepting elements; subscribers receive what is buffered, then {@code onComplete}. */
+	@Override
+	public void close() {
+		terminate(null);
+	}
+
+	/** Stops accepting elements; subscribers receive what is buffered, then {@code onError(failure)}. */
+	public void closeExceptionally(Throwable failure) {
+		terminate(Objects.requireNonNull(failure));
+	}
+	//endregion
+
+	//region - Utilities
+	/** Elements buffered and not yet taken by a drain loop. */
+	public int buffered() {
+		lock.lock();
+		try {
+			return returned.size() + queue.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public int capacity() {
+		return capacity;
+	}
+
+	public int maxBatch() {
+		return maxBatch;
+	}
+
+	public int subscriberCount() {
+		return subscriptions.size();
+	}
+
+	public boolean isClosed() {
+		lock.lock();
+		try {
+			return closed;
+		} finally {
+			lock.unlock();
+		}
+	}
+	//endregion
+
+	//region - Private Helpers
+	private void insert(T value) {
+		if (closed) {
+			throw new IllegalStateException("Publisher is closed");
+		}
+
+		boolean wasEmpty = !hasBuffered();
+		queue.enqueue(value);
+
+		// Only the empty-to-non-empty transition can find drain loops parked on an empty buffer.
+		if (wasEmpty) {
+			wakeUpAll();
+		}
+	}
+
+	// Elements still in a drain loop's batch hold their slot, so handing back the rest of a batch cannot overfill.
+	private boolean isFull() {
+		return returned.size() + queue.size() + inFlight >= capacity;
+	}
+
+	private boolean hasBuffered() {
+		return !returned.isEmpty() || !queue.isEmpty();
+	}
+
+	private void wakeUpAll() {
+		for (var subscription : subscriptions) {
+			subscription.wakeUp.signal();
+		}
+	}
+
+	private void terminate(Throwable cause) {
+		lock.lock();
+		try {
+			if (closed) {
+				return;
+			}
+
+			closed = true;
+			failure = cause;
+			notFull.signalAll();
+			wakeUpAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+	//endregion
+
+	@Override
+	public String toString() {
+		return "QueuePublisher[buffered=" + buffered() + ", subscribers=" + subscriberCount() + "]";
+	}
+
+	//region - Subscription
+	private final class QueueSubscription implements Flow.Subscription {
+		private final Flow.Subscriber<? super T> subscriber;
+		private final Condition wakeUp = lock.newCondition();
+		private final List<T> batch = new ArrayList<>();
+		private int delivered;
+		private long demand;
+		private volatile boolean cancelled;
+		private Throwable invalidRequest;
+
+		QueueSubscription(Flow.Subscriber<? super T> subscriber) {
+			this.subscriber = subscriber;
+		}
+
+		@Override
+		public void request(long n) {
+			lock.lock();
+			try {
+				if (n <= 0) {
+					invalidRequest = new IllegalArgumentException("Request must be positive: " + n);
+				} else {
+					demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+				}
+
+				wakeUp.signal();
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		@Override
+		public void cancel() {
+			lock.lock();
+			try {
+				cancelled = true;
+				wakeUp.signal();
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		void run() {
+			try {
+				subscriber.onSubscribe(this);
+
+				while (takeBatch()) {
+					// cancel() may arrive from onNext or another thread; nothing more is signalled after it.
+					while (delivered < batch.size() && !cancelled) {
+						subscriber.onNext(batch.get(delivered++));
+					}
+
+					settleBatch();
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				finish(e);
+			} catch (Throwable e) {
+				finish(e);
+			} finally {
+				settleBatch();
+				subscriptions.remove(this);
+			}
+		}
+
+		// Delivered elements free their slots; the rest go back in front of the buffer for another subscriber to take.
+		private void settleBatch() {
+			if (batch.isEmpty()) {
+				return;
+			}
+
+			lock.lock();
+			try {
+				boolean wasEmpty = !hasBuffered();
+
+				for (int i = batch.size() - 1; i >= delivered; i--) {
+					returned.addFirst(batch.get(i));
+				}
+
+				inFlight -= batch.size();
+
+				for (int i = Math.min(delivered, putWaiters); i > 0; i--) {
+					notFull.signal();
+				}
+
+				if (wasEmpty && hasBuffered()) {
+					wakeUpAll();
+				}
+			} finally {
+				lock.unlock();
+			}
+
+			batch.clear();
+			delivered = 0;
+		}
+
+		// Fills the batch; returns false once the subscription is finished, after signalling the subscriber.
+		private boolean takeBatch() throws InterruptedException {
+			Throwable terminal;
+
+			lock.lockInterruptibly();
+			try {
+				while (!cancelled && invalidRequest == null && (demand == 0 || !hasBuffered())
+					&& !(closed && !hasBuffered())) {
+					wakeUp.await();
+				}
+
+				if (cancelled) {
+					return false;
+				}
+
+				if (invalidRequest == null && hasBuffered()) {
+					int limit = (int) Math.min(demand, maxBatch);
+
+					while (batch.size() < limit && !returned.isEmpty()) {
+						batch.add(returned.pollFirst());
+					}
+
+					queue.drainTo(batch::add, limit - batch.size());
+					demand -= batch.size();
+					inFlight += batch.size();
+					return true;
+				}
+
+				cancelled = true;
+				terminal = invalidRequest != null ? invalidRequest : failure;
+			} finally {
+				lock.unlock();
+			}
+
+			if (terminal == null) {
+				subscriber.onComplete();
+			} else {
+				subscriber.onError(terminal);
+			}
+
+			return false;
+		}
+
+		// A subscriber that throws from a callback is cancelled and told why, as Flow.Subscriber asks.
+		private void finish(Throwable cause) {
+			lock.lock();
+			try {
+				if (cancelled) {
+					return;
+				}
+
+				cancelled = true;
+			} finally {
+				lock.unlock();
+			}
+
+			subscriber.onError(cause);
+		}
+	}
+	//endregion
+}
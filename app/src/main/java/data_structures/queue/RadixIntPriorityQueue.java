@@ -0,0 +1,229 @@
+package data_structures.queue;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Monotone radix heap over {@code int} ids in {@code [0, maxId)} with {@code long} priorities: the same API as
+ * {@link IntPriorityQueue}, but a pushed or decreased priority may never be lower than the last popped one, which holds
+ * for Dijkstra with non-negative edge weights. Ids sit in 65 buckets by the highest bit in which their priority differs
+ * from the last popped priority, so push and decrease-key are O(1) and each id is redistributed at most 64 times over
+ * its lifetime.
+ * <p>
+ * Bucket arrays grow by doubling and are then reused, so pushes and pops stop allocating once the buckets have warmed
+ * up.
+ */
+@SuppressWarnings("unused")
+public class RadixIntPriorityQueue {
+
+	private static final int BUCKETS = 65;
+	private static final int INITIAL_BUCKET_CAPACITY = 8;
+
+	private final long[] priorities;
+	private final byte[] bucketOf;
+	private final int[] slotOf;
+	private final int[][] buckets = new int[BUCKETS][INITIAL_BUCKET_CAPACITY];
+	private final int[] bucketSizes = new int[BUCKETS];
+	private long last = Long.MIN_VALUE;
+	private int size;
+
+	//region - Constructors
+	public RadixIntPriorityQueue(int maxId) {
+		if (maxId < 0) {
+			throw new IllegalArgumentException("Max id must not be negative: " + maxId);
+		}
+
+		priorities = new long[maxId];
+		bucketOf = new byte[maxId];
+		slotOf = new int[maxId];
+		Arrays.fill(bucketOf, (byte) -1);
+	}
+	//endregion
+
+	//region - Queue Operations
+	public void push(int id, long priority) {
+		if (contains(id)) {
+			throw new IllegalArgumentException("Id is already queued: " + id);
+		}
+
+		checkMonotone(priority);
+		priorities[id] = priority;
+		append(bucketIndex(priority), id);
+		size++;
+	}
+
+	/** Inserts {@code id} or lowers its priority; returns {@code false} if it was already queued at or below it. */
+	public boolean pushOrDecrease(int id, long priority) {
+		if (!contains(id)) {
+			push(id, priority);
+			return true;
+		}
+
+		if (priority >= priorities[id]) {
+			return false;
+		}
+
+		decreaseKey(id, priority);
+		return true;
+	}
+
+	public int pop() {
+		int id = peek();
+		detach(id);
+		size--;
+		return id;
+	}
+
+	public int peek() {
+		if (size == 0) {
+			throw new IndexOutOfBoundsException("Queue is empty");
+		}
+
+		if (bucketSizes[0] == 0) {
+			redistribute();
+		}
+
+		return buckets[0][0];
+	}
+
+	public long peekPriority() {
+		return priorities[peek()];
+	}
+
+	public void decreaseKey(int id, long priority) {
+		checkQueued(id);
+
+		if (priority > priorities[id]) {
+			throw new IllegalArgumentException("New priority " + priority + " is greater than " + priorities[id]);
+		}
+
+		checkMonotone(priority);
+		detach(id);
+		priorities[id] = priority;
+		append(bucketIndex(priority), id);
+	}
+
+	public boolean remove(int id) {
+		if (!contains(id)) {
+			return false;
+		}
+
+		detach(id);
+		size--;
+		return true;
+	}
+	//endregion
+
+	//region - Utilities
+	public boolean contains(int id) {
+		return bucketOf[Objects.checkIndex(id, bucketOf.length)] >= 0;
+	}
+
+	public long priorityOf(int id) {
+		checkQueued(id);
+		return priorities[id];
+	}
+
+	/** Lowest priority that may still be pushed. */
+	public long lastPopped() {
+		return last;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public int maxId() {
+		return priorities.length;
+	}
+
+	public void clear() {
+		for (int b = 0; b < BUCKETS; b++) {
+			for (int i = 0; i < bucketSizes[b]; i++) {
+				bucketOf[buckets[b][i]] = -1;
+			}
+
+			bucketSizes[b] = 0;
+		}
+
+		size = 0;
+		last = Long.MIN_VALUE;
+	}
+	//endregion
+
+	//region - Private Helpers
+	// Bucket 0 holds priorities equal to last; bucket k > 0 those whose highest bit differing from last is k - 1.
+	private int bucketIndex(long priority) {
+		return priority == last ? 0 : 64 - Long.numberOfLeadingZeros(priority ^ last);
+	}
+
+	// Moves the smallest priority into last, then spreads the first non-empty bucket over strictly lower buckets.
+	private void redistribute() {
+		int b = 1;
+
+		while (bucketSizes[b] == 0) {
+			b++;
+		}
+
+		int[] bucket = buckets[b];
+		int count = bucketSizes[b];
+		long minimum = Long.MAX_VALUE;
+
+		for (int i = 0; i < count; i++) {
+			minimum = Math.min(minimum, priorities[bucket[i]]);
+		}
+
+		last = minimum;
+		bucketSizes[b] = 0;
+
+		for (int i = 0; i < count; i++) {
+			int id = bucket[i];
+			append(bucketIndex(priorities[id]), id);
+		}
+	}
+
+	private void append(int b, int id) {
+		int slot = bucketSizes[b]++;
+
+		if (slot == buckets[b].length) {
+			buckets[b] = Arrays.copyOf(buckets[b], slot * 2);
+		}
+
+		buckets[b][slot] = id;
+		bucketOf[id] = (byte) b;
+		slotOf[id] = slot;
+	}
+
+	// Swap-removes id from its bucket in O(1).
+	private void detach(int id) {
+		int b = bucketOf[id];
+		int slot = slotOf[id];
+		int lastSlot = --bucketSizes[b];
+		int moved = buckets[b][lastSlot];
+		buckets[b][slot] = moved;
+		slotOf[moved] = slot;
+		bucketOf[id] = -1;
+	}
+
+	private void checkQueued(int id) {
+		if (!contains(id)) {
+			throw new IllegalArgumentException("Id is not queued: " + id);
+		}
+	}
+
+	private void checkMonotone(long priority) {
+		if (priority < last) {
+			throw new IllegalArgumentException("Priority " + priority + " is below last popped priority " + last);
+		}
+	}
+	//endregion
+
+	@Override
+	public String toString() {
+		return "RadixIntPriorityQueue[size=" + size + ", maxId=" + maxId() + "]";
+	}
+}
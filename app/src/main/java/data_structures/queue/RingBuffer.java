@@ -0,0 +1,559 @@
+package data_structures.queue;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Single-producer multicast ring buffer in the style of the LMAX Disruptor. Slots are allocated once by a factory and
+ * then mutated in place, so publishing an event allocates nothing. The producer claims a sequence with {@link #next()},
+ * fills {@link #get(long)} and makes it visible with {@link #publish(long)}; every consumer stage reads the same slots
+ * through a {@link SequenceBarrier} that waits for the producer cursor and, optionally, for upstream stages, which is
+ * how dependency graphs such as {@code journal -> business logic} are expressed.
+ * <p>
+ * The producer never overwrites a slot that a gating sequence (normally the last stage of each branch) has not moved
+ * past; register those with {@link #addGatingSequences(Sequence...)}. Only one thread may claim and publish.
+ */
+@SuppressWarnings({"unchecked", "unused"})
+public class RingBuffer<E> {
+
+	private final Object[] entries;
+	private final int mask;
+	private final Sequence cursor = new Sequence();
+	private final WaitStrategy waitStrategy;
+	private volatile Sequence[] gatingSequences = new Sequence[0];
+
+	// Producer-owned: last claimed sequence and last observed minimum gating sequence.
+	private long nextValue = Sequence.INITIAL;
+	private long cachedGating = Sequence.INITIAL;
+
+	//region - Constructors
+	public RingBuffer(Supplier<? extends E> factory, int requestedCapacity, WaitStrategy waitStrategy) {
+		Objects.requireNonNull(factory);
+		Objects.requireNonNull(waitStrategy);
+
+		if (requestedCapacity <= 0 || requestedCapacity > 1 << 30) {
+			throw new IllegalArgumentException("Capacity must be in [1, 2^30]: " + requestedCapacity);
+		}
+
+		int capacity = 1 << (32 - Integer.numberOfLeadingZeros(requestedCapacity - 1));
+		entries = new Object[capacity];
+		mask = capacity - 1;
+		this.waitStrategy = waitStrategy;
+
+		for (int i = 0; i < capacity; i++) {
+			entries[i] = Objects.requireNonNull(factory.get(), "Event factory returned null");
+		}
+	}
+
+	public RingBuffer(Supplier<? extends E> factory, int requestedCapacity) {
+		this(factory, requestedCapacity, WaitStrategy.blocking());
+	}
+	//endregion
+
+	//region - Producer
+	public long next() {
+		return next(1);
+	}
+
+	/** Claims {@code n} consecutive sequences and returns the highest, waiting while the ring is full. */
+	public long next(int n) {
+		if (n < 1 || n > entries.length) {
+			throw new IllegalArgumentException("Batch size must be in [1, " + entries.length + "]: " + n);
+		}
+
+		long next = nextValue + n;
+		long wrapPoint = next - entries.length;
+
+		if (wrapPoint > cachedGating) {
+			long minimum;
+
+			while (wrapPoint > (minimum = minimumGatingSequence(nextValue))) {
+				LockSupport.parkNanos(1);
+			}
+
+			cachedGating = minimum;
+		}
+
+		nextValue = next;
+		return next;
+	}
+
+	/** Like {@link #next(int)} but throws {@link IllegalStateException} instead of waiting when the ring is full. */
+	public long tryNext(int n) {
+		if (n < 1 || n > entries.length) {
+			throw new IllegalArgumentException("Batch size must be in [1, " + entries.length + "]: " + n);
+		}
+
+		long next = nextValue + n;
+		long wrapPoint = next - entries.length;
+
+		if (wrapPoint > cachedGating) {
+			cachedGating = minimumGatingSequence(nextValue);
+
+			if (wrapPoint > cachedGating) {
+				throw new IllegalStateException("Ring buffer is full");
+			}
+		}
+
+		nextValue = next;
+		return next;
+	}
+
+	public E get(long sequence) {
+		return (E) entries[(int) sequence & mask];
+	}
+
+	public void publish(long sequence) {
+		cursor.set(sequence);
+		waitStrategy.signalAllWhenBlocking();
+	}
+
+	/** Publishes a batch claimed with {@link #next(int)}; only {@code hi} matters because there is a single producer. */
+	public void publish(long lo, long hi) {
+		publish(hi);
+	}
+
+	public <A> void publishEvent(BiConsumer<? super E, ? super A> translator, A argument) {
+		long sequence = next();
+
+		try {
+			translator.accept(get(sequence), argument);
+		} finally {
+			publish(sequence);
+		}
+	}
+
+	public <A> boolean tryPublishEvent(BiConsumer<? super E, ? super A> translator, A argument) {
+		long sequence;
+
+		try {
+			sequence = tryNext(1);
+		} catch (IllegalStateException e) {
+			return false;
+		}
+
+		try {
+			translator.accept(get(sequence), argument);
+		} finally {
+			publish(sequence);
+		}
+
+		return true;
+	}
+	//endregion
+
+	//region - Consumers
+	/** Creates a barrier that waits for the producer cursor and, if given, for every upstream stage. */
+	public SequenceBarrier newBarrier(Sequence... dependents) {
+		return new SequenceBarrier(cursor, waitStrategy, dependents.clone());
+	}
+
+	public synchronized void addGatingSequences(Sequence... sequences) {
+		long current = cursor.get();
+		var updated = Arrays.copyOf(gatingSequences, gatingSequences.length + sequences.length);
+
+		for (int i = 0; i < sequences.length; i++) {
+			sequences[i].set(current);
+			updated[gatingSequences.length + i] = sequences[i];
+		}
+
+		gatingSequences = updated;
+	}
+
+	public synchronized boolean removeGatingSequence(Sequence sequence) {
+		var current = gatingSequences;
+
+		for (int i = 0; i < current.length; i++) {
+			if (current[i] == sequence) {
+				var updated = new Sequence[current.length - 1];
+				System.arraycopy(current, 0, updated, 0, i);
+				System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+				gatingSequences = updated;
+				return true;
+			}
+		}
+
+		return false;
+	}
+	//endregion
+
+	//region - Utilities
+	public long cursor() {
+		return cursor.get();
+	}
+
+	public int capacity() {
+		return entries.length;
+	}
+
+	public long remainingCapacity() {
+		return entries.length - (nextValue - minimumGatingSequence(nextValue));
+	}
+	//endregion
+
+	//region - Private Helpers
+	private long minimumGatingSequence(long fallback) {
+		long minimum = fallback;
+
+		for (Sequence sequence : gatingSequences) {
+			minimum = Math.min(minimum, sequence.get());
+		}
+
+		return minimum;
+	}
+	//endregion
+
+	@Override
+	public String toString() {
+		return "RingBuffer[cursor=" + cursor() + ", capacity=" + capacity() + "]";
+	}
+
+	//region - Sequence
+	/** Padded monotonically increasing counter; written with release stores and read with acquire loads. */
+	public static final class Sequence {
+		static final long INITIAL = -1L;
+		private static final VarHandle VALUE;
+
+		static {
+			try {
+				VALUE = MethodHandles.lookup().findVarHandle(Sequence.class, "value", long.class);
+			} catch (ReflectiveOperationException e) {
+				throw new ExceptionInInitializerError(e);
+			}
+		}
+
+		long p01, p02, p03, p04, p05, p06, p07;
+		private long value = INITIAL;
+		long p11, p12, p13, p14, p15, p16, p17;
+
+		public long get() {
+			return (long) VALUE.getAcquire(this);
+		}
+
+		public void set(long sequence) {
+			VALUE.setRelease(this, sequence);
+		}
+
+		@Override
+		public String toString() {
+			return Long.toString(get());
+		}
+	}
+	//endregion
+
+	//region - Sequence Barrier
+	/** Coordinates one consumer stage with the producer cursor and the stages it depends on. */
+	public static final class SequenceBarrier {
+		private final Sequence cursor;
+		private final WaitStrategy waitStrategy;
+		private final Sequence[] dependents;
+		private volatile boolean alerted;
+
+		private SequenceBarrier(Sequence cursor, WaitStrategy waitStrategy, Sequence[] dependents) {
+			this.cursor = cursor;
+			this.waitStrategy = waitStrategy;
+			this.dependents = dependents;
+		}
+
+		/**
+		 * Waits until {@code sequence} is available and returns the highest available sequence, which may be larger so
+		 * the caller can process a batch. Throws {@link InterruptedException} if the barrier is alerted.
+		 */
+		public long waitFor(long sequence) throws InterruptedException {
+			checkAlert();
+			return waitStrategy.waitFor(sequence, this);
+		}
+
+		/** Highest sequence that every dependency has reached: the cursor, or the slowest upstream stage. */
+		public long availableSequence() {
+			if (dependents.length == 0) {
+				return cursor.get();
+			}
+
+			long minimum = Long.MAX_VALUE;
+
+			for (Sequence dependent : dependents) {
+				minimum = Math.min(minimum, dependent.get());
+			}
+
+			return minimum;
+		}
+
+		public long cursorSequence() {
+			return cursor.get();
+		}
+
+		public void alert() {
+			alerted = true;
+			waitStrategy.signalAllWhenBlocking();
+		}
+
+		public void clearAlert() {
+			alerted = false;
+		}
+
+		public boolean isAlerted() {
+			return alerted;
+		}
+
+		public void checkAlert() throws InterruptedException {
+			if (alerted) {
+				throw new InterruptedException("Sequence barrier alerted");
+			}
+		}
+	}
+	//endregion
+
+	//region - Wait Strategies
+	/** How a consumer waits for a sequence; trades latency against CPU use. */
+	public interface WaitStrategy {
+
+		long waitFor(long sequence, SequenceBarrier barrier) throws InterruptedException;
+
+		/** Called after every publish and alert; only strategies that block need to act on it. */
+		default void signalAllWhenBlocking() {
+		}
+
+		/** Lowest latency; burns a core per consumer. */
+		static WaitStrategy busySpin() {
+			return (sequence, barrier) -> {
+				long available;
+
+				while ((available = barrier.availableSequence()) < sequence) {
+					barrier.checkAlert();
+					Thread.onSpinWait();
+				}
+
+				return available;
+			};
+		}
+
+		/** Spins briefly, then yields the core to other runnable threads. */
+		static WaitStrategy yielding() {
+			return (sequence, barrier) -> {
+				long available;
+				int spins = 100;
+
+				while ((available = barrier.availableSequence()) < sequence) {
+					barrier.checkAlert();
+
+					if (spins > 0) {
+						spins--;
+						Thread.onSpinWait();
+					} else {
+						Thread.yield();
+					}
+				}
+
+				return available;
+			};
+		}
+
+		/** Spins, yields, then parks for {@code parkTime} between checks; a compromise for mostly idle consumers. */
+		static WaitStrategy parking(long parkTime, TimeUnit unit) {
+			long parkNanos = unit.toNanos(parkTime);
+
+			if (parkNanos <= 0) {
+				throw new IllegalArgumentException("Park time must be positive: " + parkTime);
+			}
+
+			return (sequence, barrier) -> {
+				long available;
+				int counter = 200;
+
+				while ((available = barrier.availableSequence()) < sequence) {
+					barrier.checkAlert();
+
+					if (counter > 100) {
+						counter--;
+						Thread.onSpinWait();
+					} else if (counter > 0) {
+						counter--;
+						Thread.yield();
+					} else {
+						LockSupport.parkNanos(parkNanos);
+					}
+				}
+
+				return available;
+			};
+		}
+
+		/** Sleeps on a condition until the producer publishes; lowest CPU use, highest wake-up latency. */
+		static WaitStrategy blocking() {
+			return new BlockingWaitStrategy();
+		}
+	}
+
+	private static final class BlockingWaitStrategy implements WaitStrategy {
+		private final ReentrantLock lock = new ReentrantLock();
+		private final Condition published = lock.newCondition();
+		private volatile boolean waiting;
+
+		@Override
+		public long waitFor(long sequence, SequenceBarrier barrier) throws InterruptedException {
+			if (barrier.cursorSequence() < sequence) {
+				lock.lock();
+
+				try {
+					while (true) {
+						waiting = true;
+						VarHandle.fullFence();
+
+						if (barrier.cursorSequence() >= sequence) {
+							break;
+						}
+
+						barrier.checkAlert();
+						published.await();
+					}
+				} finally {
+					lock.unlock();
+				}
+			}
+
+			// The cursor is ready; upstream stages are normally close behind, so spin for them.
+			long available;
+
+			while ((available = barrier.availableSequence()) < sequence) {
+				barrier.checkAlert();
+				Thread.onSpinWait();
+			}
+
+			return available;
+		}
+
+		// The flag spares the producer the lock round trip while nobody is asleep. Both sides fence between writing
+		// their own variable and reading the other's, so a waiter either sees the new cursor or gets signalled.
+		@Override
+		public void signalAllWhenBlocking() {
+			VarHandle.fullFence();
+
+			if (waiting) {
+				lock.lock();
+
+				try {
+					waiting = false;
+					published.signalAll();
+				} finally {
+					lock.unlock();
+				}
+			}
+		}
+	}
+	//endregion
+
+	//region - Event Processor
+	/** Callback for a consumer stage; {@code endOfBatch} lets handlers flush once per batch. */
+	@FunctionalInterface
+	public interface EventHandler<E> {
+		void onEvent(E event, long sequence, boolean endOfBatch) throws Exception;
+	}
+
+	/**
+	 * Runs one consumer stage: waits on its barrier, hands every available event to the handler and then advances its
+	 * own {@link #sequence()}, which downstream stages and the producer's gating use. Exceptions from the handler stop
+	 * the processor and are available from {@link #failure()}.
+	 */
+	public static final class EventProcessor<E> implements Runnable {
+		private static final int IDLE = 0;
+		private static final int HALTED = 1;
+		private static final int RUNNING = 2;
+		private static final VarHandle STATE;
+
+		static {
+			try {
+				STATE = MethodHandles.lookup().findVarHandle(EventProcessor.class, "state", int.class);
+			} catch (ReflectiveOperationException e) {
+				throw new ExceptionInInitializerError(e);
+			}
+		}
+
+		private final RingBuffer<E> ringBuffer;
+		private final SequenceBarrier barrier;
+		private final EventHandler<? super E> handler;
+		private final Sequence sequence = new Sequence();
+		private volatile int state = IDLE;
+		private volatile Throwable failure;
+
+		public EventProcessor(RingBuffer<E> ringBuffer, SequenceBarrier barrier, EventHandler<? super E> handler) {
+			this.ringBuffer = Objects.requireNonNull(ringBuffer);
+			this.barrier = Objects.requireNonNull(barrier);
+			this.handler = Objects.requireNonNull(handler);
+		}
+
+		public Sequence sequence() {
+			return sequence;
+		}
+
+		public boolean isRunning() {
+			return state == RUNNING;
+		}
+
+		public Throwable failure() {
+			return failure;
+		}
+
+		/**
+		 * Stops the processor once it has finished the batch in hand. A halt that lands before {@link #run()} makes that
+		 * run return straight away.
+		 */
+		public void halt() {
+			state = HALTED;
+			barrier.alert();
+		}
+
+		@Override
+		public void run() {
+			if (!STATE.compareAndSet(this, IDLE, RUNNING)) {
+				if (state == RUNNING) {
+					throw new IllegalStateException("EventProcessor is already running");
+				}
+
+				// Halted before it started: consume the halt and leave the processor ready for another run.
+				STATE.compareAndSet(this, HALTED, IDLE);
+				return;
+			}
+
+			barrier.clearAlert();
+			long next = sequence.get() + 1;
+
+			try {
+				while (state == RUNNING) {
+					long available;
+
+					try {
+						available = barrier.waitFor(next);
+					} catch (InterruptedException e) {
+						if (state != RUNNING) {
+							break;
+						}
+
+						// Alerted by someone other than halt(): clear it, or every later waitFor throws at once.
+						barrier.clearAlert();
+						continue;
+					}
+
+					for (; next <= available; next++) {
+						handler.onEvent(ringBuffer.get(next), next, next == available);
+					}
+
+					sequence.set(available);
+				}
+			} catch (Throwable t) {
+				failure = t;
+			} finally {
+				state = IDLE;
+			}
+		}
+	}
+	//endregion
+}
@@ -0,0 +1,314 @@
+package data_structures.queue;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Objects;
+
+/**
+ * Unbounded FIFO whose heap footprint is capped at {@code memoryBudget} elements. The oldest elements sit in an
+ * in-memory head, the newest in an in-memory tail. Once the head is full, each time the tail fills up its
+ * {@code memoryBudget / 2} elements are written to a temporary segment file with the {@link Serializer}, and the tail
+ * is reused. When the head runs dry it is refilled from the oldest segment, which is read back sequentially through a
+ * {@link FileChannel} and then deleted, so FIFO order is preserved across memory and disk.
+ * <p>
+ * {@link #contains(Object)} has to read every spilled segment back and is correspondingly slow. {@link #close()}
+ * deletes all remaining segment files, and also the directory when the queue created it. Not thread-safe.
+ */
+@SuppressWarnings("unused")
+public class SpillingQueue<T> implements Queue<T>, Closeable {
+
+	private final Serializer<T> serializer;
+	private final Path directory;
+	private final boolean ownsDirectory;
+	private final int segmentElements;
+
+	private final ArrayDeque<T> head;
+	private final ArrayDeque<T> tail;
+	private final ArrayDeque<Segment> segments = new ArrayDeque<>();
+	private long spilledElements;
+	private long nextSegmentId;
+	private long segmentsWritten;
+
+	//region - Constructors
+	public SpillingQueue(Serializer<T> serializer, int memoryBudget) {
+		this(serializer, memoryBudget, null, true);
+	}
+
+	public SpillingQueue(Serializer<T> serializer, int memoryBudget, Path directory) {
+		this(serializer, memoryBudget, Objects.requireNonNull(directory), false);
+	}
+
+	// A null directory means a fresh temporary one, created only once the arguments have been checked.
+	private SpillingQueue(Serializer<T> serializer, int memoryBudget, Path directory, boolean ownsDirectory) {
+		if (memoryBudget < 2) {
+			throw new IllegalArgumentException("Memory budget must be at least 2: " + memoryBudget);
+		}
+
+		this.serializer = Objects.requireNonNull(serializer);
+		this.directory = directory == null ? createTempDirectory() : directory;
+		this.ownsDirectory = ownsDirectory;
+		segmentElements = memoryBudget / 2;
+		head = new ArrayDeque<>(segmentElements);
+		tail = new ArrayDeque<>(segmentElements);
+
+		try {
+			Files.createDirectories(this.directory);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	//endregion
+
+	//region - Queue Operations
+	@Override
+	public void enqueue(T value) {
+		Objects.requireNonNull(value, "SpillingQueue does not accept null values");
+
+		if (segments.isEmpty() && tail.isEmpty() && head.size() < segmentElements) {
+			head.addLast(value);
+			return;
+		}
+
+		tail.addLast(value);
+
+		// A failed spill leaves the tail over size, so the next enqueue tries again.
+		if (tail.size() >= segmentElements) {
+			spillTail();
+		}
+	}
+
+	@Override
+	public T dequeue() {
+		if (!fillHead()) {
+			throw new IndexOutOfBoundsException("Queue is empty");
+		}
+
+		return head.pollFirst();
+	}
+
+	@Override
+	public T peek() {
+		if (!fillHead()) {
+			throw new IndexOutOfBoundsException("Queue is empty");
+		}
+
+		return head.peekFirst();
+	}
+	//endregion
+
+	//region - Utilities
+	@Override
+	public int size() {
+		return (int) Math.min(Integer.MAX_VALUE, head.size() + spilledElements + tail.size());
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return head.isEmpty() && spilledElements == 0 && tail.isEmpty();
+	}
+
+	/** Elements currently held on the heap; never more than the memory budget. */
+	public int inMemory() {
+		return head.size() + tail.size();
+	}
+
+	public int spilledSegments() {
+		return segments.size();
+	}
+
+	/** Total number of segment files written since construction, a measure of spill traffic. */
+	public long segmentsWritten() {
+		return segmentsWritten;
+	}
+
+	@Override
+	public boolean contains(T value) {
+		if (value == null) {
+			return false;
+		}
+
+		if (head.contains(value) || tail.contains(value)) {
+			return true;
+		}
+
+		for (var segment : segments) {
+			try (var in = open(segment)) {
+				for (int i = 0; i < segment.count; i++) {
+					if (value.equals(serializer.read(in))) {
+						return true;
+					}
+				}
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+
+		return false;
+	}
+
+	@Override
+	public void clear() {
+		head.clear();
+		tail.clear();
+
+		while (!segments.isEmpty()) {
+			delete(segments.pollFirst());
+		}
+
+		spilledElements = 0;
+	}
+
+	@Override
+	public void close() {
+		clear();
+
+		if (ownsDirectory) {
+			try {
+				Files.deleteIfExists(directory);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+
+	public Path directory() {
+		return directory;
+	}
+	//endregion
+
+	//region - Private Helpers
+	private boolean fillHead() {
+		if (!head.isEmpty()) {
+			return true;
+		}
+
+		if (!segments.isEmpty()) {
+			var segment = segments.pollFirst();
+
+			try (var in = open(segment)) {
+				for (int i = 0; i < segment.count; i++) {
+					head.addLast(serializer.read(in));
+				}
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+
+			spilledElements -= segment.count;
+			delete(segment);
+			return true;
+		}
+
+		while (!tail.isEmpty()) {
+			head.addLast(tail.pollFirst());
+		}
+
+		return !head.isEmpty();
+	}
+
+	private void spillTail() {
+		var segment = new Segment(directory.resolve("spill-" + nextSegmentId++ + ".bin"), tail.size());
+
+		try (var channel = FileChannel.open(segment.path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+			var out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16))) {
+			for (T value : tail) {
+				serializer.write(value, out);
+			}
+		} catch (IOException e) {
+			try {
+				Files.deleteIfExists(segment.path);
+			} catch (IOException suppressed) {
+				e.addSuppressed(suppressed);
+			}
+
+			throw new UncheckedIOException(e);
+		}
+
+		segments.addLast(segment);
+		spilledElements += segment.count;
+		segmentsWritten++;
+		tail.clear();
+	}
+
+	private static DataInputStream open(Segment segment) throws IOException {
+		var channel = FileChannel.open(segment.path, StandardOpenOption.READ);
+		return new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel), 1 << 16));
+	}
+
+	private static void delete(Segment segment) {
+		try {
+			Files.deleteIfExists(segment.path);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static Path createTempDirectory() {
+		try {
+			return Files.createTempDirectory("spilling-queue");
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	//endregion
+
+	@Override
+	public String toString() {
+		return "SpillingQueue[size=" + size() + ", inMemory=" + inMemory() + ", spilledSegments=" + spilledSegments()
+			+ "]";
+	}
+
+	//region - Serializer
+	/** Writes and reads one element; called sequentially so implementations need no framing of their own. */
+	public interface Serializer<T> {
+		void write(T value, DataOutput out) throws IOException;
+
+		T read(DataInput in) throws IOException;
+
+		static Serializer<String> strings() {
+			return new Serializer<>() {
+				@Override
+				public void write(String value, DataOutput out) throws IOException {
+					out.writeUTF(value);
+				}
+
+				@Override
+				public String read(DataInput in) throws IOException {
+					return in.readUTF();
+				}
+			};
+		}
+
+		static Serializer<Long> longs() {
+			return new Serializer<>() {
+				@Override
+				public void write(Long value, DataOutput out) throws IOException {
+					out.writeLong(value);
+				}
+
+				@Override
+				public Long read(DataInput in) throws IOException {
+					return in.readLong();
+				}
+			};
+		}
+	}
+	//endregion
+
+	//region - Segment
+	private record Segment(Path path, int count) {
+	}
+	//endregion
+}
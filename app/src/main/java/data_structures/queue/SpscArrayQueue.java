@@ -0,0 +1,270 @@
+package data_structures.queue;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Lock-free bounded ring buffer for exactly one producer thread and one consumer thread. The circular layout is the
+ * same as {@link ArrayQueue}, but capacity is rounded up to a power of two so slots are found by masking, the producer
+ * and consumer each own a padded cursor, and each side caches the other side's last seen cursor so it only touches the
+ * shared cache line when the cached value says the queue looks full or empty. Cursors are published with release
+ * stores (the equivalent of {@code lazySet}).
+ * <p>
+ * {@link #offer(Object)}, {@link #enqueue(Object)} and {@code enqueueAll} may only be called from the producer thread;
+ * {@link #poll()}, {@link #dequeue()}, {@link #peek()}, {@code drainTo}, {@code dequeueBatch} and {@link #clear()}
+ * only from the consumer thread. The batch operations publish their cursor once per batch rather than per element.
+ * {@link #size()}, {@link #isEmpty()} and {@link #contains(Object)} are safe from any thread but only approximate under
+ * concurrent use.
+ */
+@SuppressWarnings({"unchecked", "unused"})
+public class SpscArrayQueue<T> implements Queue<T> {
+
+	private static final VarHandle CURSOR;
+	private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(Object[].class);
+
+	static {
+		try {
+			CURSOR = MethodHandles.lookup().findVarHandle(Cursor.class, "value", long.class);
+		} catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	private final Object[] buffer;
+	private final int mask;
+	private final Cursor tail = new Cursor();
+	private final Cursor head = new Cursor();
+
+	//region - Constructors
+	public SpscArrayQueue(int requestedCapacity) {
+		if (requestedCapacity <= 0 || requestedCapacity > 1 << 30) {
+			throw new IllegalArgumentException("Capacity must be in [1, 2^30]: " + requestedCapacity);
+		}
+
+		int capacity = 1 << (32 - Integer.numberOfLeadingZeros(requestedCapacity - 1));
+		buffer = new Object[capacity];
+		mask = capacity - 1;
+	}
+	//endregion
+
+	//region - Producer
+	public boolean offer(T value) {
+		Objects.requireNonNull(value, "SpscArrayQueue does not accept null values");
+
+		long t = tail.value;
+
+		if (t - tail.cache >= buffer.length) {
+			tail.cache = (long) CURSOR.getAcquire(head);
+
+			if (t - tail.cache >= buffer.length) {
+				return false;
+			}
+		}
+
+		buffer[(int) t & mask] = value;
+		CURSOR.setRelease(tail, t + 1);
+		return true;
+	}
+
+	@Override
+	public void enqueue(T value) {
+		if (!offer(value)) {
+			throw new IllegalStateException("Queue is full");
+		}
+	}
+
+	@Override
+	public void enqueueAll(T[] src, int off, int len) {
+		Objects.checkFromIndexSize(off, len, src.length);
+
+		for (int i = off; i < off + len; i++) {
+			Objects.requireNonNull(src[i], "SpscArrayQueue does not accept null values");
+		}
+
+		long t = tail.value;
+
+		if (t + len - tail.cache > buffer.length) {
+			tail.cache = (long) CURSOR.getAcquire(head);
+
+			if (t + len - tail.cache > buffer.length) {
+				throw new IllegalStateException("Queue is full");
+			}
+		}
+
+		int start = (int) t & mask;
+		int firstRun = Math.min(len, buffer.length - start);
+
+		System.arraycopy(src, off, buffer, start, firstRun);
+		System.arraycopy(src, off + firstRun, buffer, 0, len - firstRun);
+		CURSOR.setRelease(tail, t + len);
+	}
+	//endregion
+
+	//region - Consumer
+	public T poll() {
+		long h = head.value;
+
+		if (h >= head.cache) {
+			head.cache = (long) CURSOR.getAcquire(tail);
+
+			if (h >= head.cache) {
+				return null;
+			}
+		}
+
+		int index = (int) h & mask;
+		T value = (T) buffer[index];
+		buffer[index] = null;
+		CURSOR.setRelease(head, h + 1);
+		return value;
+	}
+
+	@Override
+	public T dequeue() {
+		T value = poll();
+
+		if (value == null) {
+			throw new IndexOutOfBoundsException("Queue is empty");
+		}
+
+		return value;
+	}
+
+	@Override
+	public T peek() {
+		long h = head.value;
+
+		if (h >= head.cache) {
+			head.cache = (long) CURSOR.getAcquire(tail);
+
+			if (h >= head.cache) {
+				throw new IndexOutOfBoundsException("Queue is empty");
+			}
+		}
+
+		return (T) buffer[(int) h & mask];
+	}
+
+	@Override
+	public int drainTo(Consumer<? super T> consumer, int limit) {
+		Objects.requireNonNull(consumer);
+
+		long h = head.value;
+		int count = available(h, limit);
+		int drained = 0;
+
+		try {
+			while (drained < count) {
+				int index = (int) (h + drained) & mask;
+				T value = (T) buffer[index];
+				buffer[index] = null;
+				drained++;
+				consumer.accept(value);
+			}
+		} finally {
+			CURSOR.setRelease(head, h + drained);
+		}
+
+		return drained;
+	}
+
+	@Override
+	public int dequeueBatch(T[] dst) {
+		long h = head.value;
+		int count = available(h, dst.length);
+		int start = (int) h & mask;
+		int firstRun = Math.min(count, buffer.length - start);
+
+		System.arraycopy(buffer, start, dst, 0, firstRun);
+		System.arraycopy(buffer, 0, dst, firstRun, count - firstRun);
+		Arrays.fill(buffer, start, start + firstRun, null);
+		Arrays.fill(buffer, 0, count - firstRun, null);
+
+		CURSOR.setRelease(head, h + count);
+		return count;
+	}
+
+	@Override
+	public void clear() {
+		while (poll() != null) {
+			// discard
+		}
+	}
+
+	private int available(long h, int limit) {
+		if (limit <= 0) {
+			return 0;
+		}
+
+		if (head.cache - h < limit) {
+			head.cache = (long) CURSOR.getAcquire(tail);
+		}
+
+		return (int) Math.min(head.cache - h, limit);
+	}
+	//endregion
+
+	//region - Utilities
+	@Override
+	public int size() {
+		long before = (long) CURSOR.getAcquire(head);
+
+		while (true) {
+			long t = (long) CURSOR.getAcquire(tail);
+			long after = (long) CURSOR.getAcquire(head);
+
+			if (before == after) {
+				return (int) (t - after);
+			}
+
+			before = after;
+		}
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return (long) CURSOR.getAcquire(head) == (long) CURSOR.getAcquire(tail);
+	}
+
+	public int capacity() {
+		return buffer.length;
+	}
+
+	@Override
+	public boolean contains(T value) {
+		if (value == null) {
+			return false;
+		}
+
+		long h = (long) CURSOR.getAcquire(head);
+		long t = (long) CURSOR.getAcquire(tail);
+
+		for (long i = h; i < t; i++) {
+			if (value.equals(SLOTS.getAcquire(buffer, (int) i & mask))) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+	//endregion
+
+	@Override
+	public String toString() {
+		return "SpscArrayQueue[size=" + size() + ", capacity=" + capacity() + "]";
+	}
+
+	//region - Cursor
+	// A sequence plus the owner's cached copy of the opposite sequence, padded on both sides so the producer and
+	// consumer cursors never share a cache line with each other or with the buffer.
+	private static final class Cursor {
+		long p01, p02, p03, p04, p05, p06, p07;
+		long value;
+		long cache;
+		long p11, p12, p13, p14, p15, p16, p17;
+	}
+	//endregion
+}
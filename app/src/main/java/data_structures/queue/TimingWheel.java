@@ -0,0 +1,352 @@
+package data_structures.queue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel for large numbers of timeouts. Level 0 is a ring of {@code wheelSize} buckets, one per
+ * tick; each higher level is a ring whose buckets span a whole revolution of the level below. A timeout is filed in
+ * the lowest level whose range covers its deadline and falls to lower levels as time catches up. Each bucket is an
+ * intrusive doubly linked list, so {@link #schedule(Object, long, TimeUnit)} and {@link Timeout#cancel()} are O(1)
+ * no matter how many timeouts are pending. Deadlines beyond the top level wait in an overflow bucket.
+ * <p>
+ * Time only moves inside {@link #advance(Consumer)}, which reads the {@link Clock}, walks every elapsed tick and hands
+ * the timeouts due in each tick to the callback as one batch. Timeouts fire at tick granularity, never early. With a
+ * {@link ManualClock} the wheel is fully deterministic. Not thread-safe; drive it from one thread, as a timer loop
+ * would.
+ */
+@SuppressWarnings("unused")
+public class TimingWheel<T> {
+
+	private final Clock clock;
+	private final long tickNanos;
+	private final long startNanos;
+	private final int bits;
+	private final int mask;
+	private final Bucket<T>[][] levels;
+	private final Bucket<T> overflow = new Bucket<>();
+	private final List<T> batch = new ArrayList<>();
+	private long currentTick;
+	private int size;
+
+	//region - Constructors
+	public TimingWheel(Clock clock, long tickDuration, TimeUnit unit) {
+		this(clock, tickDuration, unit, 256, 4);
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public TimingWheel(Clock clock, long tickDuration, TimeUnit unit, int wheelSize, int levelCount) {
+		this.clock = Objects.requireNonNull(clock);
+		tickNanos = unit.toNanos(tickDuration);
+
+		if (tickNanos <= 0) {
+			throw new IllegalArgumentException("Tick duration must be positive: " + tickDuration);
+		}
+
+		if (wheelSize < 2 || wheelSize > 1 << 16) {
+			throw new IllegalArgumentException("Wheel size must be in [2, 2^16]: " + wheelSize);
+		}
+
+		int slots = 1 << (32 - Integer.numberOfLeadingZeros(wheelSize - 1));
+		bits = Integer.numberOfTrailingZeros(slots);
+		mask = slots - 1;
+
+		if (levelCount < 1 || bits * levelCount > 62) {
+			throw new IllegalArgumentException("Level count must be in [1, " + 62 / bits + "]: " + levelCount);
+		}
+
+		levels = new Bucket[levelCount][slots];
+
+		for (var level : levels) {
+			for (int i = 0; i < slots; i++) {
+				level[i] = new Bucket<>();
+			}
+		}
+
+		startNanos = clock.nanoTime();
+	}
+	//endregion
+
+	//region - Scheduling
+	/** Schedules {@code payload} to expire {@code delay} from now; a non-positive delay expires on the next tick. */
+	public Timeout<T> schedule(T payload, long delay, TimeUnit unit) {
+		long deadline = clock.nanoTime() + unit.toNanos(delay);
+		long elapsed = deadline - startNanos;
+		long deadlineTick = elapsed <= 0 ? 0 : (elapsed + tickNanos - 1) / tickNanos;
+
+		var timeout = new Timeout<>(this, payload, deadline, Math.max(deadlineTick, currentTick + 1));
+		place(timeout);
+		size++;
+		return timeout;
+	}
+
+	/**
+	 * Processes every tick up to the clock's current time. For each tick with due timeouts the callback receives them
+	 * as one list, which is reused and only valid during the call. Returns the number of timeouts that expired.
+	 */
+	public int advance(Consumer<? super List<T>> onExpired) {
+		Objects.requireNonNull(onExpired);
+		long targetTick = (clock.nanoTime() - startNanos) / tickNanos;
+		int expired = 0;
+
+		while (currentTick < targetTick) {
+			currentTick++;
+			cascade();
+			expired += expire(levels[0][(int) currentTick & mask], onExpired);
+		}
+
+		return expired;
+	}
+	//endregion
+
+	//region - Utilities
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public long currentTick() {
+		return currentTick;
+	}
+
+	public long tickNanos() {
+		return tickNanos;
+	}
+
+	public int wheelSize() {
+		return mask + 1;
+	}
+
+	public int levelCount() {
+		return levels.length;
+	}
+	//endregion
+
+	//region - Private Helpers
+	// Files a timeout in the lowest level whose digits above it agree with the current tick.
+	private void place(Timeout<T> timeout) {
+		long deadlineTick = timeout.deadlineTick;
+
+		for (int level = 0; level < levels.length; level++) {
+			if ((deadlineTick ^ currentTick) >>> (bits * (level + 1)) == 0) {
+				levels[level][(int) (deadlineTick >>> (bits * level)) & mask].append(timeout);
+				return;
+			}
+		}
+
+		overflow.append(timeout);
+	}
+
+	// When the current tick starts a new revolution of a level, the next bucket of the level above is redistributed.
+	// Higher levels go first so their timeouts can fall several levels in one tick.
+	private void cascade() {
+		if ((currentTick & ((1L << (bits * levels.length)) - 1)) == 0) {
+			refile(overflow);
+		}
+
+		for (int level = levels.length - 1; level > 0; level--) {
+			if ((currentTick & ((1L << (bits * level)) - 1)) == 0) {
+				refile(levels[level][(int) (currentTick >>> (bits * level)) & mask]);
+			}
+		}
+	}
+
+	private void refile(Bucket<T> bucket) {
+		var timeout = bucket.detachAll();
+
+		while (timeout != null) {
+			var next = timeout.next;
+			timeout.next = null;
+			timeout.prev = null;
+			place(timeout);
+			timeout = next;
+		}
+	}
+
+	private int expire(Bucket<T> bucket, Consumer<? super List<T>> onExpired) {
+		var timeout = bucket.detachAll();
+
+		if (timeout == null) {
+			return 0;
+		}
+
+		while (timeout != null) {
+			var next = timeout.next;
+			timeout.next = null;
+			timeout.prev = null;
+			timeout.state = Timeout.EXPIRED;
+			batch.add(timeout.payload);
+			timeout = next;
+		}
+
+		int count = batch.size();
+		size -= count;
+
+		try {
+			onExpired.accept(batch);
+		} finally {
+			batch.clear();
+		}
+
+		return count;
+	}
+	//endregion
+
+	@Override
+	public String toString() {
+		return "TimingWheel[size=" + size + ", tick=" + currentTick + "]";
+	}
+
+	//region - Clock
+	/** Monotonic time source in nanoseconds. */
+	@FunctionalInterface
+	public interface Clock {
+		long nanoTime();
+
+		static Clock system() {
+			return System::nanoTime;
+		}
+	}
+
+	/** Clock that only moves when told to, for deterministic tests and simulations. */
+	public static final class ManualClock implements Clock {
+		private long now;
+
+		public ManualClock() {
+			this(0);
+		}
+
+		public ManualClock(long startNanos) {
+			now = startNanos;
+		}
+
+		@Override
+		public long nanoTime() {
+			return now;
+		}
+
+		public void advance(long duration, TimeUnit unit) {
+			if (duration < 0) {
+				throw new IllegalArgumentException("Cannot move a clock backwards: " + duration);
+			}
+
+			now += unit.toNanos(duration);
+		}
+	}
+	//endregion
+
+	//region - Timeout
+	/** Handle for one scheduled payload. */
+	public static final class Timeout<T> {
+		private static final int PENDING = 0;
+		private static final int EXPIRED = 1;
+		private static final int CANCELLED = 2;
+
+		private final TimingWheel<T> wheel;
+		private final T payload;
+		private final long deadline;
+		private final long deadlineTick;
+		private int state = PENDING;
+		private Bucket<T> bucket;
+		private Timeout<T> prev;
+		private Timeout<T> next;
+
+		private Timeout(TimingWheel<T> wheel, T payload, long deadline, long deadlineTick) {
+			this.wheel = wheel;
+			this.payload = payload;
+			this.deadline = deadline;
+			this.deadlineTick = deadlineTick;
+		}
+
+		public T payload() {
+			return payload;
+		}
+
+		/** Deadline in the wheel's {@link Clock} time base. */
+		public long deadline() {
+			return deadline;
+		}
+
+		public boolean isPending() {
+			return state == PENDING;
+		}
+
+		public boolean isExpired() {
+			return state == EXPIRED;
+		}
+
+		public boolean isCancelled() {
+			return state == CANCELLED;
+		}
+
+		/** Unlinks the timeout from its bucket in O(1); returns {@code false} if it already expired or was cancelled. */
+		public boolean cancel() {
+			if (state != PENDING) {
+				return false;
+			}
+
+			state = CANCELLED;
+			bucket.unlink(this);
+			wheel.size--;
+			return true;
+		}
+
+		@Override
+		public String toString() {
+			return "Timeout[" + payload + ", deadline=" + deadline + "]";
+		}
+	}
+	//endregion
+
+	//region - Bucket
+	private static final class Bucket<T> {
+		private Timeout<T> head;
+		private Timeout<T> tail;
+
+		void append(Timeout<T> timeout) {
+			timeout.bucket = this;
+			timeout.prev = tail;
+
+			if (tail == null) {
+				head = timeout;
+			} else {
+				tail.next = timeout;
+			}
+
+			tail = timeout;
+		}
+
+		void unlink(Timeout<T> timeout) {
+			if (timeout.prev == null) {
+				head = timeout.next;
+			} else {
+				timeout.prev.next = timeout.next;
+			}
+
+			if (timeout.next == null) {
+				tail = timeout.prev;
+			} else {
+				timeout.next.prev = timeout.prev;
+			}
+
+			timeout.prev = null;
+			timeout.next = null;
+			timeout.bucket = null;
+		}
+
+		// Hands over the whole chain at once; the caller clears the links it walks.
+		Timeout<T> detachAll() {
+			var first = head;
+			head = null;
+			tail = null;
+			return first;
+		}
+	}
+	//endregion
+}
@@ -0,0 +1,291 @@
+package data_structures.stack;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fixed-capacity thread-safe LIFO buffer. {@link #put(Object)} and {@link #take()} block while the stack is full or
+ * empty, the timed {@code push}/{@code pop} overloads give up after a timeout, and the plain {@link Stack} methods
+ * never block. Waiting goes through {@link ReentrantLock}/{@link Condition} rather than monitors so a parked virtual
+ * thread releases its carrier. Null elements are rejected because {@code null} signals a timed-out {@code pop}.
+ */
+@SuppressWarnings({"unchecked", "unused"})
+public class BoundedBlockingStack<T> implements Stack<T> {
+
+	private final Object[] elements;
+	private int size;
+
+	private final ReentrantLock lock;
+	private final Condition notEmpty;
+	private final Condition notFull;
+
+	//region - Constructors
+	public BoundedBlockingStack(int capacity) {
+		this(capacity, false);
+	}
+
+	public BoundedBlockingStack(int capacity, boolean fair) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+		}
+
+		elements = new Object[capacity];
+		lock = new ReentrantLock(fair);
+		notEmpty = lock.newCondition();
+		notFull = lock.newCondition();
+	}
+	//endregion
+
+	//region - Stack Operations
+	@Override
+	public void push(T value) {
+		if (!offer(value)) {
+			throw new IllegalStateException("Stack is full");
+		}
+	}
+
+	@Override
+	public T pop() {
+		T value = poll();
+
+		if (value == null) {
+			throw new IndexOutOfBoundsException("Stack is empty");
+		}
+
+		return value;
+	}
+
+	@Override
+	public T peek() {
+		lock.lock();
+		try {
+			if (size == 0) {
+				throw new IndexOutOfBoundsException("Stack is empty");
+			}
+
+			return (T) elements[size - 1];
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public boolean offer(T value) {
+		Objects.requireNonNull(value);
+
+		lock.lock();
+		try {
+			if (size == elements.length) {
+				return false;
+			}
+
+			insert(value);
+			return true;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public T poll() {
+		lock.lock();
+		try {
+			return size == 0 ? null : extract();
+		} finally {
+			lock.unlock();
+		}
+	}
+	//endregion
+
+	//region - Blocking Operations
+	public void put(T value) throws InterruptedException {
+		Objects.requireNonNull(value);
+
+		lock.lockInterruptibly();
+		try {
+			while (size == elements.length) {
+				notFull.await();
+			}
+
+			insert(value);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public T take() throws InterruptedException {
+		lock.lockInterruptibly();
+		try {
+			while (size == 0) {
+				notEmpty.await();
+			}
+
+			return extract();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public boolean push(T value, long timeout, TimeUnit unit) throws InterruptedException {
+		Objects.requireNonNull(value);
+		long nanos = unit.toNanos(timeout);
+
+		lock.lockInterruptibly();
+		try {
+			while (size == elements.length) {
+				if (nanos <= 0) {
+					return false;
+				}
+
+				nanos = notFull.awaitNanos(nanos);
+			}
+
+			insert(value);
+			return true;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public T pop(long timeout, TimeUnit unit) throws InterruptedException {
+		long nanos = unit.toNanos(timeout);
+
+		lock.lockInterruptibly();
+		try {
+			while (size == 0) {
+				if (nanos <= 0) {
+					return null;
+				}
+
+				nanos = notEmpty.awaitNanos(nanos);
+			}
+
+			return extract();
+		} finally {
+			lock.unlock();
+		}
+	}
+	//endregion
+
+	//region - Batch Operations
+	public int drainTo(Collection<? super T> target) {
+		return drainTo(target, Integer.MAX_VALUE);
+	}
+
+	public int drainTo(Collection<? super T> target, int maxElements) {
+		Objects.requireNonNull(target);
+
+		if (maxElements <= 0) {
+			return 0;
+		}
+
+		lock.lock();
+		try {
+			int drained = Math.min(size, maxElements);
+
+			for (int i = 0; i < drained; i++) {
+				target.add((T) elements[--size]);
+				elements[size] = null;
+			}
+
+			if (drained > 0) {
+				notFull.signalAll();
+			}
+
+			return drained;
+		} finally {
+			lock.unlock();
+		}
+	}
+	//endregion
+
+	//region - Utilities
+	@Override
+	public int size() {
+		lock.lock();
+		try {
+			return size;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	public boolean isFull() {
+		return size() == elements.length;
+	}
+
+	public int capacity() {
+		return elements.length;
+	}
+
+	public int remainingCapacity() {
+		return elements.length - size();
+	}
+
+	@Override
+	public int search(T value) {
+		lock.lock();
+		try {
+			for (int i = size - 1; i >= 0; i--) {
+				if (elements[i].equals(value)) {
+					return size - i;
+				}
+			}
+
+			return -1;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public boolean contains(T value) {
+		return search(value) != -1;
+	}
+
+	public void clear() {
+		lock.lock();
+		try {
+			Arrays.fill(elements, 0, size, null);
+			size = 0;
+			notFull.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public Object[] toArray() {
+		lock.lock();
+		try {
+			return Arrays.copyOf(elements, size);
+		} finally {
+			lock.unlock();
+		}
+	}
+	//endregion
+
+	//region - Private Helpers
+	private void insert(T value) {
+		elements[size++] = value;
+		notEmpty.signal();
+	}
+
+	private T extract() {
+		T value = (T) elements[--size];
+		elements[size] = null;
+		notFull.signal();
+		return value;
+	}
+	//endregion
+
+	@Override
+	public String toString() {
+		return Arrays.toString(toArray());
+	}
+}
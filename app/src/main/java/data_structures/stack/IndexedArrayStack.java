@@ -0,0 +1,238 @@
+package data_structures.stack;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Array-backed stack with an opt-in value index. When indexing is enabled every distinct value maps to the ascending
+ * positions it occupies, so {@link #search(Object)}, {@link #contains(Object)} and {@link #count(Object)} are O(1)
+ * expected instead of a scan, at the cost of a hash update on every push and pop. Values must have consistent
+ * {@code equals}/{@code hashCode} while they are on the stack.
+ */
+@SuppressWarnings({"unchecked", "unused"})
+public class IndexedArrayStack<T> implements Stack<T>, Iterable<T> {
+
+	private static final int DEFAULT_CAPACITY = 10;
+
+	private Object[] elements;
+	private int size;
+	private Map<Object, Positions> index;
+
+	//region - Constructors
+	public IndexedArrayStack() {
+		this(DEFAULT_CAPACITY, false);
+	}
+
+	public IndexedArrayStack(boolean indexed) {
+		this(DEFAULT_CAPACITY, indexed);
+	}
+
+	public IndexedArrayStack(int initialCapacity, boolean indexed) {
+		if (initialCapacity <= 0) {
+			throw new IllegalArgumentException("Capacity must be positive: " + initialCapacity);
+		}
+
+		elements = new Object[initialCapacity];
+		index = indexed ? new HashMap<>() : null;
+	}
+	//endregion
+
+	//region - Stack Operations
+	@Override
+	public void push(T value) {
+		ensureCapacity();
+
+		if (index != null) {
+			index.computeIfAbsent(value, key -> new Positions()).add(size);
+		}
+
+		elements[size++] = value;
+	}
+
+	@Override
+	public T pop() {
+		if (isEmpty()) {
+			throw new IndexOutOfBoundsException("Stack is empty");
+		}
+
+		T value = (T) elements[--size];
+		elements[size] = null;
+
+		if (index != null) {
+			var positions = index.get(value);
+			positions.removeLast();
+
+			if (positions.isEmpty()) {
+				index.remove(value);
+			}
+		}
+
+		return value;
+	}
+
+	@Override
+	public T peek() {
+		if (isEmpty()) {
+			throw new IndexOutOfBoundsException("Stack is empty");
+		}
+
+		return (T) elements[size - 1];
+	}
+	//endregion
+
+	//region - Search
+	@Override
+	public int search(T value) {
+		if (index != null) {
+			var positions = index.get(value);
+			return positions == null ? -1 : size - positions.last();
+		}
+
+		for (int i = size - 1; i >= 0; i--) {
+			if (Objects.equals(elements[i], value)) {
+				return size - i;
+			}
+		}
+
+		return -1;
+	}
+
+	public boolean contains(T value) {
+		if (index != null) {
+			return index.containsKey(value);
+		}
+
+		return search(value) != -1;
+	}
+
+	public int count(T value) {
+		if (index != null) {
+			var positions = index.get(value);
+			return positions == null ? 0 : positions.size;
+		}
+
+		int count = 0;
+
+		for (int i = 0; i < size; i++) {
+			if (Objects.equals(elements[i], value)) {
+				count++;
+			}
+		}
+
+		return count;
+	}
+
+	public boolean isIndexed() {
+		return index != null;
+	}
+
+	public void setIndexed(boolean indexed) {
+		if (!indexed) {
+			index = null;
+			return;
+		}
+
+		if (index != null) {
+			return;
+		}
+
+		index = new HashMap<>();
+
+		for (int i = 0; i < size; i++) {
+			index.computeIfAbsent(elements[i], key -> new Positions()).add(i);
+		}
+	}
+	//endregion
+
+	//region - Utilities
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public void clear() {
+		Arrays.fill(elements, 0, size, null);
+		size = 0;
+
+		if (index != null) {
+			index.clear();
+		}
+	}
+
+	public Object[] toArray() {
+		return Arrays.copyOf(elements, size);
+	}
+	//endregion
+
+	//region - Private Helpers
+	private void ensureCapacity() {
+		if (size == elements.length) {
+			elements = Arrays.copyOf(elements, elements.length * 2);
+		}
+	}
+	//endregion
+
+	//region - Iterator
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<>() {
+			private int cursor = size - 1;
+
+			@Override
+			public boolean hasNext() {
+				return cursor >= 0;
+			}
+
+			@Override
+			public T next() {
+				if (cursor < 0) {
+					throw new IndexOutOfBoundsException();
+				}
+
+				return (T) elements[cursor--];
+			}
+		};
+	}
+	//endregion
+
+	@Override
+	public String toString() {
+		return Arrays.toString(toArray());
+	}
+
+	//region - Positions
+	private static final class Positions {
+
+		private int[] slots = new int[2];
+		private int size;
+
+		void add(int position) {
+			if (size == slots.length) {
+				slots = Arrays.copyOf(slots, size * 2);
+			}
+
+			slots[size++] = position;
+		}
+
+		void removeLast() {
+			size--;
+		}
+
+		int last() {
+			return slots[size - 1];
+		}
+
+		boolean isEmpty() {
+			return size == 0;
+		}
+	}
+	//endregion
+}
@@ -1,40 +1,117 @@
 package data_structures.stack;
 
+import java.util.Objects;
+
+import data_structures.linked_list.NodePool;
+import data_structures.linked_list.SinglyLinkedList.Node;
+
 @SuppressWarnings({"ConstantConditions", "ReturnOfNull"})
 public class LinkedStack<T> implements Stack<T> {
 
+	private final NodePool<T> pool;
+	private Node<T> top;
+	private int size;
+
+	//region - Constructors
+	public LinkedStack() {
+		this(NodePool.disabled());
+	}
+
+	public LinkedStack(int poolCapacity) {
+		this(new NodePool<>(poolCapacity));
+	}
+
+	public LinkedStack(NodePool<T> pool) {
+		this.pool = Objects.requireNonNull(pool);
+	}
+	//endregion
+
+	//region - Stack Operations
 	@Override
 	public void push(T value) {
-		throw new UnsupportedOperationException("Not implemented");
+		top = pool.acquire(value, top);
+		size++;
 	}
 
 	@Override
 	public T pop() {
-		throw new UnsupportedOperationException("Not implemented");
+		if (isEmpty()) {
+			throw new IndexOutOfBoundsException("Stack is empty");
+		}
+
+		var oldTop = top;
+		T value = oldTop.value;
+
+		top = oldTop.next;
+		size--;
+		pool.release(oldTop);
+
+		return value;
 	}
 
 	@Override
 	public T peek() {
-		throw new UnsupportedOperationException("Not implemented");
+		if (isEmpty()) {
+			throw new IndexOutOfBoundsException("Stack is empty");
+		}
+
+		return top.value;
 	}
+	//endregion
 
+	//region - Utilities
 	@Override
 	public int size() {
-		throw new UnsupportedOperationException("Not implemented");
+		return size;
 	}
 
 	@Override
 	public boolean isEmpty() {
-		throw new UnsupportedOperationException("Not implemented");
+		return size == 0;
 	}
 
 	@Override
 	public int search(T value) {
-		throw new UnsupportedOperationException("Not implemented");
+		var curr = top;
+
+		for (int distance = 1; curr != null; distance++) {
+			if (Objects.equals(curr.value, value)) {
+				return distance;
+			}
+
+			curr = curr.next;
+		}
+
+		return -1;
+	}
+
+	public void clear() {
+		while (top != null) {
+			var oldTop = top;
+			top = oldTop.next;
+			pool.release(oldTop);
+		}
+
+		size = 0;
+	}
+
+	public NodePool<T> pool() {
+		return pool;
 	}
+	//endregion
 
 	@Override
 	public String toString() {
-		throw new UnsupportedOperationException("Not implemented");
+		var sb = new StringBuilder("[");
+
+		for (var curr = top; curr != null; curr = curr.next) {
+			sb.append(curr.value);
+
+			if (curr.next != null) {
+				sb.append(", ");
+			}
+		}
+
+		return sb.append("]").toString();
 	}
 }
@@ -0,0 +1,184 @@
+package data_structures.stack;
+
+import java.util.Arrays;
+import java.util.function.LongBinaryOperator;
+
+/**
+ * Primitive {@code long} specialisation of {@link MinMaxStack}; nothing is boxed on push or pop.
+ */
+@SuppressWarnings("unused")
+public class MinMaxLongStack {
+
+	private static final int DEFAULT_CAPACITY = 10;
+
+	private final LongBinaryOperator combiner;
+
+	private long[] elements;
+	private long[] aggregates;
+	private int size;
+
+	private int[] minIndices;
+	private int minSize;
+	private int[] maxIndices;
+	private int maxSize;
+
+	//region - Constructors
+	public MinMaxLongStack() {
+		this(DEFAULT_CAPACITY, null);
+	}
+
+	public MinMaxLongStack(LongBinaryOperator combiner) {
+		this(DEFAULT_CAPACITY, combiner);
+	}
+
+	public MinMaxLongStack(int initialCapacity, LongBinaryOperator combiner) {
+		if (initialCapacity <= 0) {
+			throw new IllegalArgumentException("Capacity must be positive: " + initialCapacity);
+		}
+
+		this.combiner = combiner;
+		elements = new long[initialCapacity];
+		aggregates = combiner == null ? null : new long[initialCapacity];
+		minIndices = new int[initialCapacity];
+		maxIndices = new int[initialCapacity];
+	}
+
+	public static MinMaxLongStack summing() {
+		return new MinMaxLongStack(Long::sum);
+	}
+	//endregion
+
+	//region - Stack Operations
+	public void push(long value) {
+		ensureCapacity();
+
+		int index = size;
+		elements[index] = value;
+
+		if (minSize == 0 || value < elements[minIndices[minSize - 1]]) {
+			minIndices[minSize++] = index;
+		}
+
+		if (maxSize == 0 || value > elements[maxIndices[maxSize - 1]]) {
+			maxIndices[maxSize++] = index;
+		}
+
+		if (combiner != null) {
+			aggregates[index] = index == 0 ? value : combiner.applyAsLong(aggregates[index - 1], value);
+		}
+
+		size++;
+	}
+
+	public long pop() {
+		if (isEmpty()) {
+			throw new IndexOutOfBoundsException("Stack is empty");
+		}
+
+		int index = --size;
+
+		if (minIndices[minSize - 1] == index) {
+			minSize--;
+		}
+
+		if (maxIndices[maxSize - 1] == index) {
+			maxSize--;
+		}
+
+		return elements[index];
+	}
+
+	public long peek() {
+		if (isEmpty()) {
+			throw new IndexOutOfBoundsException("Stack is empty");
+		}
+
+		return elements[size - 1];
+	}
+
+	public long min() {
+		if (isEmpty()) {
+			throw new IndexOutOfBoundsException("Stack is empty");
+		}
+
+		return elements[minIndices[minSize - 1]];
+	}
+
+	public long max() {
+		if (isEmpty()) {
+			throw new IndexOutOfBoundsException("Stack is empty");
+		}
+
+		return elements[maxIndices[maxSize - 1]];
+	}
+
+	public long aggregate() {
+		if (combiner == null) {
+			throw new IllegalStateException("No combiner configured");
+		}
+
+		if (isEmpty()) {
+			throw new IndexOutOfBoundsException("Stack is empty");
+		}
+
+		return aggregates[size - 1];
+	}
+	//endregion
+
+	//region - Utilities
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public int search(long value) {
+		for (int i = size - 1; i >= 0; i--) {
+			if (elements[i] == value) {
+				return size - i;
+			}
+		}
+
+		return -1;
+	}
+
+	public boolean contains(long value) {
+		return search(value) != -1;
+	}
+
+	public void clear() {
+		size = 0;
+		minSize = 0;
+		maxSize = 0;
+	}
+
+	public long[] toArray() {
+		return Arrays.copyOf(elements, size);
+	}
+	//endregion
+
+	//region - Private Helpers
+	private void ensureCapacity() {
+		if (size == elements.length) {
+			resize(elements.length * 2);
+		}
+	}
+
+	private void resize(int newCapacity) {
+		elements = Arrays.copyOf(elements, newCapacity);
+		minIndices = Arrays.copyOf(minIndices, newCapacity);
+		maxIndices = Arrays.copyOf(maxIndices, newCapacity);
+
+		if (combiner != null) {
+			aggregates = Arrays.copyOf(aggregates, newCapacity);
+		}
+	}
+	//endregion
+
+	@Override
+	public String toString() {
+		return Arrays.toString(toArray());
+	}
+}
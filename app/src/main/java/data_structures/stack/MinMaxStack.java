@@ -0,0 +1,238 @@
+package data_structures.stack;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.function.BinaryOperator;
+
+/**
+ * Array-backed stack answering {@link #min()}, {@link #max()} and an optional running {@link #aggregate()} in O(1).
+ * Minimum and maximum are tracked by monotonic auxiliary stacks of element indices, so each auxiliary stack only grows
+ * when a new strict extreme is pushed. The aggregate is kept per level and requires an associative combiner.
+ */
+@SuppressWarnings({"unchecked", "unused"})
+public class MinMaxStack<T> implements Stack<T>, Iterable<T> {
+
+	private static final int DEFAULT_CAPACITY = 10;
+
+	private final Comparator<? super T> comparator;
+	private final BinaryOperator<T> combiner;
+
+	private Object[] elements;
+	private Object[] aggregates;
+	private int size;
+
+	private int[] minIndices;
+	private int minSize;
+	private int[] maxIndices;
+	private int maxSize;
+
+	//region - Constructors
+	public MinMaxStack(Comparator<? super T> comparator) {
+		this(DEFAULT_CAPACITY, comparator, null);
+	}
+
+	public MinMaxStack(Comparator<? super T> comparator, BinaryOperator<T> combiner) {
+		this(DEFAULT_CAPACITY, comparator, combiner);
+	}
+
+	public MinMaxStack(int initialCapacity, Comparator<? super T> comparator, BinaryOperator<T> combiner) {
+		if (initialCapacity <= 0) {
+			throw new IllegalArgumentException("Capacity must be positive: " + initialCapacity);
+		}
+
+		this.comparator = Objects.requireNonNull(comparator);
+		this.combiner = combiner;
+		elements = new Object[initialCapacity];
+		aggregates = combiner == null ? null : new Object[initialCapacity];
+		minIndices = new int[initialCapacity];
+		maxIndices = new int[initialCapacity];
+	}
+
+	public static <T extends Comparable<? super T>> MinMaxStack<T> naturalOrder() {
+		return new MinMaxStack<>(Comparator.naturalOrder());
+	}
+	//endregion
+
+	//region - Stack Operations
+	@Override
+	public void push(T value) {
+		Objects.requireNonNull(value, "MinMaxStack does not accept null values");
+		ensureCapacity();
+
+		int index = size;
+		elements[index] = value;
+
+		if (minSize == 0 || comparator.compare(value, elementAt(minIndices[minSize - 1])) < 0) {
+			minIndices[minSize++] = index;
+		}
+
+		if (maxSize == 0 || comparator.compare(value, elementAt(maxIndices[maxSize - 1])) > 0) {
+			maxIndices[maxSize++] = index;
+		}
+
+		if (combiner != null) {
+			aggregates[index] = index == 0 ? value : combiner.apply((T) aggregates[index - 1], value);
+		}
+
+		size++;
+	}
+
+	@Override
+	public T pop() {
+		if (isEmpty()) {
+			throw new IndexOutOfBoundsException("Stack is empty");
+		}
+
+		int index = --size;
+		T value = elementAt(index);
+		elements[index] = null;
+
+		if (combiner != null) {
+			aggregates[index] = null;
+		}
+
+		if (minIndices[minSize - 1] == index) {
+			minSize--;
+		}
+
+		if (maxIndices[maxSize - 1] == index) {
+			maxSize--;
+		}
+
+		return value;
+	}
+
+	@Override
+	public T peek() {
+		if (isEmpty()) {
+			throw new IndexOutOfBoundsException("Stack is empty");
+		}
+
+		return elementAt(size - 1);
+	}
+
+	public T min() {
+		if (isEmpty()) {
+			throw new IndexOutOfBoundsException("Stack is empty");
+		}
+
+		return elementAt(minIndices[minSize - 1]);
+	}
+
+	public T max() {
+		if (isEmpty()) {
+			throw new IndexOutOfBoundsException("Stack is empty");
+		}
+
+		return elementAt(maxIndices[maxSize - 1]);
+	}
+
+	public T aggregate() {
+		if (combiner == null) {
+			throw new IllegalStateException("No combiner configured");
+		}
+
+		if (isEmpty()) {
+			throw new IndexOutOfBoundsException("Stack is empty");
+		}
+
+		return (T) aggregates[size - 1];
+	}
+	//endregion
+
+	//region - Utilities
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public int search(T value) {
+		for (int i = size - 1; i >= 0; i--) {
+			if (elements[i].equals(value)) {
+				return size - i;
+			}
+		}
+
+		return -1;
+	}
+
+	public boolean contains(T value) {
+		return search(value) != -1;
+	}
+
+	public void clear() {
+		Arrays.fill(elements, 0, size, null);
+
+		if (combiner != null) {
+			Arrays.fill(aggregates, 0, size, null);
+		}
+
+		size = 0;
+		minSize = 0;
+		maxSize = 0;
+	}
+
+	/** Bottom to top, like {@link ArrayStack#toArray()}; the iterator goes the other way. */
+	public Object[] toArray() {
+		return Arrays.copyOf(elements, size);
+	}
+	//endregion
+
+	//region - Private Helpers
+	private T elementAt(int index) {
+		return (T) elements[index];
+	}
+
+	private void ensureCapacity() {
+		if (size == elements.length) {
+			resize(elements.length * 2);
+		}
+	}
+
+	private void resize(int newCapacity) {
+		elements = Arrays.copyOf(elements, newCapacity);
+		minIndices = Arrays.copyOf(minIndices, newCapacity);
+		maxIndices = Arrays.copyOf(maxIndices, newCapacity);
+
+		if (combiner != null) {
+			aggregates = Arrays.copyOf(aggregates, newCapacity);
+		}
+	}
+	//endregion
+
+	//region - Iterator
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<>() {
+			private int cursor = size - 1;
+
+			@Override
+			public boolean hasNext() {
+				return cursor >= 0;
+			}
+
+			@Override
+			public T next() {
+				if (cursor < 0) {
+					throw new IndexOutOfBoundsException();
+				}
+
+				return elementAt(cursor--);
+			}
+		};
+	}
+	//endregion
+
+	@Override
+	public String toString() {
+		return Arrays.toString(toArray());
+	}
+}
@@ -0,0 +1,178 @@
+package data_structures.stack;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Objects;
+
+/**
+ * Immutable stack whose versions share their tails: {@link #push(Object)} and {@link #pop()} return a new stack in
+ * O(1) and leave the receiver untouched. Every field is final, so any version can be published to other threads as a
+ * snapshot without copying or locking.
+ * <p>
+ * {@link #toArray()} and {@link #toString()} list the elements bottom to top like the other stacks; the iterator walks
+ * the shared chain and so visits them top to bottom.
+ */
+@SuppressWarnings({"unchecked", "unused"})
+public final class PersistentStack<T> implements Iterable<T> {
+
+	private static final PersistentStack<?> EMPTY = new PersistentStack<>(null, null, 0);
+
+	private final T top;
+	private final PersistentStack<T> rest;
+	private final int size;
+
+	private PersistentStack(T top, PersistentStack<T> rest, int size) {
+		this.top = top;
+		this.rest = rest;
+		this.size = size;
+	}
+
+	//region - Factories
+	public static <T> PersistentStack<T> empty() {
+		return (PersistentStack<T>) EMPTY;
+	}
+
+	@SafeVarargs
+	public static <T> PersistentStack<T> of(T... bottomToTop) {
+		PersistentStack<T> stack = empty();
+
+		for (T value : bottomToTop) {
+			stack = stack.push(value);
+		}
+
+		return stack;
+	}
+	//endregion
+
+	//region - Stack Operations
+	public PersistentStack<T> push(T value) {
+		return new PersistentStack<>(value, this, size + 1);
+	}
+
+	public PersistentStack<T> pop() {
+		if (isEmpty()) {
+			throw new IndexOutOfBoundsException("Stack is empty");
+		}
+
+		return rest;
+	}
+
+	public T peek() {
+		if (isEmpty()) {
+			throw new IndexOutOfBoundsException("Stack is empty");
+		}
+
+		return top;
+	}
+	//endregion
+
+	//region - Utilities
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public int search(T value) {
+		int distance = 1;
+
+		for (var curr = this; !curr.isEmpty(); curr = curr.rest) {
+			if (Objects.equals(curr.top, value)) {
+				return distance;
+			}
+
+			distance++;
+		}
+
+		return -1;
+	}
+
+	public boolean contains(T value) {
+		return search(value) != -1;
+	}
+
+	public Object[] toArray() {
+		var array = new Object[size];
+		var curr = this;
+
+		for (int i = size - 1; i >= 0; i--) {
+			array[i] = curr.top;
+			curr = curr.rest;
+		}
+
+		return array;
+	}
+	//endregion
+
+	//region - Iterator
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<>() {
+			private PersistentStack<T> curr = PersistentStack.this;
+
+			@Override
+			public boolean hasNext() {
+				return !curr.isEmpty();
+			}
+
+			@Override
+			public T next() {
+				if (curr.isEmpty()) {
+					throw new IndexOutOfBoundsException();
+				}
+
+				T value = curr.top;
+				curr = curr.rest;
+				return value;
+			}
+		};
+	}
+	//endregion
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+
+		if (!(o instanceof PersistentStack<?> other) || size != other.size) {
+			return false;
+		}
+
+		PersistentStack<?> left = this;
+		PersistentStack<?> right = other;
+
+		while (!left.isEmpty()) {
+			if (left == right) {
+				return true;
+			}
+
+			if (!Objects.equals(left.top, right.top)) {
+				return false;
+			}
+
+			left = left.rest;
+			right = right.rest;
+		}
+
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		int hash = 1;
+
+		for (T value : this) {
+			hash = 31 * hash + Objects.hashCode(value);
+		}
+
+		return hash;
+	}
+
+	@Override
+	public String toString() {
+		return Arrays.toString(toArray());
+	}
+}
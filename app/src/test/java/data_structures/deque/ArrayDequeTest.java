@@ -0,0 +1,157 @@
+package data_structures.deque;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@SuppressWarnings({"ConstantConditions", "unused"})
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ExtendWith(SoftAssertionsExtension.class)
+class ArrayDequeTest {
+
+	ArrayDeque<Integer> deque;
+
+	@BeforeEach
+	void setUp() {
+		deque = new ArrayDeque<>(4);
+	}
+
+	//region Constructor
+	@Nested
+	class Constructor {
+
+		@Test
+		void throws_on_invalid_capacity() {
+			assertThatThrownBy(() -> new ArrayDeque<>(0)).isInstanceOf(IllegalArgumentException.class);
+		}
+
+		@Test
+		void creates_empty_deque(SoftAssertions softly) {
+			softly.assertThat(deque.isEmpty()).isTrue();
+			softly.assertThat(deque.capacity()).isEqualTo(4);
+			softly.assertThat(deque.peekFirst()).isNull();
+			softly.assertThat(deque.peekLast()).isNull();
+			softly.assertThat(deque.pollFirst()).isNull();
+			softly.assertThat(deque.pollLast()).isNull();
+		}
+	}
+	//endregion
+
+	//region Deque Operations
+	@Nested
+	class Deque_Operations {
+
+		@Test
+		void adds_and_polls_at_both_ends(SoftAssertions softly) {
+			deque.addLast(2);
+			deque.addFirst(1);
+			deque.addLast(3);
+
+			softly.assertThat(deque.peekFirst()).isEqualTo(1);
+			softly.assertThat(deque.peekLast()).isEqualTo(3);
+			softly.assertThat(deque.pollLast()).isEqualTo(3);
+			softly.assertThat(deque.pollFirst()).isEqualTo(1);
+			softly.assertThat(deque.pollFirst()).isEqualTo(2);
+			softly.assertThat(deque.isEmpty()).isTrue();
+		}
+
+		@Test
+		void grows_across_the_wrap_point(SoftAssertions softly) {
+			deque.addFirst(2);
+			deque.addFirst(1);
+			deque.addLast(3);
+			deque.addLast(4);
+			deque.addLast(5);
+
+			softly.assertThat(deque.capacity()).isEqualTo(8);
+			softly.assertThat(deque.toArray()).containsExactly(1, 2, 3, 4, 5);
+			softly.assertThat(deque.get(4)).isEqualTo(5);
+		}
+
+		@Test
+		void rejects_null() {
+			assertThatThrownBy(() -> deque.addFirst(null)).isInstanceOf(NullPointerException.class);
+			assertThatThrownBy(() -> deque.addLast(null)).isInstanceOf(NullPointerException.class);
+		}
+	}
+	//endregion
+
+	//region Batch Operations
+	@Nested
+	class Batch_Operations {
+
+		@Test
+		void add_all_keeps_slice_order_at_both_ends(SoftAssertions softly) {
+			deque.addLast(0);
+			deque.addAllFirst(new Integer[]{9, -2, -1, 9}, 1, 2);
+			deque.addAllLast(new Integer[]{1, 2, 3, 4, 5}, 0, 5);
+
+			softly.assertThat(deque.toArray()).containsExactly(-2, -1, 0, 1, 2, 3, 4, 5);
+			softly.assertThat(deque.capacity()).isEqualTo(8);
+		}
+
+		@Test
+		void add_all_rejects_null_without_partial_insert() {
+			assertThatThrownBy(() -> deque.addAllLast(new Integer[]{1, null}, 0, 2))
+				.isInstanceOf(NullPointerException.class);
+			assertThat(deque.isEmpty()).isTrue();
+		}
+
+		@Test
+		void drains_from_either_end(SoftAssertions softly) {
+			deque.addAllLast(new Integer[]{1, 2, 3, 4, 5}, 0, 5);
+			List<Integer> front = new ArrayList<>();
+			List<Integer> back = new ArrayList<>();
+
+			softly.assertThat(deque.drainFirst(front::add, 2)).isEqualTo(2);
+			softly.assertThat(deque.drainLast(back::add, 10)).isEqualTo(3);
+			softly.assertThat(front).containsExactly(1, 2);
+			softly.assertThat(back).containsExactly(5, 4, 3);
+			softly.assertThat(deque.isEmpty()).isTrue();
+		}
+	}
+	//endregion
+
+	//region Utilities
+	@Nested
+	class Utilities {
+
+		@Test
+		void contains_and_clear(SoftAssertions softly) {
+			deque.addLast(1);
+			deque.addFirst(2);
+
+			softly.assertThat(deque.contains(1)).isTrue();
+			softly.assertThat(deque.contains(3)).isFalse();
+
+			deque.clear();
+
+			softly.assertThat(deque.isEmpty()).isTrue();
+			softly.assertThat(deque.contains(1)).isFalse();
+			softly.assertThat(deque.peekFirst()).isNull();
+		}
+
+		@Test
+		void iterates_first_to_last(SoftAssertions softly) {
+			deque.addFirst(2);
+			deque.addFirst(1);
+			deque.addLast(3);
+			List<Integer> seen = new ArrayList<>();
+			deque.forEach(seen::add);
+
+			softly.assertThat(seen).containsExactly(1, 2, 3);
+			softly.assertThat(deque).hasToString("[1, 2, 3]");
+		}
+	}
+	//endregion
+}
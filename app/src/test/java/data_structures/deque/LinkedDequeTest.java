@@ -0,0 +1,220 @@
+package data_structures.deque;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@SuppressWarnings({"ConstantConditions", "unused"})
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ExtendWith(SoftAssertionsExtension.class)
+class LinkedDequeTest {
+
+	LinkedDeque<Integer> deque;
+
+	@BeforeEach
+	void setUp() {
+		deque = new LinkedDeque<>(4, 2);
+	}
+
+	//region Constructor
+	@Nested
+	class Constructor {
+
+		@Test
+		void throws_on_invalid_arguments() {
+			assertThatThrownBy(() -> new LinkedDeque<>(0, 1)).isInstanceOf(IllegalArgumentException.class);
+			assertThatThrownBy(() -> new LinkedDeque<>(4, -1)).isInstanceOf(IllegalArgumentException.class);
+		}
+
+		@Test
+		void creates_empty_deque_with_one_block(SoftAssertions softly) {
+			softly.assertThat(deque.isEmpty()).isTrue();
+			softly.assertThat(deque.blockCount()).isEqualTo(1);
+			softly.assertThat(deque.pollFirst()).isNull();
+			softly.assertThat(deque.pollLast()).isNull();
+			softly.assertThat(deque.peekFirst()).isNull();
+		}
+	}
+	//endregion
+
+	//region Deque Operations
+	@Nested
+	class Deque_Operations {
+
+		@Test
+		void adds_and_polls_at_both_ends(SoftAssertions softly) {
+			deque.addLast(2);
+			deque.addFirst(1);
+			deque.addLast(3);
+
+			softly.assertThat(deque.peekFirst()).isEqualTo(1);
+			softly.assertThat(deque.peekLast()).isEqualTo(3);
+			softly.assertThat(deque.pollLast()).isEqualTo(3);
+			softly.assertThat(deque.pollFirst()).isEqualTo(1);
+			softly.assertThat(deque.pollFirst()).isEqualTo(2);
+		}
+
+		@Test
+		void links_blocks_as_it_grows(SoftAssertions softly) {
+			for (int i = 0; i < 10; i++) {
+				deque.addLast(i);
+			}
+
+			for (int i = -1; i >= -10; i--) {
+				deque.addFirst(i);
+			}
+
+			softly.assertThat(deque.size()).isEqualTo(20);
+			softly.assertThat(deque.blockCount()).isGreaterThanOrEqualTo(5);
+			softly.assertThat(deque.get(0)).isEqualTo(-10);
+			softly.assertThat(deque.get(10)).isEqualTo(0);
+			softly.assertThat(deque.get(19)).isEqualTo(9);
+		}
+
+		@Test
+		void handles_single_slot_blocks(SoftAssertions softly) {
+			var tiny = new LinkedDeque<Integer>(1, 0);
+			tiny.addFirst(2);
+			tiny.addFirst(1);
+			tiny.addLast(3);
+
+			softly.assertThat(tiny.toArray()).containsExactly(1, 2, 3);
+			softly.assertThat(tiny.pollLast()).isEqualTo(3);
+			softly.assertThat(tiny.peekLast()).isEqualTo(2);
+		}
+
+		@Test
+		void rejects_null() {
+			assertThatThrownBy(() -> deque.addFirst(null)).isInstanceOf(NullPointerException.class);
+			assertThatThrownBy(() -> deque.addLast(null)).isInstanceOf(NullPointerException.class);
+		}
+	}
+	//endregion
+
+	//region Block Pool
+	@Nested
+	class Block_Pool {
+
+		@Test
+		void recycles_blocks_when_size_oscillates(SoftAssertions softly) {
+			for (int round = 0; round < 100; round++) {
+				for (int i = 0; i < 8; i++) {
+					deque.addLast(i);
+				}
+
+				while (!deque.isEmpty()) {
+					deque.pollFirst();
+				}
+			}
+
+			softly.assertThat(deque.allocations()).isLessThanOrEqualTo(4);
+			softly.assertThat(deque.reuses()).isGreaterThan(100);
+		}
+
+		@Test
+		void pool_is_bounded(SoftAssertions softly) {
+			for (int i = 0; i < 40; i++) {
+				deque.addLast(i);
+			}
+
+			deque.clear();
+
+			softly.assertThat(deque.pooledBlocks()).isEqualTo(2);
+			softly.assertThat(deque.blockCount()).isEqualTo(1);
+			softly.assertThat(deque.isEmpty()).isTrue();
+		}
+	}
+	//endregion
+
+	//region Batch Operations
+	@Nested
+	class Batch_Operations {
+
+		@Test
+		void add_all_spans_blocks_in_order(SoftAssertions softly) {
+			deque.addLast(0);
+			deque.addAllFirst(new Integer[]{-5, -4, -3, -2, -1}, 0, 5);
+			deque.addAllLast(new Integer[]{9, 1, 2, 3, 4, 5, 6, 9}, 1, 6);
+
+			softly.assertThat(deque.toArray()).containsExactly(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4, 5, 6);
+			softly.assertThat(deque.peekLast()).isEqualTo(6);
+		}
+
+		@Test
+		void drains_from_either_end(SoftAssertions softly) {
+			deque.addAllLast(new Integer[]{1, 2, 3, 4, 5, 6, 7}, 0, 7);
+			List<Integer> front = new ArrayList<>();
+			List<Integer> back = new ArrayList<>();
+
+			softly.assertThat(deque.drainFirst(front::add, 3)).isEqualTo(3);
+			softly.assertThat(deque.drainLast(back::add, 10)).isEqualTo(4);
+			softly.assertThat(front).containsExactly(1, 2, 3);
+			softly.assertThat(back).containsExactly(7, 6, 5, 4);
+		}
+	}
+	//endregion
+
+	//region Randomized
+	@Nested
+	class Randomized {
+
+		@Test
+		void matches_java_util_array_deque() {
+			var random = new Random(49);
+			var reference = new java.util.ArrayDeque<Integer>();
+
+			for (int i = 0; i < 20_000; i++) {
+				int value = random.nextInt(1_000);
+
+				switch (random.nextInt(4)) {
+					case 0 -> {
+						deque.addFirst(value);
+						reference.addFirst(value);
+					}
+					case 1 -> {
+						deque.addLast(value);
+						reference.addLast(value);
+					}
+					case 2 -> assertThat(deque.pollFirst()).isEqualTo(reference.pollFirst());
+					default -> assertThat(deque.pollLast()).isEqualTo(reference.pollLast());
+				}
+
+				assertThat(deque.size()).isEqualTo(reference.size());
+				assertThat(deque.peekFirst()).isEqualTo(reference.peekFirst());
+				assertThat(deque.peekLast()).isEqualTo(reference.peekLast());
+			}
+
+			assertThat(deque.toArray()).containsExactly(reference.toArray());
+		}
+	}
+	//endregion
+
+	//region Utilities
+	@Nested
+	class Utilities {
+
+		@Test
+		void contains_iterates_and_prints(SoftAssertions softly) {
+			deque.addAllLast(new Integer[]{1, 2, 3, 4, 5}, 0, 5);
+			List<Integer> seen = new ArrayList<>();
+			deque.forEach(seen::add);
+
+			softly.assertThat(deque.contains(5)).isTrue();
+			softly.assertThat(deque.contains(6)).isFalse();
+			softly.assertThat(seen).containsExactly(1, 2, 3, 4, 5);
+			softly.assertThat(deque).hasToString("[1, 2, 3, 4, 5]");
+		}
+	}
+	//endregion
+}
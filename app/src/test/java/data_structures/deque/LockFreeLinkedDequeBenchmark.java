@@ -0,0 +1,163 @@
+package data_structures.deque;
+
+import data_structures.linked_list.DoublyLinkedList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Throughput of {@link LockFreeLinkedDeque} against a {@link DoublyLinkedList} behind a {@link ReentrantLock}, with
+ * every thread cycling through adds and polls at both ends. The locked baseline only uses the list's O(1) paths next
+ * to its sentinels, so neither side pays for index traversal. Run with {@code main}; not part of the test suite.
+ */
+class LockFreeLinkedDequeBenchmark {
+
+	private static final int PREFILL = 1_024;
+	private static final int OPERATIONS_PER_THREAD = 2_000_000;
+	private static final int[] THREAD_COUNTS = {1, 2, 4, 8};
+
+	public static void main(String[] args) throws InterruptedException {
+		System.out.printf("%8s %18s %18s %14s %16s%n", "threads", "locked M ops/s", "lock-free M ops/s", "locked ns/op", "lock-free ns/op");
+
+		for (int threads : THREAD_COUNTS) {
+			double locked = run(new LockedDeque(), threads);
+			double lockFree = run(new LockFreeDeque(), threads);
+			System.out.printf("%8d %18.1f %18.1f %14.1f %16.1f%n",
+				threads, locked, lockFree, 1_000.0 * threads / locked, 1_000.0 * threads / lockFree);
+		}
+	}
+
+	private static double run(BenchDeque deque, int threadCount) throws InterruptedException {
+		Integer token = 7;
+		CountDownLatch start = new CountDownLatch(1);
+		Thread[] threads = new Thread[threadCount];
+
+		for (int i = 0; i < PREFILL; i++) {
+			deque.addLast(token);
+		}
+
+		for (int t = 0; t < threadCount; t++) {
+			threads[t] = new Thread(() -> {
+				await(start);
+				for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+					switch (i & 3) {
+						case 0 -> deque.addFirst(token);
+						case 1 -> deque.pollLast();
+						case 2 -> deque.addLast(token);
+						default -> deque.pollFirst();
+					}
+				}
+			});
+		}
+
+		for (Thread thread : threads)
+			thread.start();
+
+		long begin = System.nanoTime();
+		start.countDown();
+
+		for (Thread thread : threads)
+			thread.join();
+
+		long elapsed = System.nanoTime() - begin;
+		return 1.0 * threadCount * OPERATIONS_PER_THREAD * 1_000 / elapsed;
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private interface BenchDeque {
+		void addFirst(Integer value);
+
+		void addLast(Integer value);
+
+		Integer pollFirst();
+
+		Integer pollLast();
+	}
+
+	private record LockFreeDeque(LockFreeLinkedDeque<Integer> deque) implements BenchDeque {
+
+		LockFreeDeque() {
+			this(new LockFreeLinkedDeque<>());
+		}
+
+		@Override
+		public void addFirst(Integer value) {
+			deque.addFirst(value);
+		}
+
+		@Override
+		public void addLast(Integer value) {
+			deque.addLast(value);
+		}
+
+		@Override
+		public Integer pollFirst() {
+			return deque.pollFirst();
+		}
+
+		@Override
+		public Integer pollLast() {
+			return deque.pollLast();
+		}
+	}
+
+	// addFirst and deleteFirst go through the list's printing index traversal, so the front end uses the sentinel.
+	private static final class LockedDeque implements BenchDeque {
+
+		private final ReentrantLock lock = new ReentrantLock();
+		private final DoublyLinkedList<Integer> list = new DoublyLinkedList<>(null, null);
+
+		@Override
+		public void addFirst(Integer value) {
+			lock.lock();
+			try {
+				list.addAfter(list.head, value);
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		@Override
+		public void addLast(Integer value) {
+			lock.lock();
+			try {
+				list.addLast(value);
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		@Override
+		public Integer pollFirst() {
+			lock.lock();
+			try {
+				if (list.size == 0) {
+					return null;
+				}
+
+				// deleteValue unlinks the first match, which is the node right after the head sentinel.
+				Integer value = list.head.next.value;
+				list.deleteValue(value);
+				return value;
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		@Override
+		public Integer pollLast() {
+			lock.lock();
+			try {
+				return list.size == 0 ? null : list.deleteLast();
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+}
@@ -0,0 +1,224 @@
+package data_structures.deque;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@SuppressWarnings({"ConstantConditions", "unused"})
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ExtendWith(SoftAssertionsExtension.class)
+class LockFreeLinkedDequeTest {
+
+	LockFreeLinkedDeque<Integer> deque;
+
+	@BeforeEach
+	void setUp() {
+		deque = new LockFreeLinkedDeque<>();
+	}
+
+	//region Constructor
+	@Nested
+	class Constructor {
+
+		@Test
+		void creates_empty_deque(SoftAssertions softly) {
+			softly.assertThat(deque.isEmpty()).isTrue();
+			softly.assertThat(deque.size()).isZero();
+			softly.assertThat(deque.peekFirst()).isNull();
+			softly.assertThat(deque.peekLast()).isNull();
+			softly.assertThat(deque.pollFirst()).isNull();
+			softly.assertThat(deque.pollLast()).isNull();
+		}
+	}
+	//endregion
+
+	//region Deque Operations
+	@Nested
+	class Deque_Operations {
+
+		@Test
+		void adds_and_polls_at_both_ends(SoftAssertions softly) {
+			deque.addLast(2);
+			deque.addFirst(1);
+			deque.addLast(3);
+
+			softly.assertThat(deque.size()).isEqualTo(3);
+			softly.assertThat(deque.peekFirst()).isEqualTo(1);
+			softly.assertThat(deque.peekLast()).isEqualTo(3);
+			softly.assertThat(deque.pollLast()).isEqualTo(3);
+			softly.assertThat(deque.pollFirst()).isEqualTo(1);
+			softly.assertThat(deque.pollFirst()).isEqualTo(2);
+			softly.assertThat(deque.isEmpty()).isTrue();
+		}
+
+		@Test
+		void add_all_last_appends_slice_in_order() {
+			deque.addLast(0);
+			deque.addAllLast(new Integer[]{9, 1, 2, 3, 9}, 1, 3);
+
+			assertThat(deque.toArray()).containsExactly(0, 1, 2, 3);
+		}
+
+		@Test
+		void rejects_null() {
+			assertThatThrownBy(() -> deque.addFirst(null)).isInstanceOf(NullPointerException.class);
+			assertThatThrownBy(() -> deque.addLast(null)).isInstanceOf(NullPointerException.class);
+		}
+
+		@Test
+		void matches_java_util_array_deque_single_threaded() {
+			var random = new Random(50);
+			var reference = new java.util.ArrayDeque<Integer>();
+
+			for (int i = 0; i < 20_000; i++) {
+				int value = random.nextInt(1_000);
+
+				switch (random.nextInt(4)) {
+					case 0 -> {
+						deque.addFirst(value);
+						reference.addFirst(value);
+					}
+					case 1 -> {
+						deque.addLast(value);
+						reference.addLast(value);
+					}
+					case 2 -> assertThat(deque.pollFirst()).isEqualTo(reference.pollFirst());
+					default -> assertThat(deque.pollLast()).isEqualTo(reference.pollLast());
+				}
+
+				assertThat(deque.peekFirst()).isEqualTo(reference.peekFirst());
+				assertThat(deque.peekLast()).isEqualTo(reference.peekLast());
+			}
+
+			assertThat(deque.toArray()).containsExactly(reference.toArray());
+		}
+	}
+	//endregion
+
+	//region Utilities
+	@Nested
+	class Utilities {
+
+		@Test
+		void contains_iterates_and_clears(SoftAssertions softly) {
+			deque.addLast(2);
+			deque.addFirst(1);
+			deque.addLast(3);
+			List<Integer> seen = new ArrayList<>();
+			deque.forEach(seen::add);
+
+			softly.assertThat(seen).containsExactly(1, 2, 3);
+			softly.assertThat(deque.contains(2)).isTrue();
+			softly.assertThat(deque.contains(4)).isFalse();
+			softly.assertThat(deque).hasToString("[1, 2, 3]");
+
+			deque.clear();
+
+			softly.assertThat(deque.isEmpty()).isTrue();
+		}
+
+		@Test
+		void iterator_throws_past_end() {
+			var iterator = deque.iterator();
+
+			assertThatThrownBy(iterator::next).isInstanceOf(IndexOutOfBoundsException.class);
+		}
+	}
+	//endregion
+
+	//region Concurrency
+	@Nested
+	class Concurrency {
+
+		@Test
+		@Timeout(60)
+		void every_element_is_polled_exactly_once() throws InterruptedException {
+			int threads = 4;
+			int perThread = 50_000;
+			var taken = new AtomicIntegerArray(threads * perThread);
+			CountDownLatch done = new CountDownLatch(threads);
+			List<Throwable> failures = new ArrayList<>();
+
+			for (int t = 0; t < threads; t++) {
+				int base = t * perThread;
+				long seed = t;
+				Thread.ofVirtual().start(() -> {
+					try {
+						var random = new Random(seed);
+
+						for (int added = 0; added < perThread; ) {
+							switch (random.nextInt(4)) {
+								case 0 -> deque.addFirst(base + added++);
+								case 1 -> deque.addLast(base + added++);
+								case 2 -> take(deque.pollFirst(), taken);
+								default -> take(deque.pollLast(), taken);
+							}
+						}
+					} catch (Throwable e) {
+						synchronized (failures) {
+							failures.add(e);
+						}
+					} finally {
+						done.countDown();
+					}
+				});
+			}
+
+			done.await();
+
+			for (Integer value = deque.pollFirst(); value != null; value = deque.pollFirst()) {
+				take(value, taken);
+			}
+
+			assertThat(failures).isEmpty();
+
+			for (int i = 0; i < threads * perThread; i++) {
+				assertThat(taken.get(i)).as("element %d", i).isEqualTo(1);
+			}
+		}
+
+		@Test
+		@Timeout(60)
+		void preserves_order_between_one_producer_and_one_consumer() throws InterruptedException {
+			int count = 200_000;
+			Thread producer = Thread.ofVirtual().start(() -> {
+				for (int i = 0; i < count; i++) {
+					deque.addLast(i);
+				}
+			});
+
+			for (int expected = 0; expected < count; ) {
+				Integer value = deque.pollFirst();
+
+				if (value != null) {
+					assertThat(value).isEqualTo(expected++);
+				} else {
+					Thread.onSpinWait();
+				}
+			}
+
+			producer.join();
+		}
+
+		private void take(Integer value, AtomicIntegerArray taken) {
+			if (value != null && taken.getAndIncrement(value) != 0) {
+				throw new AssertionError("Polled twice: " + value);
+			}
+		}
+	}
+	//endregion
+}
@@ -0,0 +1,153 @@
+package data_structures.deque;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@SuppressWarnings({"ConstantConditions", "unused"})
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ExtendWith(SoftAssertionsExtension.class)
+class WorkStealingDequeTest {
+
+	WorkStealingDeque<Integer> deque;
+
+	@BeforeEach
+	void setUp() {
+		deque = new WorkStealingDeque<>(4);
+	}
+
+	//region Constructor
+	@Nested
+	class Constructor {
+
+		@Test
+		void throws_on_invalid_capacity() {
+			assertThatThrownBy(() -> new WorkStealingDeque<>(0)).isInstanceOf(IllegalArgumentException.class);
+		}
+
+		@Test
+		void creates_empty_deque(SoftAssertions softly) {
+			softly.assertThat(deque.isEmpty()).isTrue();
+			softly.assertThat(deque.capacity()).isEqualTo(4);
+			softly.assertThat(deque.pop()).isNull();
+			softly.assertThat(deque.steal()).isNull();
+		}
+	}
+	//endregion
+
+	//region Owner And Thief
+	@Nested
+	class Owner_And_Thief {
+
+		@Test
+		void owner_pops_lifo_and_thief_steals_fifo(SoftAssertions softly) {
+			deque.push(1);
+			deque.push(2);
+			deque.push(3);
+
+			softly.assertThat(deque.pop()).isEqualTo(3);
+			softly.assertThat(deque.steal()).isEqualTo(1);
+			softly.assertThat(deque.pop()).isEqualTo(2);
+			softly.assertThat(deque.isEmpty()).isTrue();
+		}
+
+		@Test
+		void grows_and_keeps_order(SoftAssertions softly) {
+			deque.push(0);
+			deque.steal();
+
+			for (int i = 1; i <= 10; i++) {
+				deque.push(i);
+			}
+
+			softly.assertThat(deque.capacity()).isEqualTo(16);
+			softly.assertThat(deque.size()).isEqualTo(10);
+			softly.assertThat(deque.steal()).isEqualTo(1);
+			softly.assertThat(deque.pop()).isEqualTo(10);
+		}
+
+		@Test
+		void rejects_null() {
+			assertThatThrownBy(() -> deque.push(null)).isInstanceOf(NullPointerException.class);
+		}
+	}
+	//endregion
+
+	//region Concurrency
+	@Nested
+	class Concurrency {
+
+		@Test
+		@Timeout(30)
+		void every_task_is_taken_exactly_once() throws InterruptedException {
+			int tasks = 200_000;
+			var taken = new AtomicIntegerArray(tasks);
+			var producing = new AtomicBoolean(true);
+			int thieves = 3;
+			CountDownLatch done = new CountDownLatch(thieves);
+			List<Throwable> failures = new ArrayList<>();
+
+			for (int i = 0; i < thieves; i++) {
+				Thread.ofVirtual().start(() -> {
+					try {
+						while (producing.get() || !deque.isEmpty()) {
+							Integer task = deque.steal();
+
+							if (task != null && taken.getAndIncrement(task) != 0) {
+								throw new AssertionError("Stolen twice: " + task);
+							}
+						}
+					} catch (Throwable e) {
+						synchronized (failures) {
+							failures.add(e);
+						}
+					} finally {
+						done.countDown();
+					}
+				});
+			}
+
+			for (int i = 0; i < tasks; i++) {
+				deque.push(i);
+
+				if (i % 3 == 0) {
+					take(deque.pop(), taken);
+				}
+			}
+
+			for (Integer task = deque.pop(); task != null; task = deque.pop()) {
+				take(task, taken);
+			}
+
+			producing.set(false);
+			done.await();
+
+			assertThat(failures).isEmpty();
+
+			for (int i = 0; i < tasks; i++) {
+				assertThat(taken.get(i)).as("task %d", i).isEqualTo(1);
+			}
+		}
+
+		private void take(Integer task, AtomicIntegerArray taken) {
+			if (task != null) {
+				assertThat(taken.getAndIncrement(task)).isZero();
+			}
+		}
+	}
+	//endregion
+}
@@ -0,0 +1,131 @@
+package data_structures.linked_list;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import data_structures.linked_list.SinglyLinkedList.Node;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@SuppressWarnings({"ConstantConditions", "unused"})
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ExtendWith(SoftAssertionsExtension.class)
+class NodePoolTest {
+
+	NodePool<Integer> pool;
+
+	@BeforeEach
+	void setUp() {
+		pool = new NodePool<>(2);
+	}
+
+	//region Constructor
+	@Nested
+	class Constructor {
+
+		@Test
+		void creates_empty_pool(SoftAssertions softly) {
+			softly.assertThat(pool.capacity()).isEqualTo(2);
+			softly.assertThat(pool.pooled()).isZero();
+			softly.assertThat(pool.allocations()).isZero();
+		}
+
+		@Test
+		void disabled_pool_has_zero_capacity() {
+			assertThat(NodePool.disabled().capacity()).isZero();
+		}
+
+		@Test
+		void throws_on_negative_capacity() {
+			assertThatThrownBy(() -> new NodePool<Integer>(-1))
+				.isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+	//endregion
+
+	//region Acquire And Release
+	@Nested
+	class Acquire_And_Release {
+
+		@Test
+		void acquire_on_empty_pool_allocates(SoftAssertions softly) {
+			Node<Integer> node = pool.acquire(1, null);
+			softly.assertThat(node.value).isEqualTo(1);
+			softly.assertThat(node.next).isNull();
+			softly.assertThat(pool.allocations()).isEqualTo(1);
+			softly.assertThat(pool.reuses()).isZero();
+		}
+
+		@Test
+		void released_node_is_reused(SoftAssertions softly) {
+			Node<Integer> first = pool.acquire(1, null);
+			pool.release(first);
+			Node<Integer> second = pool.acquire(2, null);
+			softly.assertThat(second).isSameAs(first);
+			softly.assertThat(second.value).isEqualTo(2);
+			softly.assertThat(pool.reuses()).isEqualTo(1);
+			softly.assertThat(pool.pooled()).isZero();
+		}
+
+		@Test
+		void release_clears_value(SoftAssertions softly) {
+			Node<Integer> node = pool.acquire(42, null);
+			pool.release(node);
+			softly.assertThat(node.value).isNull();
+		}
+
+		@Test
+		void release_beyond_capacity_discards(SoftAssertions softly) {
+			for (int i = 0; i < 5; i++)
+				pool.release(new Node<>(i));
+			softly.assertThat(pool.pooled()).isEqualTo(2);
+			softly.assertThat(pool.discards()).isEqualTo(3);
+		}
+
+		@Test
+		void trim_drops_pooled_nodes(SoftAssertions softly) {
+			pool.release(pool.acquire(1, null));
+			pool.trim();
+			softly.assertThat(pool.pooled()).isZero();
+			pool.acquire(2, null);
+			softly.assertThat(pool.allocations()).isEqualTo(2);
+		}
+
+		@Test
+		void reset_statistics_keeps_pooled_nodes(SoftAssertions softly) {
+			pool.release(pool.acquire(1, null));
+			pool.resetStatistics();
+			softly.assertThat(pool.allocations()).isZero();
+			softly.assertThat(pool.pooled()).isEqualTo(1);
+		}
+	}
+	//endregion
+
+	//region Thread Local
+	@Nested
+	class Thread_Local {
+
+		@Test
+		void each_thread_gets_its_own_free_list(SoftAssertions softly) throws InterruptedException {
+			NodePool<Integer> shared = NodePool.threadLocal(4);
+			shared.release(shared.acquire(1, null));
+
+			AtomicLong otherThreadPooled = new AtomicLong(-1);
+			Thread other = new Thread(() -> otherThreadPooled.set(shared.pooled()));
+			other.start();
+			other.join();
+
+			softly.assertThat(shared.pooled()).isEqualTo(1);
+			softly.assertThat(otherThreadPooled.get()).isZero();
+		}
+	}
+	//endregion
+}
@@ -0,0 +1,291 @@
+package data_structures.queue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@SuppressWarnings({"ConstantConditions", "unused"})
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ExtendWith(SoftAssertionsExtension.class)
+class BlockingLinkedQueueTest {
+
+	BlockingLinkedQueue<Integer> queue;
+
+	@BeforeEach
+	void setUp() {
+		queue = new BlockingLinkedQueue<>(3);
+	}
+
+	//region Constructor
+	@Nested
+	class Constructor {
+
+		@Test
+		void creates_empty_queue(SoftAssertions softly) {
+			softly.assertThat(queue.isEmpty()).isTrue();
+			softly.assertThat(queue.capacity()).isEqualTo(3);
+			softly.assertThat(queue.remainingCapacity()).isEqualTo(3);
+		}
+
+		@Test
+		void throws_on_zero_capacity() {
+			assertThatThrownBy(() -> new BlockingLinkedQueue<Integer>(0))
+				.isInstanceOf(IllegalArgumentException.class);
+		}
+
+		@Test
+		void is_unbounded_by_default() {
+			assertThat(new BlockingLinkedQueue<Integer>().capacity()).isEqualTo(Integer.MAX_VALUE);
+		}
+	}
+	//endregion
+
+	//region Non Blocking
+	@Nested
+	class Non_Blocking {
+
+		@Test
+		void dequeue_and_peek_throw_on_empty_queue(SoftAssertions softly) {
+			softly.assertThatThrownBy(() -> queue.dequeue())
+				.isInstanceOf(IndexOutOfBoundsException.class);
+			softly.assertThatThrownBy(() -> queue.peek())
+				.isInstanceOf(IndexOutOfBoundsException.class);
+		}
+
+		@Test
+		void enqueue_throws_on_full_queue() {
+			fill();
+			assertThatThrownBy(() -> queue.enqueue(4))
+				.isInstanceOf(IllegalStateException.class);
+		}
+
+		@Test
+		void rejects_null_values() {
+			assertThatThrownBy(() -> queue.offer(null))
+				.isInstanceOf(NullPointerException.class);
+		}
+
+		@Test
+		void offer_and_poll_report_instead_of_throwing(SoftAssertions softly) {
+			softly.assertThat(queue.poll()).isNull();
+			fill();
+			softly.assertThat(queue.offer(4)).isFalse();
+			softly.assertThat(queue.poll()).isEqualTo(1);
+			softly.assertThat(queue.offer(4)).isTrue();
+		}
+
+		@Test
+		void maintains_FIFO_order(SoftAssertions softly) {
+			fill();
+			softly.assertThat(queue.peek()).isEqualTo(1);
+			softly.assertThat(queue.dequeue()).isEqualTo(1);
+			softly.assertThat(queue.dequeue()).isEqualTo(2);
+			softly.assertThat(queue.dequeue()).isEqualTo(3);
+			softly.assertThat(queue.isEmpty()).isTrue();
+		}
+
+		@Test
+		void contains_and_clear(SoftAssertions softly) {
+			fill();
+			softly.assertThat(queue.contains(2)).isTrue();
+			softly.assertThat(queue.contains(9)).isFalse();
+			queue.clear();
+			softly.assertThat(queue.isEmpty()).isTrue();
+			softly.assertThat(queue.remainingCapacity()).isEqualTo(3);
+		}
+
+		@Test
+		void iterates_and_prints_front_to_rear(SoftAssertions softly) {
+			queue.enqueue(1);
+			queue.enqueue(2);
+			softly.assertThat(queue).containsExactly(1, 2);
+			softly.assertThat(queue).hasToString("[1, 2]");
+			softly.assertThat(queue.toArray()).containsExactly(1, 2);
+		}
+	}
+	//endregion
+
+	//region Timed
+	@Nested
+	class Timed {
+
+		@Test
+		void poll_times_out_on_empty_queue() throws InterruptedException {
+			assertThat(queue.poll(10, TimeUnit.MILLISECONDS)).isNull();
+		}
+
+		@Test
+		void offer_times_out_on_full_queue(SoftAssertions softly) throws InterruptedException {
+			fill();
+			softly.assertThat(queue.offer(4, 10, TimeUnit.MILLISECONDS)).isFalse();
+			softly.assertThat(queue.size()).isEqualTo(3);
+		}
+
+		@Test
+		@Timeout(5)
+		void blocked_offer_completes_once_space_frees(SoftAssertions softly) throws InterruptedException {
+			fill();
+			Thread consumer = new Thread(() -> {
+				try {
+					Thread.sleep(20);
+					queue.take();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+			consumer.start();
+			softly.assertThat(queue.offer(4, 5, TimeUnit.SECONDS)).isTrue();
+			consumer.join();
+			softly.assertThat(queue.peek()).isEqualTo(2);
+		}
+
+		@Test
+		@Timeout(5)
+		void blocked_take_completes_once_element_arrives() throws InterruptedException {
+			Thread producer = new Thread(() -> {
+				try {
+					Thread.sleep(20);
+					queue.put(7);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+			producer.start();
+			assertThat(queue.take()).isEqualTo(7);
+			producer.join();
+		}
+	}
+	//endregion
+
+	//region Batch Operations
+	@Nested
+	class Batch_Operations {
+
+		@Test
+		void enqueueAll_is_all_or_nothing(SoftAssertions softly) {
+			queue.enqueue(1);
+			softly.assertThatThrownBy(() -> queue.enqueueAll(new Integer[] {2, 3, 4}, 0, 3))
+				.isInstanceOf(IllegalStateException.class);
+			softly.assertThat(queue.size()).isEqualTo(1);
+			queue.enqueueAll(new Integer[] {2, 3}, 0, 2);
+			softly.assertThat(queue.size()).isEqualTo(3);
+		}
+
+		@Test
+		void drainTo_and_dequeueBatch_take_from_front(SoftAssertions softly) {
+			fill();
+			List<Integer> drained = new ArrayList<>();
+			softly.assertThat(queue.drainTo(drained::add, 2)).isEqualTo(2);
+			softly.assertThat(drained).containsExactly(1, 2);
+			Integer[] rest = new Integer[3];
+			softly.assertThat(queue.dequeueBatch(rest)).isEqualTo(1);
+			softly.assertThat(rest[0]).isEqualTo(3);
+		}
+
+		@Test
+		@Timeout(5)
+		void batch_wakes_every_blocked_consumer() throws InterruptedException {
+			CountDownLatch done = new CountDownLatch(3);
+			for (int i = 0; i < 3; i++) {
+				Thread.ofVirtual().start(() -> {
+					try {
+						queue.take();
+						done.countDown();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				});
+			}
+			Thread.sleep(20);
+			queue.enqueueAll(new Integer[] {1, 2, 3}, 0, 3);
+			done.await();
+			assertThat(queue.isEmpty()).isTrue();
+		}
+	}
+	//endregion
+
+	//region Integration
+	@Nested
+	class Integration {
+
+		@Test
+		@Timeout(30)
+		void virtual_thread_producers_and_consumers_exchange_everything() throws InterruptedException {
+			int producers = 8;
+			int perProducer = 10_000;
+			AtomicLong sum = new AtomicLong();
+			CountDownLatch done = new CountDownLatch(producers * 2);
+
+			for (int p = 0; p < producers; p++) {
+				Thread.ofVirtual().start(() -> {
+					try {
+						for (int i = 1; i <= perProducer; i++)
+							queue.put(i);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					} finally {
+						done.countDown();
+					}
+				});
+				Thread.ofVirtual().start(() -> {
+					try {
+						for (int i = 0; i < perProducer; i++)
+							sum.addAndGet(queue.take());
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					} finally {
+						done.countDown();
+					}
+				});
+			}
+
+			done.await();
+			assertThat(sum.get()).isEqualTo((long) producers * perProducer * (perProducer + 1) / 2);
+		}
+
+		@Test
+		@Timeout(30)
+		void peek_never_sees_a_half_published_node() throws InterruptedException {
+			var unbounded = new BlockingLinkedQueue<Integer>();
+			int count = 100_000;
+			Thread producer = Thread.ofVirtual().start(() -> {
+				for (int i = 0; i < count; i++)
+					unbounded.enqueue(i);
+			});
+
+			for (int seen = 0; seen < count; ) {
+				if (unbounded.isEmpty()) {
+					Thread.onSpinWait();
+					continue;
+				}
+
+				assertThat(unbounded.peek()).isEqualTo(seen);
+				unbounded.dequeue();
+				seen++;
+			}
+
+			producer.join();
+		}
+	}
+	//endregion
+
+	private void fill() {
+		queue.enqueue(1);
+		queue.enqueue(2);
+		queue.enqueue(3);
+	}
+}
@@ -0,0 +1,238 @@
+package data_structures.queue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@SuppressWarnings({"ConstantConditions", "unused"})
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ExtendWith(SoftAssertionsExtension.class)
+class HashIndexedQueueTest {
+
+	//region Constructor
+	@Nested
+	class Constructor {
+
+		@Test
+		void indexes_existing_elements_in_order(SoftAssertions softly) {
+			var delegate = new LinkedQueue<String>();
+			delegate.enqueue("a");
+			delegate.enqueue("b");
+			delegate.enqueue("a");
+			var queue = HashIndexedQueue.counting(delegate);
+
+			softly.assertThat(queue.count("a")).isEqualTo(2);
+			softly.assertThat(queue.distinctCount()).isEqualTo(2);
+			softly.assertThat(queue.dequeue()).isEqualTo("a");
+			softly.assertThat(queue.dequeue()).isEqualTo("b");
+		}
+
+		@Test
+		void unique_throws_on_existing_duplicates() {
+			var delegate = new LinkedQueue<String>();
+			delegate.enqueue("a");
+			delegate.enqueue("a");
+
+			assertThatThrownBy(() -> HashIndexedQueue.unique(delegate))
+				.isInstanceOf(IllegalArgumentException.class);
+			assertThat(delegate.size()).isEqualTo(2);
+		}
+	}
+	//endregion
+
+	//region Counting
+	@Nested
+	class Counting {
+
+		HashIndexedQueue<String> queue = HashIndexedQueue.counting(new LinkedQueue<>());
+
+		@Test
+		void tracks_duplicates_through_dequeue(SoftAssertions softly) {
+			queue.enqueue("a");
+			queue.enqueue("b");
+			queue.enqueue("a");
+
+			softly.assertThat(queue.contains("a")).isTrue();
+			softly.assertThat(queue.count("a")).isEqualTo(2);
+
+			queue.dequeue();
+
+			softly.assertThat(queue.count("a")).isEqualTo(1);
+
+			queue.dequeue();
+			queue.dequeue();
+
+			softly.assertThat(queue.contains("a")).isFalse();
+			softly.assertThat(queue.distinctCount()).isZero();
+		}
+
+		@Test
+		void enqueue_if_absent_reports_new_elements(SoftAssertions softly) {
+			softly.assertThat(queue.enqueueIfAbsent("a")).isTrue();
+			softly.assertThat(queue.enqueueIfAbsent("a")).isFalse();
+			softly.assertThat(queue.size()).isEqualTo(2);
+		}
+
+		@Test
+		void rejects_null() {
+			assertThatThrownBy(() -> queue.enqueue(null)).isInstanceOf(NullPointerException.class);
+			assertThat(queue.contains(null)).isFalse();
+		}
+	}
+	//endregion
+
+	//region Unique
+	@Nested
+	class Unique {
+
+		HashIndexedQueue<Integer> queue = HashIndexedQueue.unique(new LinkedQueue<>());
+
+		@Test
+		void rejects_queued_element(SoftAssertions softly) {
+			queue.enqueue(1);
+
+			softly.assertThat(queue.enqueueIfAbsent(1)).isFalse();
+			softly.assertThatThrownBy(() -> queue.enqueue(1)).isInstanceOf(IllegalArgumentException.class);
+			softly.assertThat(queue.size()).isEqualTo(1);
+		}
+
+		@Test
+		void accepts_element_again_after_dequeue() {
+			queue.enqueue(1);
+			queue.dequeue();
+
+			assertThat(queue.enqueueIfAbsent(1)).isTrue();
+		}
+
+		@Test
+		void enqueue_all_is_all_or_nothing(SoftAssertions softly) {
+			queue.enqueue(3);
+
+			softly.assertThatThrownBy(() -> queue.enqueueAll(new Integer[]{1, 2, 3}, 0, 3))
+				.isInstanceOf(IllegalArgumentException.class);
+			softly.assertThat(queue.contains(1)).isFalse();
+			softly.assertThatThrownBy(() -> queue.enqueueAll(new Integer[]{4, 4}, 0, 2))
+				.isInstanceOf(IllegalArgumentException.class);
+			softly.assertThat(queue.contains(4)).isFalse();
+			softly.assertThat(queue.size()).isEqualTo(1);
+		}
+	}
+	//endregion
+
+	//region Batch Operations
+	@Nested
+	class Batch_Operations {
+
+		HashIndexedQueue<Integer> queue = HashIndexedQueue.counting(new LinkedQueue<>());
+
+		@Test
+		void drain_and_batch_dequeue_update_index(SoftAssertions softly) {
+			queue.enqueueAll(new Integer[]{1, 2, 3, 4}, 0, 4);
+			List<Integer> drained = new ArrayList<>();
+
+			softly.assertThat(queue.drainTo(drained::add, 2)).isEqualTo(2);
+			softly.assertThat(drained).containsExactly(1, 2);
+			softly.assertThat(queue.contains(1)).isFalse();
+
+			var rest = new Integer[4];
+
+			softly.assertThat(queue.dequeueBatch(rest)).isEqualTo(2);
+			softly.assertThat(queue.contains(4)).isFalse();
+			softly.assertThat(queue.distinctCount()).isZero();
+		}
+	}
+	//endregion
+
+	//region Bounded Delegate
+	@Nested
+	class Bounded_Delegate {
+
+		@Test
+		void full_delegate_leaves_no_phantom_entry(SoftAssertions softly) {
+			var queue = HashIndexedQueue.unique(new SpscArrayQueue<Integer>(2));
+			queue.enqueue(1);
+			queue.enqueue(2);
+
+			softly.assertThatThrownBy(() -> queue.enqueueIfAbsent(3)).isInstanceOf(IllegalStateException.class);
+			softly.assertThat(queue.contains(3)).isFalse();
+			softly.assertThat(queue.distinctCount()).isEqualTo(2);
+
+			queue.dequeue();
+
+			softly.assertThat(queue.enqueueIfAbsent(3)).isTrue();
+			softly.assertThat(queue.distinctCount()).isEqualTo(2);
+		}
+
+		@Test
+		void partially_accepted_batch_indexes_only_what_was_queued(SoftAssertions softly) {
+			var queue = HashIndexedQueue.counting(new MpmcArrayQueue<Integer>(2));
+			queue.enqueue(7);
+
+			softly.assertThatThrownBy(() -> queue.enqueueAll(new Integer[]{1, 2, 3}, 0, 3))
+				.isInstanceOf(IllegalStateException.class);
+			softly.assertThat(queue.size()).isEqualTo(2);
+			softly.assertThat(queue.count(1)).isEqualTo(1);
+			softly.assertThat(queue.contains(2)).isFalse();
+			softly.assertThat(queue.contains(3)).isFalse();
+			softly.assertThat(queue.distinctCount()).isEqualTo(2);
+		}
+	}
+	//endregion
+
+	//region Index
+	@Nested
+	class Index {
+
+		@Test
+		void survives_growth_and_removals() {
+			var queue = HashIndexedQueue.counting(new LinkedQueue<Integer>());
+
+			for (int i = 0; i < 10_000; i++) {
+				queue.enqueue(i * 1024);
+			}
+
+			for (int i = 0; i < 5_000; i++) {
+				queue.dequeue();
+			}
+
+			for (int i = 0; i < 10_000; i++) {
+				assertThat(queue.contains(i * 1024)).isEqualTo(i >= 5_000);
+			}
+		}
+
+		@Test
+		void reports_footprint_of_table(SoftAssertions softly) {
+			var counting = HashIndexedQueue.counting(new LinkedQueue<Integer>());
+			var unique = HashIndexedQueue.unique(new LinkedQueue<Integer>());
+
+			for (int i = 0; i < 100; i++) {
+				counting.enqueue(i);
+				unique.enqueue(i);
+			}
+
+			softly.assertThat(unique.indexBytes()).isLessThan(counting.indexBytes());
+			softly.assertThat(counting.indexBytes()).isEqualTo(2 * 16 + 256 * 8);
+		}
+
+		@Test
+		void clear_empties_index(SoftAssertions softly) {
+			var queue = HashIndexedQueue.unique(new LinkedQueue<Integer>());
+			queue.enqueue(1);
+			queue.clear();
+
+			softly.assertThat(queue.isEmpty()).isTrue();
+			softly.assertThat(queue.contains(1)).isFalse();
+			softly.assertThat(queue.enqueueIfAbsent(1)).isTrue();
+		}
+	}
+	//endregion
+}
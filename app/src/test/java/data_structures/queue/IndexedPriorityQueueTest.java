@@ -0,0 +1,148 @@
+package data_structures.queue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import data_structures.queue.IndexedPriorityQueue.Handle;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@SuppressWarnings({"ConstantConditions", "unused"})
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ExtendWith(SoftAssertionsExtension.class)
+class IndexedPriorityQueueTest {
+
+	IndexedPriorityQueue<Integer> queue;
+
+	@BeforeEach
+	void setUp() {
+		queue = IndexedPriorityQueue.naturalOrder();
+	}
+
+	//region Queue Operations
+	@Nested
+	class Queue_Operations {
+
+		@Test
+		void dequeue_and_peek_throw_on_empty_queue(SoftAssertions softly) {
+			softly.assertThatThrownBy(() -> queue.dequeue())
+				.isInstanceOf(IndexOutOfBoundsException.class);
+			softly.assertThatThrownBy(() -> queue.peek())
+				.isInstanceOf(IndexOutOfBoundsException.class);
+		}
+
+		@Test
+		void dequeues_in_priority_order(SoftAssertions softly) {
+			for (int value : new int[] {5, 2, 8, 2, 1})
+				queue.enqueue(value);
+			softly.assertThat(queue.peek()).isEqualTo(1);
+			softly.assertThat(drain()).containsExactly(1, 2, 2, 5, 8);
+		}
+
+		@Test
+		void dequeued_handle_becomes_invalid(SoftAssertions softly) {
+			var handle = queue.insert(1);
+			softly.assertThat(handle.isValid()).isTrue();
+			softly.assertThat(queue.pollHandle()).isSameAs(handle);
+			softly.assertThat(handle.isValid()).isFalse();
+			softly.assertThat(queue.containsHandle(handle)).isFalse();
+		}
+	}
+	//endregion
+
+	//region Handle Operations
+	@Nested
+	class Handle_Operations {
+
+		@Test
+		void decreaseKey_moves_element_to_front(SoftAssertions softly) {
+			queue.insert(3);
+			queue.insert(4);
+			var handle = queue.insert(9);
+			queue.decreaseKey(handle, 1);
+			softly.assertThat(queue.peek()).isEqualTo(1);
+			softly.assertThat(handle.value()).isEqualTo(1);
+		}
+
+		@Test
+		void decreaseKey_rejects_larger_key() {
+			var handle = queue.insert(3);
+			assertThatThrownBy(() -> queue.decreaseKey(handle, 4))
+				.isInstanceOf(IllegalArgumentException.class);
+		}
+
+		@Test
+		void update_moves_element_in_either_direction(SoftAssertions softly) {
+			var low = queue.insert(1);
+			queue.insert(5);
+			var high = queue.insert(9);
+			queue.update(low, 7);
+			queue.update(high, 0);
+			softly.assertThat(drain()).containsExactly(0, 5, 7);
+		}
+
+		@Test
+		void remove_by_handle_keeps_heap_order(SoftAssertions softly) {
+			List<Handle<Integer>> handles = new ArrayList<>();
+			for (int i = 0; i < 20; i++)
+				handles.add(queue.insert(i));
+			for (int i = 0; i < 20; i += 3)
+				softly.assertThat(queue.remove(handles.get(i))).isEqualTo(i);
+			softly.assertThat(drain()).containsExactly(1, 2, 4, 5, 7, 8, 10, 11, 13, 14, 16, 17, 19);
+		}
+
+		@Test
+		void rejects_stale_and_foreign_handles(SoftAssertions softly) {
+			var stale = queue.insert(1);
+			queue.remove(stale);
+			var foreign = IndexedPriorityQueue.<Integer>naturalOrder().insert(1);
+			softly.assertThatThrownBy(() -> queue.remove(stale))
+				.isInstanceOf(IllegalArgumentException.class);
+			softly.assertThatThrownBy(() -> queue.update(foreign, 2))
+				.isInstanceOf(IllegalArgumentException.class);
+		}
+
+		@Test
+		void clear_invalidates_every_handle(SoftAssertions softly) {
+			var first = queue.insert(1);
+			var second = queue.insert(2);
+			queue.clear();
+			softly.assertThat(queue.isEmpty()).isTrue();
+			softly.assertThat(first.isValid()).isFalse();
+			softly.assertThat(second.isValid()).isFalse();
+		}
+	}
+	//endregion
+
+	//region Integration
+	@Nested
+	class Integration {
+
+		@Test
+		void dijkstra_style_relaxation_yields_sorted_distances() {
+			List<Handle<Integer>> handles = new ArrayList<>();
+			for (int i = 0; i < 100; i++)
+				handles.add(queue.insert(1_000 + i));
+			for (int i = 99; i >= 0; i -= 2)
+				queue.decreaseKey(handles.get(i), i);
+			List<Integer> order = drain();
+			assertThat(order).isSorted().hasSize(100);
+		}
+	}
+	//endregion
+
+	private List<Integer> drain() {
+		List<Integer> values = new ArrayList<>();
+		while (!queue.isEmpty())
+			values.add(queue.dequeue());
+		return values;
+	}
+}
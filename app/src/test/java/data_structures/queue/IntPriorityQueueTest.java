@@ -0,0 +1,167 @@
+package data_structures.queue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@SuppressWarnings({"ConstantConditions", "unused"})
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ExtendWith(SoftAssertionsExtension.class)
+class IntPriorityQueueTest {
+
+	IntPriorityQueue queue;
+
+	@BeforeEach
+	void setUp() {
+		queue = new IntPriorityQueue(16);
+	}
+
+	//region Constructor
+	@Nested
+	class Constructor {
+
+		@Test
+		void creates_empty_queue(SoftAssertions softly) {
+			softly.assertThat(queue.isEmpty()).isTrue();
+			softly.assertThat(queue.maxId()).isEqualTo(16);
+		}
+
+		@Test
+		void throws_on_negative_max_id() {
+			assertThatThrownBy(() -> new IntPriorityQueue(-1))
+				.isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+	//endregion
+
+	//region Queue Operations
+	@Nested
+	class Queue_Operations {
+
+		@Test
+		void pop_and_peek_throw_on_empty_queue(SoftAssertions softly) {
+			softly.assertThatThrownBy(() -> queue.pop())
+				.isInstanceOf(IndexOutOfBoundsException.class);
+			softly.assertThatThrownBy(() -> queue.peekPriority())
+				.isInstanceOf(IndexOutOfBoundsException.class);
+		}
+
+		@Test
+		void pops_ids_by_ascending_priority(SoftAssertions softly) {
+			queue.push(3, 30);
+			queue.push(1, 10);
+			queue.push(7, 20);
+			softly.assertThat(queue.peek()).isEqualTo(1);
+			softly.assertThat(queue.peekPriority()).isEqualTo(10);
+			softly.assertThat(queue.pop()).isEqualTo(1);
+			softly.assertThat(queue.pop()).isEqualTo(7);
+			softly.assertThat(queue.pop()).isEqualTo(3);
+			softly.assertThat(queue.isEmpty()).isTrue();
+		}
+
+		@Test
+		void rejects_duplicate_and_out_of_range_ids(SoftAssertions softly) {
+			queue.push(2, 5);
+			softly.assertThatThrownBy(() -> queue.push(2, 6))
+				.isInstanceOf(IllegalArgumentException.class);
+			softly.assertThatThrownBy(() -> queue.push(16, 1))
+				.isInstanceOf(IndexOutOfBoundsException.class);
+		}
+
+		@Test
+		void decreaseKey_reorders_and_rejects_increase(SoftAssertions softly) {
+			queue.push(0, 50);
+			queue.push(1, 40);
+			queue.decreaseKey(0, 10);
+			softly.assertThat(queue.peek()).isZero();
+			softly.assertThat(queue.priorityOf(0)).isEqualTo(10);
+			softly.assertThatThrownBy(() -> queue.decreaseKey(1, 60))
+				.isInstanceOf(IllegalArgumentException.class);
+			softly.assertThatThrownBy(() -> queue.decreaseKey(5, 1))
+				.isInstanceOf(IllegalArgumentException.class);
+		}
+
+		@Test
+		void pushOrDecrease_only_lowers(SoftAssertions softly) {
+			softly.assertThat(queue.pushOrDecrease(4, 20)).isTrue();
+			softly.assertThat(queue.pushOrDecrease(4, 25)).isFalse();
+			softly.assertThat(queue.pushOrDecrease(4, 15)).isTrue();
+			softly.assertThat(queue.priorityOf(4)).isEqualTo(15);
+		}
+
+		@Test
+		void remove_and_clear(SoftAssertions softly) {
+			queue.push(1, 1);
+			queue.push(2, 2);
+			queue.push(3, 3);
+			softly.assertThat(queue.remove(1)).isTrue();
+			softly.assertThat(queue.remove(1)).isFalse();
+			softly.assertThat(queue.contains(1)).isFalse();
+			softly.assertThat(queue.peek()).isEqualTo(2);
+			queue.clear();
+			softly.assertThat(queue.isEmpty()).isTrue();
+			softly.assertThat(queue.contains(2)).isFalse();
+		}
+
+		@Test
+		void accepts_priorities_in_any_order(SoftAssertions softly) {
+			queue.push(0, 5);
+			softly.assertThat(queue.pop()).isZero();
+			queue.push(1, -3);
+			softly.assertThat(queue.peekPriority()).isEqualTo(-3);
+		}
+	}
+	//endregion
+
+	//region Integration
+	@Nested
+	class Integration {
+
+		@Test
+		void shortest_paths_match_brute_force_relaxation() {
+			var random = new Random(3);
+			int n = 200;
+			long[][] weight = new long[n][n];
+			for (int u = 0; u < n; u++)
+				for (int v = 0; v < n; v++)
+					weight[u][v] = random.nextInt(10) == 0 ? 1 + random.nextInt(100) : -1;
+
+			long[] dist = new long[n];
+			Arrays.fill(dist, Long.MAX_VALUE);
+			dist[0] = 0;
+			var heap = new IntPriorityQueue(n);
+			heap.push(0, 0);
+			while (!heap.isEmpty()) {
+				int u = heap.pop();
+				for (int v = 0; v < n; v++) {
+					if (weight[u][v] >= 0 && dist[u] + weight[u][v] < dist[v]) {
+						dist[v] = dist[u] + weight[u][v];
+						heap.pushOrDecrease(v, dist[v]);
+					}
+				}
+			}
+
+			long[] expected = new long[n];
+			Arrays.fill(expected, Long.MAX_VALUE);
+			expected[0] = 0;
+			for (int round = 0; round < n; round++)
+				for (int u = 0; u < n; u++)
+					for (int v = 0; v < n; v++)
+						if (expected[u] != Long.MAX_VALUE && weight[u][v] >= 0 && expected[u] + weight[u][v] < expected[v])
+							expected[v] = expected[u] + weight[u][v];
+
+			assertThat(dist).isEqualTo(expected);
+		}
+	}
+	//endregion
+}
@@ -1,5 +1,10 @@
 package data_structures.queue;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import data_structures.linked_list.NodePool;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import org.assertj.core.api.SoftAssertions;
@@ -409,6 +414,37 @@ class LinkedQueueTest {
     }
     //endregion
 
+    //region - Batch Operations
+    @Nested
+    class Batch_Operations {
+
+        @Test
+        void enqueueAll_appends_slice(SoftAssertions softly) {
+            queue.enqueueAll(new Integer[] {9, 1, 2, 9}, 1, 2);
+            softly.assertThat(queue.toArray()).containsExactly(1, 2);
+        }
+
+        @Test
+        void enqueueAll_throws_on_bad_range() {
+            assertThatThrownBy(() -> queue.enqueueAll(new Integer[2], 1, 2))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        }
+
+        @Test
+        void drainTo_and_dequeueBatch_take_from_front(SoftAssertions softly) {
+            for (int i = 0; i < 5; i++)
+                queue.enqueue(i);
+            List<Integer> drained = new ArrayList<>();
+            softly.assertThat(queue.drainTo(drained::add, 2)).isEqualTo(2);
+            softly.assertThat(drained).containsExactly(0, 1);
+            Integer[] rest = new Integer[5];
+            softly.assertThat(queue.dequeueBatch(rest)).isEqualTo(3);
+            softly.assertThat(rest).startsWith(2, 3, 4);
+            softly.assertThat(queue.isEmpty()).isTrue();
+        }
+    }
+    //endregion
+
     //region - Integration
     @Nested
     class Integration {
@@ -510,4 +546,57 @@ class LinkedQueueTest {
         }
     }
     //endregion
+
+    //region - Pooling
+    @Nested
+    class Pooling {
+
+        @Test
+        void default_queue_allocates_every_enqueue(SoftAssertions softly) {
+            for (int i = 0; i < 3; i++) {
+                queue.enqueue(i);
+                queue.dequeue();
+            }
+            softly.assertThat(queue.pool().allocations()).isEqualTo(3);
+            softly.assertThat(queue.pool().reuses()).isZero();
+        }
+
+        @Test
+        void pooled_queue_reuses_dequeued_nodes(SoftAssertions softly) {
+            LinkedQueue<Integer> pooled = new LinkedQueue<>(8);
+            for (int i = 0; i < 100; i++) {
+                pooled.enqueue(i);
+                softly.assertThat(pooled.dequeue()).isEqualTo(i);
+            }
+            softly.assertThat(pooled.pool().allocations()).isEqualTo(1);
+            softly.assertThat(pooled.pool().reuses()).isEqualTo(99);
+        }
+
+        @Test
+        void thread_local_pool_is_shared_between_queues(SoftAssertions softly) {
+            NodePool<Integer> pool = NodePool.threadLocal(16);
+            LinkedQueue<Integer> first = new LinkedQueue<>(pool);
+            LinkedQueue<Integer> second = new LinkedQueue<>(pool);
+            for (int i = 0; i < 5; i++)
+                first.enqueue(i);
+            while (!first.isEmpty())
+                second.enqueue(first.dequeue());
+            softly.assertThat(second.toArray()).containsExactly(0, 1, 2, 3, 4);
+            softly.assertThat(pool.allocations()).isEqualTo(5);
+            softly.assertThat(pool.reuses()).isEqualTo(5);
+        }
+
+        @Test
+        void clear_empties_queue_and_fills_pool(SoftAssertions softly) {
+            LinkedQueue<Integer> pooled = new LinkedQueue<>(4);
+            for (int i = 0; i < 3; i++)
+                pooled.enqueue(i);
+            pooled.clear();
+            softly.assertThat(pooled.isEmpty()).isTrue();
+            softly.assertThat(pooled.pool().pooled()).isEqualTo(3);
+            pooled.enqueue(7);
+            softly.assertThat(pooled.peek()).isEqualTo(7);
+        }
+    }
+    //endregion
 }
@@ -0,0 +1,203 @@
+package data_structures.queue;
+
+import java.util.Iterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@SuppressWarnings({"ConstantConditions", "unused"})
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ExtendWith(SoftAssertionsExtension.class)
+class LockFreeLinkedQueueTest {
+
+	LockFreeLinkedQueue<Integer> queue;
+
+	@BeforeEach
+	void setUp() {
+		queue = new LockFreeLinkedQueue<>();
+	}
+
+	//region Queue Operations
+	@Nested
+	class Queue_Operations {
+
+		@Test
+		void new_queue_is_empty(SoftAssertions softly) {
+			softly.assertThat(queue.isEmpty()).isTrue();
+			softly.assertThat(queue.size()).isZero();
+			softly.assertThat(queue.poll()).isNull();
+		}
+
+		@Test
+		void dequeue_throws_on_empty_queue() {
+			assertThatThrownBy(() -> queue.dequeue())
+				.isInstanceOf(IndexOutOfBoundsException.class);
+		}
+
+		@Test
+		void peek_throws_on_empty_queue() {
+			assertThatThrownBy(() -> queue.peek())
+				.isInstanceOf(IndexOutOfBoundsException.class);
+		}
+
+		@Test
+		void rejects_null_values() {
+			assertThatThrownBy(() -> queue.enqueue(null))
+				.isInstanceOf(NullPointerException.class);
+		}
+
+		@Test
+		void maintains_FIFO_order(SoftAssertions softly) {
+			queue.enqueue(1);
+			queue.enqueue(2);
+			queue.enqueue(3);
+			softly.assertThat(queue.peek()).isEqualTo(1);
+			softly.assertThat(queue.dequeue()).isEqualTo(1);
+			softly.assertThat(queue.dequeue()).isEqualTo(2);
+			softly.assertThat(queue.dequeue()).isEqualTo(3);
+			softly.assertThat(queue.isEmpty()).isTrue();
+		}
+	}
+	//endregion
+
+	//region Utilities
+	@Nested
+	class Utilities {
+
+		@Test
+		void contains_sees_only_live_elements(SoftAssertions softly) {
+			queue.enqueue(1);
+			queue.enqueue(2);
+			queue.dequeue();
+			softly.assertThat(queue.contains(1)).isFalse();
+			softly.assertThat(queue.contains(2)).isTrue();
+			softly.assertThat(queue.contains(null)).isFalse();
+		}
+
+		@Test
+		void clear_empties_queue(SoftAssertions softly) {
+			queue.enqueue(1);
+			queue.enqueue(2);
+			queue.clear();
+			softly.assertThat(queue.isEmpty()).isTrue();
+			softly.assertThat(queue.size()).isZero();
+		}
+
+		@Test
+		void toArray_and_toString_list_front_to_rear(SoftAssertions softly) {
+			queue.enqueue(1);
+			queue.enqueue(2);
+			queue.enqueue(3);
+			softly.assertThat(queue.toArray()).containsExactly(1, 2, 3);
+			softly.assertThat(queue).hasToString("[1, 2, 3]");
+		}
+	}
+	//endregion
+
+	//region Iterator
+	@Nested
+	class Iteration {
+
+		@Test
+		void iterates_from_front_to_rear() {
+			queue.enqueue(1);
+			queue.enqueue(2);
+			assertThat(queue).containsExactly(1, 2);
+		}
+
+		@Test
+		void throws_when_iterating_past_end() {
+			queue.enqueue(1);
+			Iterator<Integer> iterator = queue.iterator();
+			iterator.next();
+			assertThatThrownBy(iterator::next)
+				.isInstanceOf(IndexOutOfBoundsException.class);
+		}
+
+		@Test
+		void iterator_tolerates_concurrent_modification(SoftAssertions softly) {
+			queue.enqueue(1);
+			queue.enqueue(2);
+			Iterator<Integer> iterator = queue.iterator();
+			queue.dequeue();
+			queue.enqueue(3);
+			int visited = 0;
+			while (iterator.hasNext()) {
+				iterator.next();
+				visited++;
+			}
+			softly.assertThat(visited).isBetween(2, 3);
+		}
+	}
+	//endregion
+
+	//region Batch Operations
+	@Nested
+	class Batch_Operations {
+
+		@Test
+		void enqueueAll_links_whole_slice(SoftAssertions softly) {
+			queue.enqueue(0);
+			queue.enqueueAll(new Integer[] {1, 2, 3}, 0, 3);
+			queue.enqueue(4);
+			softly.assertThat(queue.toArray()).containsExactly(0, 1, 2, 3, 4);
+		}
+
+		@Test
+		void dequeueBatch_takes_up_to_array_length(SoftAssertions softly) {
+			queue.enqueueAll(new Integer[] {1, 2, 3}, 0, 3);
+			Integer[] drained = new Integer[2];
+			softly.assertThat(queue.dequeueBatch(drained)).isEqualTo(2);
+			softly.assertThat(drained).containsExactly(1, 2);
+			softly.assertThat(queue.peek()).isEqualTo(3);
+		}
+	}
+	//endregion
+
+	//region Integration
+	@Nested
+	class Integration {
+
+		@Test
+		@Timeout(60)
+		void concurrent_producers_and_consumers_exchange_every_element() throws InterruptedException {
+			int pairs = 4;
+			int perThread = 50_000;
+			AtomicLong sum = new AtomicLong();
+			CountDownLatch done = new CountDownLatch(pairs * 2);
+
+			for (int p = 0; p < pairs; p++) {
+				new Thread(() -> {
+					for (int i = 1; i <= perThread; i++)
+						queue.enqueue(i);
+					done.countDown();
+				}).start();
+				new Thread(() -> {
+					for (int i = 0; i < perThread; i++) {
+						Integer value;
+						while ((value = queue.poll()) == null) {
+							Thread.yield();
+						}
+						sum.addAndGet(value);
+					}
+					done.countDown();
+				}).start();
+			}
+
+			done.await();
+			assertThat(sum.get()).isEqualTo((long) pairs * perThread * (perThread + 1) / 2);
+		}
+	}
+	//endregion
+}
@@ -0,0 +1,212 @@
+package data_structures.queue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@SuppressWarnings({"ConstantConditions", "unused"})
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ExtendWith(SoftAssertionsExtension.class)
+class LongRingBufferTest {
+
+	LongRingBuffer queue;
+
+	@BeforeEach
+	void setUp() {
+		queue = new LongRingBuffer(4);
+	}
+
+	//region Constructor
+	@Nested
+	class Constructor {
+
+		@Test
+		void throws_on_non_positive_capacity() {
+			assertThatThrownBy(() -> new LongRingBuffer(0)).isInstanceOf(IllegalArgumentException.class);
+			assertThatThrownBy(() -> LongRingBuffer.overwriting(-1)).isInstanceOf(IllegalArgumentException.class);
+		}
+
+		@Test
+		void rounds_capacity_up_to_power_of_two(SoftAssertions softly) {
+			softly.assertThat(new LongRingBuffer(5).capacity()).isEqualTo(8);
+			softly.assertThat(new LongRingBuffer(8).capacity()).isEqualTo(8);
+			softly.assertThat(new LongRingBuffer(1).capacity()).isEqualTo(1);
+		}
+
+		@Test
+		void creates_empty_queue(SoftAssertions softly) {
+			softly.assertThat(queue.isEmpty()).isTrue();
+			softly.assertThat(queue.size()).isZero();
+			softly.assertThat(queue.isOverwriting()).isFalse();
+		}
+	}
+	//endregion
+
+	//region Queue Operations
+	@Nested
+	class Queue_Operations {
+
+		@Test
+		void dequeues_in_fifo_order(SoftAssertions softly) {
+			queue.enqueue(1);
+			queue.enqueue(2);
+			queue.enqueue(3);
+
+			softly.assertThat(queue.peek()).isEqualTo(1);
+			softly.assertThat(queue.peekRear()).isEqualTo(3);
+			softly.assertThat(queue.dequeue()).isEqualTo(1);
+			softly.assertThat(queue.dequeue()).isEqualTo(2);
+			softly.assertThat(queue.dequeue()).isEqualTo(3);
+			softly.assertThat(queue.isEmpty()).isTrue();
+		}
+
+		@Test
+		void throws_when_empty() {
+			assertThatThrownBy(queue::dequeue).isInstanceOf(IndexOutOfBoundsException.class);
+			assertThatThrownBy(queue::peek).isInstanceOf(IndexOutOfBoundsException.class);
+			assertThatThrownBy(queue::peekRear).isInstanceOf(IndexOutOfBoundsException.class);
+		}
+
+		@Test
+		void wraps_around_the_array(SoftAssertions softly) {
+			for (long i = 0; i < 3; i++) {
+				queue.enqueue(i);
+			}
+
+			queue.dequeue();
+			queue.dequeue();
+			queue.enqueue(3);
+			queue.enqueue(4);
+			queue.enqueue(5);
+
+			softly.assertThat(queue.capacity()).isEqualTo(4);
+			softly.assertThat(queue.toArray()).containsExactly(2, 3, 4, 5);
+			softly.assertThat(queue.get(0)).isEqualTo(2);
+			softly.assertThat(queue.get(3)).isEqualTo(5);
+		}
+
+		@Test
+		void grows_when_full_and_keeps_order(SoftAssertions softly) {
+			queue.enqueue(0);
+			queue.dequeue();
+
+			for (long i = 1; i <= 9; i++) {
+				queue.enqueue(i);
+			}
+
+			softly.assertThat(queue.capacity()).isEqualTo(16);
+			softly.assertThat(queue.toArray()).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9);
+		}
+
+		@Test
+		void get_throws_outside_size() {
+			queue.enqueue(1);
+
+			assertThatThrownBy(() -> queue.get(1)).isInstanceOf(IndexOutOfBoundsException.class);
+			assertThatThrownBy(() -> queue.get(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+		}
+	}
+	//endregion
+
+	//region Overwriting
+	@Nested
+	class Overwriting {
+
+		@Test
+		void keeps_the_most_recent_elements(SoftAssertions softly) {
+			var window = LongRingBuffer.overwriting(4);
+
+			for (long i = 1; i <= 10; i++) {
+				window.enqueue(i);
+			}
+
+			softly.assertThat(window.capacity()).isEqualTo(4);
+			softly.assertThat(window.isFull()).isTrue();
+			softly.assertThat(window.toArray()).containsExactly(7, 8, 9, 10);
+			softly.assertThat(window.peek()).isEqualTo(7);
+			softly.assertThat(window.peekRear()).isEqualTo(10);
+			softly.assertThat(window.overwritten()).isEqualTo(6);
+		}
+
+		@Test
+		void behaves_as_fifo_after_overwriting(SoftAssertions softly) {
+			var window = LongRingBuffer.overwriting(2);
+			window.enqueue(1);
+			window.enqueue(2);
+			window.enqueue(3);
+
+			softly.assertThat(window.dequeue()).isEqualTo(2);
+			window.enqueue(4);
+			softly.assertThat(window.toArray()).containsExactly(3, 4);
+			softly.assertThat(window.overwritten()).isEqualTo(1);
+		}
+
+		@Test
+		void holds_exactly_a_capacity_that_is_not_a_power_of_two(SoftAssertions softly) {
+			var window = LongRingBuffer.overwriting(3);
+
+			for (long i = 1; i <= 10; i++) {
+				window.enqueue(i);
+			}
+
+			softly.assertThat(window.capacity()).isEqualTo(3);
+			softly.assertThat(window.size()).isEqualTo(3);
+			softly.assertThat(window.isFull()).isTrue();
+			softly.assertThat(window.toArray()).containsExactly(8, 9, 10);
+			softly.assertThat(window.overwritten()).isEqualTo(7);
+
+			var large = LongRingBuffer.overwriting(100);
+
+			for (long i = 0; i < 128; i++) {
+				large.enqueue(i);
+			}
+
+			softly.assertThat(large.size()).isEqualTo(100);
+			softly.assertThat(large.peek()).isEqualTo(28);
+		}
+	}
+	//endregion
+
+	//region Utilities
+	@Nested
+	class Utilities {
+
+		@Test
+		void contains_only_live_elements(SoftAssertions softly) {
+			var window = LongRingBuffer.overwriting(2);
+			window.enqueue(1);
+			window.enqueue(2);
+			window.enqueue(3);
+
+			softly.assertThat(window.contains(1)).isFalse();
+			softly.assertThat(window.contains(3)).isTrue();
+		}
+
+		@Test
+		void clear_resets_queue(SoftAssertions softly) {
+			queue.enqueue(1);
+			queue.enqueue(2);
+			queue.clear();
+
+			softly.assertThat(queue.isEmpty()).isTrue();
+			softly.assertThat(queue.toArray()).isEmpty();
+			softly.assertThat(queue.contains(1)).isFalse();
+		}
+
+		@Test
+		void to_string_lists_front_to_rear() {
+			queue.enqueue(1);
+			queue.enqueue(2);
+
+			assertThat(queue).hasToString("[1, 2]");
+		}
+	}
+	//endregion
+}
@@ -0,0 +1,242 @@
+package data_structures.queue;
+
+import java.util.ArrayDeque;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@SuppressWarnings({"ConstantConditions", "unused"})
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ExtendWith(SoftAssertionsExtension.class)
+class LongSlidingWindowTest {
+
+	//region Constructor
+	@Nested
+	class Constructor {
+
+		@Test
+		void throws_on_invalid_limits() {
+			assertThatThrownBy(() -> LongSlidingWindow.ofCount(0, null))
+				.isInstanceOf(IllegalArgumentException.class);
+			assertThatThrownBy(() -> LongSlidingWindow.ofSpan(0, null))
+				.isInstanceOf(IllegalArgumentException.class);
+		}
+
+		@Test
+		void queries_throw_on_empty_window() {
+			var window = LongSlidingWindow.ofCount(3, Long::sum);
+
+			assertThatThrownBy(window::min).isInstanceOf(IndexOutOfBoundsException.class);
+			assertThatThrownBy(window::max).isInstanceOf(IndexOutOfBoundsException.class);
+			assertThatThrownBy(window::aggregate).isInstanceOf(IndexOutOfBoundsException.class);
+		}
+
+		@Test
+		void aggregate_throws_without_combiner() {
+			var window = LongSlidingWindow.ofCount(3, null);
+			window.add(1);
+
+			assertThatThrownBy(window::aggregate).isInstanceOf(IllegalStateException.class);
+		}
+	}
+	//endregion
+
+	//region Count Window
+	@Nested
+	class Count_Window {
+
+		@Test
+		void keeps_the_last_samples(SoftAssertions softly) {
+			var window = LongSlidingWindow.ofCount(3, Long::sum);
+
+			for (long value : new long[]{5, 1, 4, 2, 8, 3}) {
+				window.add(value);
+			}
+
+			softly.assertThat(window.toArray()).containsExactly(2, 8, 3);
+			softly.assertThat(window.min()).isEqualTo(2);
+			softly.assertThat(window.max()).isEqualTo(8);
+			softly.assertThat(window.aggregate()).isEqualTo(13);
+			softly.assertThat(window.oldest()).isEqualTo(2);
+			softly.assertThat(window.newest()).isEqualTo(3);
+		}
+
+		@Test
+		void tracks_extremes_as_they_slide_out(SoftAssertions softly) {
+			var window = LongSlidingWindow.ofCount(2, null);
+			window.add(9);
+			window.add(1);
+			window.add(5);
+
+			softly.assertThat(window.max()).isEqualTo(5);
+			softly.assertThat(window.min()).isEqualTo(1);
+
+			window.add(7);
+
+			softly.assertThat(window.min()).isEqualTo(5);
+			softly.assertThat(window.max()).isEqualTo(7);
+		}
+
+		@Test
+		void aggregate_preserves_sample_order() {
+			var window = LongSlidingWindow.ofCount(3, (left, right) -> left);
+
+			for (long value = 1; value <= 10; value++) {
+				window.add(value);
+			}
+
+			assertThat(window.aggregate()).isEqualTo(8);
+		}
+
+		@Test
+		void grows_past_initial_capacity(SoftAssertions softly) {
+			var window = LongSlidingWindow.ofCount(100, Long::sum);
+
+			for (long value = 1; value <= 150; value++) {
+				window.add(value);
+			}
+
+			softly.assertThat(window.size()).isEqualTo(100);
+			softly.assertThat(window.min()).isEqualTo(51);
+			softly.assertThat(window.max()).isEqualTo(150);
+			softly.assertThat(window.aggregate()).isEqualTo((51 + 150) * 100 / 2);
+		}
+	}
+	//endregion
+
+	//region Time Window
+	@Nested
+	class Time_Window {
+
+		@Test
+		void evicts_samples_older_than_span(SoftAssertions softly) {
+			var window = LongSlidingWindow.ofSpan(10, Math::max);
+			window.add(0, 70);
+			window.add(5, 20);
+			window.add(9, 30);
+
+			softly.assertThat(window.aggregate()).isEqualTo(70);
+
+			window.add(10, 10);
+
+			softly.assertThat(window.toArray()).containsExactly(20, 30, 10);
+			softly.assertThat(window.max()).isEqualTo(30);
+		}
+
+		@Test
+		void advance_evicts_without_adding(SoftAssertions softly) {
+			var window = LongSlidingWindow.ofSpan(10, Long::sum);
+			window.add(0, 1);
+			window.add(5, 2);
+
+			window.advanceTo(12);
+
+			softly.assertThat(window.toArray()).containsExactly(2);
+			softly.assertThat(window.latest()).isEqualTo(12);
+
+			window.advanceTo(15);
+
+			softly.assertThat(window.isEmpty()).isTrue();
+		}
+
+		@Test
+		void throws_on_timestamp_going_backwards() {
+			var window = LongSlidingWindow.ofSpan(10, null);
+			window.add(5, 1);
+
+			assertThatThrownBy(() -> window.add(4, 1)).isInstanceOf(IllegalArgumentException.class);
+		}
+
+		@Test
+		void combines_count_and_span_limits(SoftAssertions softly) {
+			var window = new LongSlidingWindow(2, 10, Long::sum);
+			window.add(0, 1);
+			window.add(1, 2);
+			window.add(2, 3);
+
+			softly.assertThat(window.toArray()).containsExactly(2, 3);
+
+			window.advanceTo(11);
+
+			softly.assertThat(window.toArray()).containsExactly(3);
+		}
+	}
+	//endregion
+
+	//region Randomized
+	@Nested
+	class Randomized {
+
+		@Test
+		void matches_rescanning_a_queue() {
+			var random = new Random(44);
+			var window = new LongSlidingWindow(50, 40, Long::sum);
+			var reference = new ArrayDeque<long[]>();
+			long now = 0;
+
+			for (int i = 0; i < 5_000; i++) {
+				now += random.nextInt(3);
+				long value = random.nextInt(1_000) - 500;
+				window.add(now, value);
+				reference.addLast(new long[]{now, value});
+
+				long cutoff = now;
+				reference.removeIf(sample -> cutoff - sample[0] >= 40);
+
+				while (reference.size() > 50) {
+					reference.pollFirst();
+				}
+
+				long min = Long.MAX_VALUE;
+				long max = Long.MIN_VALUE;
+				long sum = 0;
+
+				for (var sample : reference) {
+					min = Math.min(min, sample[1]);
+					max = Math.max(max, sample[1]);
+					sum += sample[1];
+				}
+
+				assertThat(window.size()).isEqualTo(reference.size());
+				assertThat(window.min()).isEqualTo(min);
+				assertThat(window.max()).isEqualTo(max);
+				assertThat(window.aggregate()).isEqualTo(sum);
+			}
+		}
+	}
+	//endregion
+
+	//region Utilities
+	@Nested
+	class Utilities {
+
+		@Test
+		void clear_resets_window(SoftAssertions softly) {
+			var window = LongSlidingWindow.ofSpan(10, Long::sum);
+			window.add(100, 1);
+			window.clear();
+			window.add(0, 2);
+
+			softly.assertThat(window.toArray()).containsExactly(2);
+			softly.assertThat(window.aggregate()).isEqualTo(2);
+		}
+
+		@Test
+		void to_string_lists_oldest_to_newest() {
+			var window = LongSlidingWindow.ofCount(3, null);
+			window.add(1);
+			window.add(2);
+
+			assertThat(window).hasToString("[1, 2]");
+		}
+	}
+	//endregion
+}
@@ -0,0 +1,246 @@
+package data_structures.queue;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+@SuppressWarnings({"ConstantConditions", "unused"})
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ExtendWith(SoftAssertionsExtension.class)
+class MappedPersistentQueueTest {
+
+	// Small segments so a handful of records already spans several files.
+	static final int SEGMENT_SIZE = 64;
+
+	@TempDir
+	Path directory;
+
+	MappedPersistentQueue queue;
+
+	@BeforeEach
+	void setUp() {
+		queue = new MappedPersistentQueue(directory, SEGMENT_SIZE);
+	}
+
+	@AfterEach
+	void tearDown() {
+		queue.close();
+	}
+
+	//region Queue Operations
+	@Nested
+	class Queue_Operations {
+
+		@Test
+		void dequeue_and_peek_throw_on_empty_queue(SoftAssertions softly) {
+			softly.assertThatThrownBy(() -> queue.dequeue())
+				.isInstanceOf(IndexOutOfBoundsException.class);
+			softly.assertThatThrownBy(() -> queue.peek())
+				.isInstanceOf(IndexOutOfBoundsException.class);
+		}
+
+		@Test
+		void rejects_null_empty_and_oversized_records(SoftAssertions softly) {
+			softly.assertThatThrownBy(() -> queue.enqueue(null))
+				.isInstanceOf(NullPointerException.class);
+			softly.assertThatThrownBy(() -> queue.enqueue(new byte[0]))
+				.isInstanceOf(IllegalArgumentException.class);
+			softly.assertThatThrownBy(() -> queue.enqueue(new byte[SEGMENT_SIZE - MappedPersistentQueue.HEADER + 1]))
+				.isInstanceOf(IllegalArgumentException.class);
+		}
+
+		@Test
+		void maintains_FIFO_order_across_segments(SoftAssertions softly) {
+			enqueueRecords(0, 20);
+			softly.assertThat(queue.size()).isEqualTo(20);
+			softly.assertThat(queue.segmentCount()).isGreaterThan(1);
+			softly.assertThat(text(queue.peek())).isEqualTo("rec-0");
+			softly.assertThat(drain()).containsExactlyElementsOf(expected(0, 20));
+		}
+
+		@Test
+		void contains_sees_only_unconsumed_records(SoftAssertions softly) {
+			enqueueRecords(0, 10);
+			queue.dequeue();
+			softly.assertThat(queue.contains(bytes("rec-0"))).isFalse();
+			softly.assertThat(queue.contains(bytes("rec-9"))).isTrue();
+			softly.assertThat(queue.contains(null)).isFalse();
+		}
+	}
+	//endregion
+
+	//region Segments
+	@Nested
+	class Segments {
+
+		@Test
+		void consumed_segments_are_deleted(SoftAssertions softly) throws IOException {
+			enqueueRecords(0, 20);
+			int before = segmentFiles();
+			drain();
+			queue.enqueue(bytes("tail"));
+			queue.dequeue();
+			softly.assertThat(before).isGreaterThan(1);
+			softly.assertThat(segmentFiles()).isEqualTo(1);
+		}
+
+		@Test
+		void clear_discards_everything(SoftAssertions softly) throws IOException {
+			enqueueRecords(0, 20);
+			queue.clear();
+			softly.assertThat(queue.isEmpty()).isTrue();
+			softly.assertThat(segmentFiles()).isEqualTo(1);
+			queue.enqueue(bytes("after"));
+			softly.assertThat(text(queue.dequeue())).isEqualTo("after");
+		}
+	}
+	//endregion
+
+	//region Recovery
+	@Nested
+	class Recovery {
+
+		@Test
+		void reopening_resumes_at_consumer_offset(SoftAssertions softly) {
+			enqueueRecords(0, 20);
+			for (int i = 0; i < 7; i++)
+				queue.dequeue();
+			queue.close();
+
+			queue = new MappedPersistentQueue(directory, SEGMENT_SIZE);
+			softly.assertThat(queue.size()).isEqualTo(13);
+			softly.assertThat(drain()).containsExactlyElementsOf(expected(7, 20));
+		}
+
+		@Test
+		void torn_tail_record_is_discarded(SoftAssertions softly) throws IOException {
+			enqueueRecords(0, 5);
+			queue.enqueue(bytes("torn"));
+			queue.close();
+			corruptLastRecord();
+
+			queue = new MappedPersistentQueue(directory, SEGMENT_SIZE);
+			softly.assertThat(queue.size()).isEqualTo(5);
+			queue.enqueue(bytes("fresh"));
+			List<String> recovered = drain();
+			softly.assertThat(recovered).startsWith("rec-0").endsWith("fresh").doesNotContain("torn");
+		}
+
+		@Test
+		void consumed_torn_tail_is_not_delivered_again(SoftAssertions softly) throws IOException {
+			enqueueRecords(0, 5);
+			queue.enqueue(bytes("torn"));
+			drain();
+			queue.close();
+			corruptLastRecord();
+
+			queue = new MappedPersistentQueue(directory, SEGMENT_SIZE);
+			softly.assertThat(queue.isEmpty()).isTrue();
+			queue.enqueue(bytes("fresh"));
+			softly.assertThat(drain()).containsExactly("fresh");
+		}
+
+		@Test
+		void stale_record_after_a_torn_one_is_not_revived(SoftAssertions softly) throws IOException {
+			enqueueRecords(0, 3);
+			queue.close();
+			corruptTailRecord(1);
+
+			queue = new MappedPersistentQueue(directory, SEGMENT_SIZE);
+			softly.assertThat(queue.size()).isEqualTo(1);
+			// Same length as the torn record, so the next header lands exactly on the stale rec-2.
+			queue.enqueue(bytes("new-1"));
+			queue.close();
+
+			queue = new MappedPersistentQueue(directory, SEGMENT_SIZE);
+			softly.assertThat(drain()).containsExactly("rec-0", "new-1");
+		}
+
+		@Test
+		void closed_queue_rejects_operations() {
+			queue.close();
+			assertThatThrownBy(() -> queue.enqueue(bytes("late")))
+				.isInstanceOf(IllegalStateException.class);
+		}
+	}
+	//endregion
+
+	//region Helpers
+	private void enqueueRecords(int from, int to) {
+		for (int i = from; i < to; i++)
+			queue.enqueue(bytes("rec-" + i));
+	}
+
+	private List<String> drain() {
+		List<String> records = new ArrayList<>();
+		while (!queue.isEmpty())
+			records.add(text(queue.dequeue()));
+		return records;
+	}
+
+	private static List<String> expected(int from, int to) {
+		List<String> records = new ArrayList<>();
+		for (int i = from; i < to; i++)
+			records.add("rec-" + i);
+		return records;
+	}
+
+	private int segmentFiles() throws IOException {
+		try (var files = Files.list(directory)) {
+			return (int) files.filter(path -> path.toString().endsWith(".segment")).count();
+		}
+	}
+
+	// Flips a payload byte of the last record in the newest segment so its checksum no longer matches.
+	private void corruptLastRecord() throws IOException {
+		corruptTailRecord(Integer.MAX_VALUE);
+	}
+
+	// Same, for the record at ordinal (or the last one, if there are fewer) in the newest segment.
+	private void corruptTailRecord(int ordinal) throws IOException {
+		Path tail;
+		try (var files = Files.list(directory)) {
+			tail = files.filter(path -> path.toString().endsWith(".segment")).sorted().reduce((a, b) -> b).orElseThrow();
+		}
+
+		try (var channel = FileChannel.open(tail, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			var buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, SEGMENT_SIZE);
+			int position = 0;
+			int target = 0;
+			for (int i = 0; i <= ordinal && position + MappedPersistentQueue.HEADER <= SEGMENT_SIZE
+				&& buffer.getInt(position) != 0; i++) {
+				target = position;
+				position += MappedPersistentQueue.HEADER + buffer.getInt(position);
+			}
+			buffer.put(target + MappedPersistentQueue.HEADER, (byte) 'X');
+			buffer.force();
+		}
+	}
+
+	private static byte[] bytes(String text) {
+		return text.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static String text(byte[] bytes) {
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+	//endregion
+}
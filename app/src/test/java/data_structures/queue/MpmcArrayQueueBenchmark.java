@@ -0,0 +1,128 @@
+package data_structures.queue;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Throughput and per-operation latency of {@link MpmcArrayQueue} against a lock-guarded circular array queue with
+ * equal numbers of producer and consumer threads. {@link java.util.ArrayDeque} behind a {@link ReentrantLock} stands
+ * in for a locked {@link ArrayQueue}, whose body is still a stub. Run with {@code main}; not part of the test suite.
+ */
+class MpmcArrayQueueBenchmark {
+
+	private static final int CAPACITY = 1 << 12;
+	private static final int OPERATIONS_PER_THREAD = 2_000_000;
+	private static final int[] THREAD_PAIRS = {1, 2, 4, 8};
+
+	public static void main(String[] args) throws InterruptedException {
+		System.out.printf("%6s %18s %18s %14s %14s%n", "pairs", "locked M ops/s", "mpmc M ops/s", "locked ns/op", "mpmc ns/op");
+
+		for (int pairs : THREAD_PAIRS) {
+			double locked = run(new LockedQueue(CAPACITY), pairs);
+			double mpmc = run(new MpmcQueue(CAPACITY), pairs);
+			System.out.printf("%6d %18.1f %18.1f %14.1f %14.1f%n",
+				pairs, locked, mpmc, 1_000.0 * pairs * 2 / locked, 1_000.0 * pairs * 2 / mpmc);
+		}
+	}
+
+	private static double run(BenchQueue queue, int pairs) throws InterruptedException {
+		Integer token = 7;
+		CountDownLatch start = new CountDownLatch(1);
+		Thread[] threads = new Thread[pairs * 2];
+
+		for (int p = 0; p < pairs; p++) {
+			threads[2 * p] = new Thread(() -> {
+				await(start);
+				for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+					while (!queue.offer(token)) {
+						Thread.onSpinWait();
+					}
+				}
+			});
+			threads[2 * p + 1] = new Thread(() -> {
+				await(start);
+				for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+					while (queue.poll() == null) {
+						Thread.onSpinWait();
+					}
+				}
+			});
+		}
+
+		for (Thread thread : threads)
+			thread.start();
+
+		long begin = System.nanoTime();
+		start.countDown();
+
+		for (Thread thread : threads)
+			thread.join();
+
+		long elapsed = System.nanoTime() - begin;
+		return 2.0 * pairs * OPERATIONS_PER_THREAD * 1_000 / elapsed;
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private interface BenchQueue {
+		boolean offer(Integer value);
+
+		Integer poll();
+	}
+
+	private record MpmcQueue(MpmcArrayQueue<Integer> queue) implements BenchQueue {
+
+		MpmcQueue(int capacity) {
+			this(new MpmcArrayQueue<>(capacity));
+		}
+
+		@Override
+		public boolean offer(Integer value) {
+			return queue.offer(value);
+		}
+
+		@Override
+		public Integer poll() {
+			return queue.poll();
+		}
+	}
+
+	private static final class LockedQueue implements BenchQueue {
+
+		private final ReentrantLock lock = new ReentrantLock();
+		private final ArrayDeque<Integer> queue;
+		private final int capacity;
+
+		LockedQueue(int capacity) {
+			this.queue = new ArrayDeque<>(capacity);
+			this.capacity = capacity;
+		}
+
+		@Override
+		public boolean offer(Integer value) {
+			lock.lock();
+			try {
+				return queue.size() < capacity && queue.offer(value);
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		@Override
+		public Integer poll() {
+			lock.lock();
+			try {
+				return queue.poll();
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+}
@@ -0,0 +1,160 @@
+package data_structures.queue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@SuppressWarnings({"ConstantConditions", "unused"})
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ExtendWith(SoftAssertionsExtension.class)
+class MpmcArrayQueueTest {
+
+	MpmcArrayQueue<Integer> queue;
+
+	@BeforeEach
+	void setUp() {
+		queue = new MpmcArrayQueue<>(4);
+	}
+
+	//region Constructor
+	@Nested
+	class Constructor {
+
+		@Test
+		void rounds_capacity_up_to_power_of_two() {
+			assertThat(new MpmcArrayQueue<Integer>(5).capacity()).isEqualTo(8);
+		}
+
+		@Test
+		void throws_on_capacity_below_two() {
+			assertThatThrownBy(() -> new MpmcArrayQueue<Integer>(1))
+				.isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+	//endregion
+
+	//region Queue Operations
+	@Nested
+	class Queue_Operations {
+
+		@Test
+		void poll_on_empty_queue_returns_null() {
+			assertThat(queue.poll()).isNull();
+		}
+
+		@Test
+		void dequeue_throws_on_empty_queue() {
+			assertThatThrownBy(() -> queue.dequeue())
+				.isInstanceOf(IndexOutOfBoundsException.class);
+		}
+
+		@Test
+		void peek_throws_on_empty_queue() {
+			assertThatThrownBy(() -> queue.peek())
+				.isInstanceOf(IndexOutOfBoundsException.class);
+		}
+
+		@Test
+		void rejects_null_values() {
+			assertThatThrownBy(() -> queue.offer(null))
+				.isInstanceOf(NullPointerException.class);
+		}
+
+		@Test
+		void offer_fails_when_full(SoftAssertions softly) {
+			for (int i = 0; i < 4; i++)
+				softly.assertThat(queue.offer(i)).isTrue();
+			softly.assertThat(queue.offer(4)).isFalse();
+			softly.assertThatThrownBy(() -> queue.enqueue(4))
+				.isInstanceOf(IllegalStateException.class);
+		}
+
+		@Test
+		void maintains_FIFO_order_across_wraparound(SoftAssertions softly) {
+			for (int round = 0; round < 10; round++) {
+				queue.enqueue(round);
+				queue.enqueue(round + 100);
+				softly.assertThat(queue.peek()).isEqualTo(round);
+				softly.assertThat(queue.dequeue()).isEqualTo(round);
+				softly.assertThat(queue.dequeue()).isEqualTo(round + 100);
+			}
+			softly.assertThat(queue.isEmpty()).isTrue();
+		}
+	}
+	//endregion
+
+	//region Utilities
+	@Nested
+	class Utilities {
+
+		@Test
+		void size_and_contains_track_elements(SoftAssertions softly) {
+			queue.enqueue(1);
+			queue.enqueue(2);
+			softly.assertThat(queue.size()).isEqualTo(2);
+			softly.assertThat(queue.contains(2)).isTrue();
+			queue.dequeue();
+			softly.assertThat(queue.contains(1)).isFalse();
+		}
+
+		@Test
+		void clear_empties_queue(SoftAssertions softly) {
+			queue.enqueue(1);
+			queue.enqueue(2);
+			queue.clear();
+			softly.assertThat(queue.isEmpty()).isTrue();
+			softly.assertThat(queue.size()).isZero();
+		}
+	}
+	//endregion
+
+	//region Integration
+	@Nested
+	class Integration {
+
+		@Test
+		@Timeout(60)
+		void many_producers_and_consumers_exchange_every_element() throws InterruptedException {
+			int pairs = 4;
+			int perThread = 50_000;
+			AtomicLong sum = new AtomicLong();
+			CountDownLatch done = new CountDownLatch(pairs * 2);
+
+			for (int p = 0; p < pairs; p++) {
+				new Thread(() -> {
+					for (int i = 1; i <= perThread; i++) {
+						while (!queue.offer(i)) {
+							Thread.yield();
+						}
+					}
+					done.countDown();
+				}).start();
+				new Thread(() -> {
+					for (int i = 0; i < perThread; i++) {
+						Integer value;
+						while ((value = queue.poll()) == null) {
+							Thread.yield();
+						}
+						sum.addAndGet(value);
+					}
+					done.countDown();
+				}).start();
+			}
+
+			done.await();
+			assertThat(sum.get()).isEqualTo((long) pairs * perThread * (perThread + 1) / 2);
+		}
+	}
+	//endregion
+}
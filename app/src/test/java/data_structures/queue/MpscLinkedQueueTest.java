@@ -0,0 +1,189 @@
+package data_structures.queue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@SuppressWarnings({"ConstantConditions", "unused"})
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ExtendWith(SoftAssertionsExtension.class)
+class MpscLinkedQueueTest {
+
+	MpscLinkedQueue<Integer> queue;
+
+	@BeforeEach
+	void setUp() {
+		queue = new MpscLinkedQueue<>();
+	}
+
+	//region Queue Operations
+	@Nested
+	class Queue_Operations {
+
+		@Test
+		void new_queue_is_empty(SoftAssertions softly) {
+			softly.assertThat(queue.isEmpty()).isTrue();
+			softly.assertThat(queue.size()).isZero();
+			softly.assertThat(queue.poll()).isNull();
+		}
+
+		@Test
+		void dequeue_throws_on_empty_queue() {
+			assertThatThrownBy(() -> queue.dequeue())
+				.isInstanceOf(IndexOutOfBoundsException.class);
+		}
+
+		@Test
+		void peek_throws_on_empty_queue() {
+			assertThatThrownBy(() -> queue.peek())
+				.isInstanceOf(IndexOutOfBoundsException.class);
+		}
+
+		@Test
+		void rejects_null_values() {
+			assertThatThrownBy(() -> queue.enqueue(null))
+				.isInstanceOf(NullPointerException.class);
+		}
+
+		@Test
+		void maintains_FIFO_order(SoftAssertions softly) {
+			queue.enqueue(1);
+			queue.enqueue(2);
+			queue.enqueue(3);
+			softly.assertThat(queue.peek()).isEqualTo(1);
+			softly.assertThat(queue.dequeue()).isEqualTo(1);
+			softly.assertThat(queue.dequeue()).isEqualTo(2);
+			softly.assertThat(queue.dequeue()).isEqualTo(3);
+			softly.assertThat(queue.isEmpty()).isTrue();
+		}
+	}
+	//endregion
+
+	//region Drain
+	@Nested
+	class Drain {
+
+		@Test
+		void drains_up_to_limit_in_order(SoftAssertions softly) {
+			for (int i = 0; i < 5; i++)
+				queue.enqueue(i);
+			List<Integer> drained = new ArrayList<>();
+			softly.assertThat(queue.drainTo(drained::add, 3)).isEqualTo(3);
+			softly.assertThat(drained).containsExactly(0, 1, 2);
+			softly.assertThat(queue.size()).isEqualTo(2);
+		}
+
+		@Test
+		void drain_on_empty_queue_returns_zero() {
+			assertThat(queue.drainTo(value -> { }, 10)).isZero();
+		}
+	}
+	//endregion
+
+	//region Utilities
+	@Nested
+	class Utilities {
+
+		@Test
+		void contains_sees_only_live_elements(SoftAssertions softly) {
+			queue.enqueue(1);
+			queue.enqueue(2);
+			queue.dequeue();
+			softly.assertThat(queue.contains(1)).isFalse();
+			softly.assertThat(queue.contains(2)).isTrue();
+		}
+
+		@Test
+		void clear_empties_queue(SoftAssertions softly) {
+			queue.enqueue(1);
+			queue.enqueue(2);
+			queue.clear();
+			softly.assertThat(queue.isEmpty()).isTrue();
+			queue.enqueue(3);
+			softly.assertThat(queue.peek()).isEqualTo(3);
+		}
+	}
+	//endregion
+
+	//region Batch Enqueue
+	@Nested
+	class Batch_Enqueue {
+
+		@Test
+		void enqueueAll_appends_slice_in_order(SoftAssertions softly) {
+			queue.enqueue(0);
+			queue.enqueueAll(new Integer[] {9, 1, 2, 3, 9}, 1, 3);
+			Integer[] drained = new Integer[8];
+			softly.assertThat(queue.dequeueBatch(drained)).isEqualTo(4);
+			softly.assertThat(drained).startsWith(0, 1, 2, 3);
+		}
+
+		@Test
+		void enqueueAll_rejects_null_elements(SoftAssertions softly) {
+			softly.assertThatThrownBy(() -> queue.enqueueAll(new Integer[] {1, null}, 0, 2))
+				.isInstanceOf(NullPointerException.class);
+			softly.assertThat(queue.isEmpty()).isTrue();
+		}
+	}
+	//endregion
+
+	//region Integration
+	@Nested
+	class Integration {
+
+		@Test
+		@Timeout(60)
+		void per_producer_order_is_preserved(SoftAssertions softly) throws InterruptedException {
+			int producers = 4;
+			int perProducer = 50_000;
+			Thread[] threads = new Thread[producers];
+
+			for (int p = 0; p < producers; p++) {
+				int base = p * perProducer;
+				threads[p] = new Thread(() -> {
+					for (int i = 0; i < perProducer; i++)
+						queue.enqueue(base + i);
+				});
+				threads[p].start();
+			}
+
+			int[] lastSeen = new int[producers];
+			Arrays.fill(lastSeen, -1);
+			int received = 0;
+			int outOfOrder = 0;
+
+			while (received < producers * perProducer) {
+				Integer value = queue.poll();
+				if (value == null) {
+					Thread.yield();
+					continue;
+				}
+				int producer = value / perProducer;
+				if (value % perProducer != lastSeen[producer] + 1) {
+					outOfOrder++;
+				}
+				lastSeen[producer] = value % perProducer;
+				received++;
+			}
+
+			for (Thread thread : threads)
+				thread.join();
+
+			softly.assertThat(outOfOrder).isZero();
+			softly.assertThat(queue.isEmpty()).isTrue();
+		}
+	}
+	//endregion
+}
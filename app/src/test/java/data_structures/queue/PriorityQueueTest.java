@@ -0,0 +1,156 @@
+package data_structures.queue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@SuppressWarnings({"ConstantConditions", "unused"})
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ExtendWith(SoftAssertionsExtension.class)
+class PriorityQueueTest {
+
+	PriorityQueue<Integer> queue;
+
+	@BeforeEach
+	void setUp() {
+		queue = PriorityQueue.naturalOrder();
+	}
+
+	//region Constructor
+	@Nested
+	class Constructor {
+
+		@Test
+		void creates_empty_four_ary_heap(SoftAssertions softly) {
+			softly.assertThat(queue.isEmpty()).isTrue();
+			softly.assertThat(queue.arity()).isEqualTo(4);
+		}
+
+		@Test
+		void throws_on_arity_below_two() {
+			assertThatThrownBy(() -> new PriorityQueue<Integer>(1, Comparator.naturalOrder()))
+				.isInstanceOf(IllegalArgumentException.class);
+		}
+
+		@Test
+		void heapifies_collection(SoftAssertions softly) {
+			var built = new PriorityQueue<>(3, List.of(5, 3, 9, 1, 7, 2), Comparator.<Integer>naturalOrder());
+			softly.assertThat(built.size()).isEqualTo(6);
+			softly.assertThat(drain(built)).containsExactly(1, 2, 3, 5, 7, 9);
+		}
+
+		@Test
+		void honours_comparator() {
+			var maxHeap = new PriorityQueue<Integer>(Comparator.reverseOrder());
+			maxHeap.enqueue(1);
+			maxHeap.enqueue(3);
+			maxHeap.enqueue(2);
+			assertThat(maxHeap.peek()).isEqualTo(3);
+		}
+	}
+	//endregion
+
+	//region Queue Operations
+	@Nested
+	class Queue_Operations {
+
+		@Test
+		void dequeue_and_peek_throw_on_empty_queue(SoftAssertions softly) {
+			softly.assertThatThrownBy(() -> queue.dequeue())
+				.isInstanceOf(IndexOutOfBoundsException.class);
+			softly.assertThatThrownBy(() -> queue.peek())
+				.isInstanceOf(IndexOutOfBoundsException.class);
+		}
+
+		@Test
+		void rejects_null_values() {
+			assertThatThrownBy(() -> queue.enqueue(null))
+				.isInstanceOf(NullPointerException.class);
+		}
+
+		@Test
+		void dequeues_in_priority_order_with_duplicates() {
+			for (int value : new int[] {4, 1, 4, 0, 9, 1})
+				queue.enqueue(value);
+			assertThat(drain(queue)).containsExactly(0, 1, 1, 4, 4, 9);
+		}
+
+		@Test
+		void enqueueAll_small_and_large_batches(SoftAssertions softly) {
+			queue.enqueueAll(new Integer[] {8, 6, 7}, 0, 3);
+			queue.enqueueAll(new Integer[] {5}, 0, 1);
+			softly.assertThat(queue.peek()).isEqualTo(5);
+			softly.assertThatThrownBy(() -> queue.enqueueAll(new Integer[] {1, null}, 0, 2))
+				.isInstanceOf(NullPointerException.class);
+			softly.assertThat(drain(queue)).containsExactly(5, 6, 7, 8);
+		}
+	}
+	//endregion
+
+	//region Utilities
+	@Nested
+	class Utilities {
+
+		@Test
+		void contains_and_clear(SoftAssertions softly) {
+			queue.enqueue(2);
+			queue.enqueue(1);
+			softly.assertThat(queue.contains(2)).isTrue();
+			softly.assertThat(queue.contains(3)).isFalse();
+			softly.assertThat(queue.contains(null)).isFalse();
+			queue.clear();
+			softly.assertThat(queue.isEmpty()).isTrue();
+		}
+
+		@Test
+		void iterator_visits_every_element(SoftAssertions softly) {
+			queue.enqueue(3);
+			queue.enqueue(1);
+			queue.enqueue(2);
+			softly.assertThat(queue).containsExactlyInAnyOrder(1, 2, 3);
+			softly.assertThat(queue.toArray()).hasSize(3);
+		}
+	}
+	//endregion
+
+	//region Integration
+	@Nested
+	class Integration {
+
+		@Test
+		void matches_sorted_order_for_every_arity() {
+			var random = new Random(42);
+			for (int arity = 2; arity <= 8; arity++) {
+				var heap = new PriorityQueue<Integer>(arity, Comparator.naturalOrder());
+				List<Integer> expected = new ArrayList<>();
+				for (int i = 0; i < 2_000; i++) {
+					int value = random.nextInt(500);
+					heap.enqueue(value);
+					expected.add(value);
+				}
+				expected.sort(null);
+				assertThat(drain(heap)).isEqualTo(expected);
+			}
+		}
+	}
+	//endregion
+
+	private static List<Integer> drain(PriorityQueue<Integer> heap) {
+		List<Integer> values = new ArrayList<>();
+		while (!heap.isEmpty())
+			values.add(heap.dequeue());
+		return values;
+	}
+}
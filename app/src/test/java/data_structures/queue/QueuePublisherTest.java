@@ -0,0 +1,381 @@
+package data_structures.queue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@SuppressWarnings({"ConstantConditions", "unused"})
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ExtendWith(SoftAssertionsExtension.class)
+class QueuePublisherTest {
+
+	QueuePublisher<Integer> publisher;
+
+	@BeforeEach
+	void setUp() {
+		publisher = new QueuePublisher<>(new LinkedQueue<>(), 3);
+	}
+
+	//region Constructor
+	@Nested
+	class Constructor {
+
+		@Test
+		void throws_on_invalid_limits() {
+			assertThatThrownBy(() -> new QueuePublisher<>(new LinkedQueue<Integer>(), 0))
+				.isInstanceOf(IllegalArgumentException.class);
+			assertThatThrownBy(() -> new QueuePublisher<>(new LinkedQueue<Integer>(), 1, 0, Runnable::run))
+				.isInstanceOf(IllegalArgumentException.class);
+		}
+
+		@Test
+		void creates_open_publisher(SoftAssertions softly) {
+			softly.assertThat(publisher.isClosed()).isFalse();
+			softly.assertThat(publisher.buffered()).isZero();
+			softly.assertThat(publisher.capacity()).isEqualTo(3);
+		}
+	}
+	//endregion
+
+	//region Producer Side
+	@Nested
+	class Producer_Side {
+
+		@Test
+		void offer_fails_when_buffer_is_full(SoftAssertions softly) {
+			softly.assertThat(publisher.offer(1)).isTrue();
+			softly.assertThat(publisher.offer(2)).isTrue();
+			softly.assertThat(publisher.offer(3)).isTrue();
+			softly.assertThat(publisher.offer(4)).isFalse();
+			softly.assertThat(publisher.buffered()).isEqualTo(3);
+		}
+
+		@Test
+		@Timeout(5)
+		void timed_offer_gives_up_when_nobody_drains() throws InterruptedException {
+			fill();
+
+			assertThat(publisher.offer(4, 10, TimeUnit.MILLISECONDS)).isFalse();
+		}
+
+		@Test
+		void rejects_elements_after_close() {
+			publisher.close();
+
+			assertThatThrownBy(() -> publisher.offer(1)).isInstanceOf(IllegalStateException.class);
+			assertThatThrownBy(() -> publisher.submit(1)).isInstanceOf(IllegalStateException.class);
+		}
+
+		@Test
+		@Timeout(5)
+		void close_releases_blocked_producer() throws InterruptedException {
+			fill();
+			CountDownLatch released = new CountDownLatch(1);
+
+			Thread.ofVirtual().start(() -> {
+				try {
+					publisher.submit(4);
+				} catch (IllegalStateException | InterruptedException e) {
+					released.countDown();
+				}
+			});
+
+			Thread.sleep(20);
+			publisher.close();
+			released.await();
+		}
+	}
+	//endregion
+
+	//region Subscriber Side
+	@Nested
+	class Subscriber_Side {
+
+		@Test
+		@Timeout(5)
+		void delivers_no_more_than_requested() throws InterruptedException {
+			var subscriber = new RecordingSubscriber(2);
+			publisher.subscribe(subscriber);
+			fill();
+
+			Thread.sleep(50);
+			assertThat(subscriber.received()).containsExactly(1, 2);
+
+			subscriber.subscription.request(10);
+			publisher.close();
+			subscriber.done.await();
+
+			assertThat(subscriber.received()).containsExactly(1, 2, 3);
+			assertThat(subscriber.completed).isTrue();
+		}
+
+		@Test
+		@Timeout(5)
+		void completes_after_draining_buffer_on_close() throws InterruptedException {
+			fill();
+			publisher.close();
+			var subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+			publisher.subscribe(subscriber);
+			subscriber.done.await();
+
+			assertThat(subscriber.received()).containsExactly(1, 2, 3);
+			assertThat(subscriber.completed).isTrue();
+		}
+
+		@Test
+		@Timeout(5)
+		void close_exceptionally_signals_error() throws InterruptedException {
+			var subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+			publisher.subscribe(subscriber);
+			publisher.closeExceptionally(new IllegalStateException("boom"));
+			subscriber.done.await();
+
+			assertThat(subscriber.error).hasMessage("boom");
+		}
+
+		@Test
+		@Timeout(5)
+		void non_positive_request_signals_error() throws InterruptedException {
+			var subscriber = new RecordingSubscriber(0);
+			publisher.subscribe(subscriber);
+			subscriber.subscribed.await();
+			subscriber.subscription.request(0);
+			subscriber.done.await();
+
+			assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+		}
+
+		@Test
+		@Timeout(5)
+		void cancelled_subscriber_is_removed() throws InterruptedException {
+			var subscriber = new RecordingSubscriber(0);
+			publisher.subscribe(subscriber);
+			subscriber.subscribed.await();
+			subscriber.subscription.cancel();
+
+			while (publisher.subscriberCount() > 0) {
+				Thread.sleep(1);
+			}
+
+			assertThat(subscriber.completed).isFalse();
+		}
+
+		@Test
+		@Timeout(5)
+		void cancel_mid_batch_stops_delivery_and_returns_the_rest(SoftAssertions softly) throws InterruptedException {
+			fill();
+			var subscriber = new RecordingSubscriber(Long.MAX_VALUE) {
+				@Override
+				public void onNext(Integer value) {
+					super.onNext(value);
+					subscription.cancel();
+				}
+			};
+			publisher.subscribe(subscriber);
+
+			while (publisher.subscriberCount() > 0) {
+				Thread.sleep(1);
+			}
+
+			softly.assertThat(subscriber.received()).containsExactly(1);
+			softly.assertThat(publisher.buffered()).isEqualTo(2);
+		}
+
+		@Test
+		@Timeout(5)
+		void returned_elements_keep_their_place_in_line() throws InterruptedException {
+			var batched = new QueuePublisher<Integer>(new LinkedQueue<>(), 4, 2, task -> Thread.ofVirtual().start(task));
+			for (int i = 1; i <= 4; i++) {
+				batched.offer(i);
+			}
+
+			var cancelling = new RecordingSubscriber(Long.MAX_VALUE) {
+				@Override
+				public void onNext(Integer value) {
+					super.onNext(value);
+					subscription.cancel();
+				}
+			};
+			batched.subscribe(cancelling);
+
+			while (batched.subscriberCount() > 0) {
+				Thread.sleep(1);
+			}
+
+			batched.offer(5);
+			batched.close();
+			var next = new RecordingSubscriber(Long.MAX_VALUE);
+			batched.subscribe(next);
+			next.done.await();
+
+			assertThat(cancelling.received()).containsExactly(1);
+			assertThat(next.received()).containsExactly(2, 3, 4, 5);
+		}
+
+		@Test
+		@Timeout(5)
+		void cancelled_batch_never_overfills_the_buffer(SoftAssertions softly) throws InterruptedException {
+			fill();
+			CountDownLatch delivering = new CountDownLatch(1);
+			CountDownLatch release = new CountDownLatch(1);
+			var subscriber = new RecordingSubscriber(Long.MAX_VALUE) {
+				@Override
+				public void onNext(Integer value) {
+					super.onNext(value);
+					delivering.countDown();
+
+					try {
+						release.await();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+
+					subscription.cancel();
+				}
+			};
+			publisher.subscribe(subscriber);
+			delivering.await();
+
+			softly.assertThat(publisher.buffered()).isZero();
+			softly.assertThat(publisher.offer(4)).isFalse();
+
+			release.countDown();
+
+			while (publisher.subscriberCount() > 0) {
+				Thread.sleep(1);
+			}
+
+			softly.assertThat(publisher.offer(4)).isTrue();
+			softly.assertThat(publisher.offer(5)).isFalse();
+			softly.assertThat(publisher.buffered()).isEqualTo(3);
+		}
+	}
+	//endregion
+
+	//region Integration
+	@Nested
+	class Integration {
+
+		@Test
+		@Timeout(30)
+		void competing_subscribers_receive_every_element_once() throws InterruptedException {
+			int producers = 4;
+			int perProducer = 10_000;
+			var batched = new QueuePublisher<Integer>(new LinkedQueue<>(), 16, 8, task -> Thread.ofVirtual().start(task));
+			Set<Integer> seen = ConcurrentHashMap.newKeySet();
+			List<RecordingSubscriber> subscribers = new ArrayList<>();
+
+			for (int s = 0; s < 3; s++) {
+				var subscriber = new RecordingSubscriber(4) {
+					@Override
+					public void onNext(Integer value) {
+						assertThat(seen.add(value)).isTrue();
+						subscription.request(1);
+					}
+				};
+				subscribers.add(subscriber);
+				batched.subscribe(subscriber);
+			}
+
+			CountDownLatch produced = new CountDownLatch(producers);
+
+			for (int p = 0; p < producers; p++) {
+				int base = p * perProducer;
+				Thread.ofVirtual().start(() -> {
+					try {
+						for (int i = 0; i < perProducer; i++) {
+							batched.submit(base + i);
+						}
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					} finally {
+						produced.countDown();
+					}
+				});
+			}
+
+			produced.await();
+			batched.close();
+
+			for (var subscriber : subscribers) {
+				subscriber.done.await();
+				assertThat(subscriber.completed).isTrue();
+			}
+
+			assertThat(seen).hasSize(producers * perProducer);
+		}
+	}
+	//endregion
+
+	private void fill() {
+		publisher.offer(1);
+		publisher.offer(2);
+		publisher.offer(3);
+	}
+
+	private static class RecordingSubscriber implements Flow.Subscriber<Integer> {
+		final CountDownLatch subscribed = new CountDownLatch(1);
+		final CountDownLatch done = new CountDownLatch(1);
+		private final List<Integer> received = new ArrayList<>();
+		private final long initialRequest;
+		volatile Flow.Subscription subscription;
+		volatile boolean completed;
+		volatile Throwable error;
+
+		RecordingSubscriber(long initialRequest) {
+			this.initialRequest = initialRequest;
+		}
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			this.subscription = subscription;
+
+			if (initialRequest > 0) {
+				subscription.request(initialRequest);
+			}
+
+			subscribed.countDown();
+		}
+
+		@Override
+		public void onNext(Integer value) {
+			synchronized (received) {
+				received.add(value);
+			}
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			error = throwable;
+			done.countDown();
+		}
+
+		@Override
+		public void onComplete() {
+			completed = true;
+			done.countDown();
+		}
+
+		List<Integer> received() {
+			synchronized (received) {
+				return List.copyOf(received);
+			}
+		}
+	}
+}
@@ -0,0 +1,278 @@
+package data_structures.queue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import data_structures.queue.RingBuffer.EventProcessor;
+import data_structures.queue.RingBuffer.WaitStrategy;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@SuppressWarnings({"ConstantConditions", "unused"})
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ExtendWith(SoftAssertionsExtension.class)
+class RingBufferTest {
+
+	static final class Event {
+		long value;
+		long doubled;
+	}
+
+	RingBuffer<Event> ring;
+
+	@BeforeEach
+	void setUp() {
+		ring = new RingBuffer<>(Event::new, 4, WaitStrategy.yielding());
+	}
+
+	//region Constructor
+	@Nested
+	class Constructor {
+
+		@Test
+		void rounds_capacity_up_and_preallocates_every_slot(SoftAssertions softly) {
+			var created = new AtomicInteger();
+			var buffer = new RingBuffer<Event>(() -> {
+				created.incrementAndGet();
+				return new Event();
+			}, 5);
+			softly.assertThat(buffer.capacity()).isEqualTo(8);
+			softly.assertThat(created.get()).isEqualTo(8);
+			softly.assertThat(buffer.cursor()).isEqualTo(-1);
+		}
+
+		@Test
+		void throws_on_zero_capacity() {
+			assertThatThrownBy(() -> new RingBuffer<>(Event::new, 0))
+				.isInstanceOf(IllegalArgumentException.class);
+		}
+
+		@Test
+		void throws_when_factory_returns_null() {
+			assertThatThrownBy(() -> new RingBuffer<Event>(() -> null, 2))
+				.isInstanceOf(NullPointerException.class);
+		}
+
+		@Test
+		void throws_on_non_positive_park_time() {
+			assertThatThrownBy(() -> WaitStrategy.parking(0, TimeUnit.MICROSECONDS))
+				.isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+	//endregion
+
+	//region Producer
+	@Nested
+	class Producer {
+
+		@Test
+		void slots_are_reused_after_wrapping(SoftAssertions softly) {
+			Event first = ring.get(ring.next());
+			for (int i = 0; i < 4; i++)
+				ring.next();
+			softly.assertThat(ring.get(4)).isSameAs(first);
+		}
+
+		@Test
+		void publish_advances_cursor(SoftAssertions softly) {
+			ring.publishEvent((event, value) -> event.value = value, 7L);
+			softly.assertThat(ring.cursor()).isZero();
+			softly.assertThat(ring.get(0).value).isEqualTo(7L);
+		}
+
+		@Test
+		void tryNext_fails_when_gating_sequence_has_not_moved(SoftAssertions softly) {
+			var gate = new RingBuffer.Sequence();
+			ring.addGatingSequences(gate);
+			softly.assertThat(ring.tryNext(4)).isEqualTo(3);
+			softly.assertThat(ring.remainingCapacity()).isZero();
+			softly.assertThatThrownBy(() -> ring.tryNext(1))
+				.isInstanceOf(IllegalStateException.class);
+			softly.assertThat(ring.tryPublishEvent((event, value) -> event.value = value, 1L)).isFalse();
+			gate.set(1);
+			softly.assertThat(ring.tryNext(2)).isEqualTo(5);
+		}
+
+		@Test
+		void rejects_batch_larger_than_capacity() {
+			assertThatThrownBy(() -> ring.next(5))
+				.isInstanceOf(IllegalArgumentException.class);
+		}
+
+		@Test
+		void removed_gating_sequence_no_longer_blocks_producer(SoftAssertions softly) {
+			var gate = new RingBuffer.Sequence();
+			ring.addGatingSequences(gate);
+			ring.tryNext(4);
+			softly.assertThat(ring.removeGatingSequence(gate)).isTrue();
+			softly.assertThat(ring.removeGatingSequence(gate)).isFalse();
+			softly.assertThat(ring.tryNext(1)).isEqualTo(4);
+		}
+	}
+	//endregion
+
+	//region Barrier
+	@Nested
+	class Barrier {
+
+		@Test
+		void available_sequence_is_slowest_dependency(SoftAssertions softly) {
+			var upstream1 = new RingBuffer.Sequence();
+			var upstream2 = new RingBuffer.Sequence();
+			var barrier = ring.newBarrier(upstream1, upstream2);
+			ring.publish(ring.next(3));
+			upstream1.set(2);
+			upstream2.set(0);
+			softly.assertThat(barrier.availableSequence()).isZero();
+			softly.assertThat(ring.newBarrier().availableSequence()).isEqualTo(2);
+		}
+
+		@Test
+		void waitFor_returns_highest_available_sequence() throws InterruptedException {
+			ring.publish(ring.next(3));
+			assertThat(ring.newBarrier().waitFor(0)).isEqualTo(2);
+		}
+
+		@Test
+		void alerted_barrier_throws_InterruptedException() {
+			var barrier = ring.newBarrier();
+			barrier.alert();
+			assertThatThrownBy(() -> barrier.waitFor(0))
+				.isInstanceOf(InterruptedException.class);
+		}
+	}
+	//endregion
+
+	//region Integration
+	@Nested
+	class Integration {
+
+		@Test
+		@Timeout(30)
+		void every_wait_strategy_delivers_all_events_in_order() throws InterruptedException {
+			for (var strategy : List.of(WaitStrategy.busySpin(), WaitStrategy.yielding(),
+				WaitStrategy.parking(50, TimeUnit.MICROSECONDS), WaitStrategy.blocking())) {
+				assertThat(runPipeline(strategy, 20_000)).isEqualTo(20_000);
+			}
+		}
+
+		@Test
+		@Timeout(30)
+		void dependent_stage_sees_upstream_writes_and_processor_halts(SoftAssertions softly) throws InterruptedException {
+			var buffer = new RingBuffer<>(Event::new, 8, WaitStrategy.blocking());
+			var doubler = new EventProcessor<>(buffer, buffer.newBarrier(),
+				(event, sequence, endOfBatch) -> event.doubled = event.value * 2);
+			List<Long> observed = new ArrayList<>();
+			var collector = new EventProcessor<>(buffer, buffer.newBarrier(doubler.sequence()),
+				(event, sequence, endOfBatch) -> observed.add(event.doubled));
+			buffer.addGatingSequences(collector.sequence());
+
+			Thread first = Thread.ofVirtual().start(doubler);
+			Thread second = Thread.ofVirtual().start(collector);
+
+			for (long i = 1; i <= 100; i++)
+				buffer.publishEvent((event, value) -> event.value = value, i);
+
+			while (collector.sequence().get() < 99) {
+				Thread.sleep(1);
+			}
+
+			doubler.halt();
+			collector.halt();
+			first.join();
+			second.join();
+
+			softly.assertThat(observed).hasSize(100);
+			softly.assertThat(observed.get(0)).isEqualTo(2L);
+			softly.assertThat(observed.get(99)).isEqualTo(200L);
+			softly.assertThat(collector.isRunning()).isFalse();
+			softly.assertThat(collector.failure()).isNull();
+		}
+
+		@Test
+		@Timeout(30)
+		void handler_exception_stops_processor() throws InterruptedException {
+			var processor = new EventProcessor<>(ring, ring.newBarrier(), (event, sequence, endOfBatch) -> {
+				throw new IllegalStateException("boom");
+			});
+			Thread thread = new Thread(processor);
+			thread.start();
+			ring.publish(ring.next());
+			thread.join();
+			assertThat(processor.failure()).isInstanceOf(IllegalStateException.class);
+		}
+
+		@Test
+		@Timeout(30)
+		void halt_before_run_makes_run_return(SoftAssertions softly) throws InterruptedException {
+			var processor = new EventProcessor<>(ring, ring.newBarrier(), (event, sequence, endOfBatch) -> { });
+			processor.halt();
+			Thread thread = Thread.ofVirtual().start(processor);
+			thread.join();
+			softly.assertThat(processor.isRunning()).isFalse();
+			softly.assertThat(processor.sequence().get()).isEqualTo(-1);
+		}
+
+		@Test
+		@Timeout(30)
+		void keeps_processing_after_foreign_alert() throws InterruptedException {
+			var barrier = ring.newBarrier();
+			var received = new AtomicInteger();
+			var processor = new EventProcessor<>(ring, barrier, (event, sequence, endOfBatch) -> received.incrementAndGet());
+			Thread thread = Thread.ofVirtual().start(processor);
+
+			while (!processor.isRunning()) {
+				Thread.yield();
+			}
+
+			barrier.alert();
+			ring.publish(ring.next());
+
+			while (processor.sequence().get() < 0) {
+				Thread.yield();
+			}
+
+			processor.halt();
+			thread.join();
+			assertThat(received.get()).isEqualTo(1);
+		}
+
+		private long runPipeline(WaitStrategy strategy, int count) throws InterruptedException {
+			var buffer = new RingBuffer<>(Event::new, 64, strategy);
+			var received = new AtomicInteger();
+			var outOfOrder = new AtomicInteger();
+			var processor = new EventProcessor<>(buffer, buffer.newBarrier(), (event, sequence, endOfBatch) -> {
+				if (event.value != sequence) {
+					outOfOrder.incrementAndGet();
+				}
+				received.incrementAndGet();
+			});
+			buffer.addGatingSequences(processor.sequence());
+			Thread consumer = new Thread(processor);
+			consumer.start();
+
+			for (long i = 0; i < count; i++)
+				buffer.publishEvent((event, value) -> event.value = value, i);
+
+			while (processor.sequence().get() < count - 1) {
+				Thread.yield();
+			}
+
+			processor.halt();
+			consumer.join();
+			return outOfOrder.get() == 0 ? received.get() : -1;
+		}
+	}
+	//endregion
+}
@@ -0,0 +1,221 @@
+package data_structures.queue;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import data_structures.queue.SpillingQueue.Serializer;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+@SuppressWarnings({"ConstantConditions", "unused"})
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ExtendWith(SoftAssertionsExtension.class)
+class SpillingQueueTest {
+
+	@TempDir
+	Path directory;
+
+	SpillingQueue<String> queue;
+
+	@BeforeEach
+	void setUp() {
+		queue = new SpillingQueue<>(Serializer.strings(), 4, directory);
+	}
+
+	@AfterEach
+	void tearDown() {
+		queue.close();
+	}
+
+	//region Constructor
+	@Nested
+	class Constructor {
+
+		@Test
+		void throws_on_budget_below_two() {
+			assertThatThrownBy(() -> new SpillingQueue<>(Serializer.strings(), 1, directory))
+				.isInstanceOf(IllegalArgumentException.class);
+		}
+
+		@Test
+		void creates_empty_queue(SoftAssertions softly) {
+			softly.assertThat(queue.isEmpty()).isTrue();
+			softly.assertThat(queue.spilledSegments()).isZero();
+		}
+
+		@Test
+		void close_deletes_its_own_temp_directory(SoftAssertions softly) {
+			var owned = new SpillingQueue<>(Serializer.strings(), 4);
+			for (int i = 0; i < 10; i++)
+				owned.enqueue("v" + i);
+			Path temp = owned.directory();
+			softly.assertThat(temp).isDirectory();
+
+			owned.close();
+
+			softly.assertThat(temp).doesNotExist();
+		}
+
+		@Test
+		void close_keeps_a_supplied_directory() {
+			queue.close();
+			assertThat(directory).isDirectory();
+		}
+	}
+	//endregion
+
+	//region Queue Operations
+	@Nested
+	class Queue_Operations {
+
+		@Test
+		void dequeue_and_peek_throw_on_empty_queue(SoftAssertions softly) {
+			softly.assertThatThrownBy(() -> queue.dequeue())
+				.isInstanceOf(IndexOutOfBoundsException.class);
+			softly.assertThatThrownBy(() -> queue.peek())
+				.isInstanceOf(IndexOutOfBoundsException.class);
+		}
+
+		@Test
+		void rejects_null_values() {
+			assertThatThrownBy(() -> queue.enqueue(null))
+				.isInstanceOf(NullPointerException.class);
+		}
+
+		@Test
+		void stays_in_memory_within_budget(SoftAssertions softly) {
+			queue.enqueue("a");
+			queue.enqueue("b");
+			softly.assertThat(queue.spilledSegments()).isZero();
+			softly.assertThat(queue.dequeue()).isEqualTo("a");
+			softly.assertThat(queue.dequeue()).isEqualTo("b");
+		}
+	}
+	//endregion
+
+	//region Spilling
+	@Nested
+	class Spilling {
+
+		@Test
+		void spills_middle_and_preserves_order(SoftAssertions softly) throws IOException {
+			for (int i = 0; i < 11; i++)
+				queue.enqueue("v" + i);
+			softly.assertThat(queue.size()).isEqualTo(11);
+			softly.assertThat(queue.inMemory()).isLessThanOrEqualTo(4);
+			softly.assertThat(queue.spilledSegments()).isEqualTo(4);
+			softly.assertThat(spillFiles()).isEqualTo(4);
+
+			List<String> drained = new ArrayList<>();
+			while (!queue.isEmpty())
+				drained.add(queue.dequeue());
+			softly.assertThat(drained).containsExactly("v0", "v1", "v2", "v3", "v4", "v5", "v6", "v7", "v8", "v9", "v10");
+			softly.assertThat(spillFiles()).isZero();
+		}
+
+		@Test
+		void contains_reads_spilled_segments(SoftAssertions softly) {
+			for (int i = 0; i < 10; i++)
+				queue.enqueue("v" + i);
+			softly.assertThat(queue.contains("v5")).isTrue();
+			softly.assertThat(queue.contains("v42")).isFalse();
+			softly.assertThat(queue.contains(null)).isFalse();
+		}
+
+		@Test
+		void clear_deletes_segment_files(SoftAssertions softly) throws IOException {
+			for (int i = 0; i < 10; i++)
+				queue.enqueue("v" + i);
+			queue.clear();
+			softly.assertThat(queue.isEmpty()).isTrue();
+			softly.assertThat(spillFiles()).isZero();
+		}
+
+		@Test
+		void failed_spill_leaves_no_partial_file_and_retries(SoftAssertions softly) throws IOException {
+			var failOnce = new boolean[] {true};
+			var flaky = new SpillingQueue<>(new Serializer<String>() {
+				@Override
+				public void write(String value, DataOutput out) throws IOException {
+					out.writeUTF(value);
+					if (value.equals("v3") && failOnce[0]) {
+						failOnce[0] = false;
+						throw new IOException("disk full");
+					}
+				}
+
+				@Override
+				public String read(DataInput in) throws IOException {
+					return in.readUTF();
+				}
+			}, 4, directory);
+
+			for (int i = 0; i < 3; i++)
+				flaky.enqueue("v" + i);
+			softly.assertThatThrownBy(() -> flaky.enqueue("v3"))
+				.isInstanceOf(UncheckedIOException.class);
+			softly.assertThat(spillFiles()).isZero();
+			softly.assertThat(flaky.spilledSegments()).isZero();
+
+			flaky.enqueue("v4");
+			softly.assertThat(flaky.spilledSegments()).isEqualTo(1);
+			softly.assertThat(spillFiles()).isEqualTo(1);
+
+			List<String> drained = new ArrayList<>();
+			while (!flaky.isEmpty())
+				drained.add(flaky.dequeue());
+			softly.assertThat(drained).containsExactly("v0", "v1", "v2", "v3", "v4");
+			flaky.close();
+		}
+	}
+	//endregion
+
+	//region Integration
+	@Nested
+	class Integration {
+
+		@Test
+		void interleaved_operations_match_fifo_and_respect_budget(SoftAssertions softly) {
+			var numbers = new SpillingQueue<>(Serializer.longs(), 16, directory);
+			long produced = 0;
+			long consumed = 0;
+			int maxInMemory = 0;
+
+			for (int round = 0; round < 200; round++) {
+				for (int i = 0; i < 7; i++)
+					numbers.enqueue(produced++);
+				for (int i = 0; i < 5; i++)
+					softly.assertThat(numbers.dequeue()).isEqualTo(consumed++);
+				maxInMemory = Math.max(maxInMemory, numbers.inMemory());
+			}
+
+			softly.assertThat(numbers.size()).isEqualTo((int) (produced - consumed));
+			softly.assertThat(maxInMemory).isLessThanOrEqualTo(16);
+			softly.assertThat(numbers.segmentsWritten()).isPositive();
+			numbers.close();
+		}
+	}
+	//endregion
+
+	private int spillFiles() throws IOException {
+		try (var files = Files.list(directory)) {
+			return (int) files.count();
+		}
+	}
+}
@@ -0,0 +1,43 @@
+package data_structures.queue;
+
+/**
+ * Producer/consumer throughput for {@link SpscArrayQueue}. Run with {@code main}; not part of the test suite. For the
+ * stable numbers pin the JVM to two cores on the same socket (e.g. {@code taskset -c 2,3}), since the JDK has no
+ * thread affinity API.
+ */
+class SpscArrayQueueBenchmark {
+
+	private static final int CAPACITY = 1 << 14;
+	private static final long OPERATIONS = 200_000_000L;
+	private static final int RUNS = 5;
+
+	public static void main(String[] args) throws InterruptedException {
+		Integer token = 42;
+
+		for (int run = 1; run <= RUNS; run++) {
+			SpscArrayQueue<Integer> queue = new SpscArrayQueue<>(CAPACITY);
+
+			Thread producer = new Thread(() -> {
+				for (long i = 0; i < OPERATIONS; i++) {
+					while (!queue.offer(token)) {
+						Thread.onSpinWait();
+					}
+				}
+			}, "producer");
+
+			long start = System.nanoTime();
+			producer.start();
+
+			for (long i = 0; i < OPERATIONS; i++) {
+				while (queue.poll() == null) {
+					Thread.onSpinWait();
+				}
+			}
+
+			long elapsed = System.nanoTime() - start;
+			producer.join();
+
+			System.out.printf("run %d: %.1f M ops/sec%n", run, OPERATIONS * 1_000.0 / elapsed);
+		}
+	}
+}
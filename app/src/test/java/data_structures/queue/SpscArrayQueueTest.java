@@ -0,0 +1,208 @@
+package data_structures.queue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@SuppressWarnings({"ConstantConditions", "unused"})
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ExtendWith(SoftAssertionsExtension.class)
+class SpscArrayQueueTest {
+
+	SpscArrayQueue<Integer> queue;
+
+	@BeforeEach
+	void setUp() {
+		queue = new SpscArrayQueue<>(4);
+	}
+
+	//region Constructor
+	@Nested
+	class Constructor {
+
+		@Test
+		void rounds_capacity_up_to_power_of_two(SoftAssertions softly) {
+			softly.assertThat(new SpscArrayQueue<Integer>(1).capacity()).isEqualTo(1);
+			softly.assertThat(new SpscArrayQueue<Integer>(5).capacity()).isEqualTo(8);
+			softly.assertThat(new SpscArrayQueue<Integer>(1024).capacity()).isEqualTo(1024);
+		}
+
+		@Test
+		void throws_on_zero_capacity() {
+			assertThatThrownBy(() -> new SpscArrayQueue<Integer>(0))
+				.isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+	//endregion
+
+	//region Offer And Poll
+	@Nested
+	class Offer_And_Poll {
+
+		@Test
+		void poll_on_empty_queue_returns_null() {
+			assertThat(queue.poll()).isNull();
+		}
+
+		@Test
+		void dequeue_throws_on_empty_queue() {
+			assertThatThrownBy(() -> queue.dequeue())
+				.isInstanceOf(IndexOutOfBoundsException.class);
+		}
+
+		@Test
+		void peek_throws_on_empty_queue() {
+			assertThatThrownBy(() -> queue.peek())
+				.isInstanceOf(IndexOutOfBoundsException.class);
+		}
+
+		@Test
+		void rejects_null_values() {
+			assertThatThrownBy(() -> queue.offer(null))
+				.isInstanceOf(NullPointerException.class);
+		}
+
+		@Test
+		void offer_fails_when_full(SoftAssertions softly) {
+			for (int i = 0; i < 4; i++)
+				softly.assertThat(queue.offer(i)).isTrue();
+			softly.assertThat(queue.offer(4)).isFalse();
+			softly.assertThatThrownBy(() -> queue.enqueue(4))
+				.isInstanceOf(IllegalStateException.class);
+		}
+
+		@Test
+		void maintains_FIFO_order_across_wraparound(SoftAssertions softly) {
+			for (int round = 0; round < 10; round++) {
+				queue.enqueue(round);
+				queue.enqueue(round + 100);
+				softly.assertThat(queue.dequeue()).isEqualTo(round);
+				softly.assertThat(queue.dequeue()).isEqualTo(round + 100);
+			}
+			softly.assertThat(queue.isEmpty()).isTrue();
+		}
+	}
+	//endregion
+
+	//region Utilities
+	@Nested
+	class Utilities {
+
+		@Test
+		void size_tracks_elements(SoftAssertions softly) {
+			softly.assertThat(queue.size()).isZero();
+			queue.enqueue(1);
+			queue.enqueue(2);
+			softly.assertThat(queue.size()).isEqualTo(2);
+			queue.dequeue();
+			softly.assertThat(queue.size()).isEqualTo(1);
+		}
+
+		@Test
+		void contains_sees_only_live_elements(SoftAssertions softly) {
+			queue.enqueue(1);
+			queue.enqueue(2);
+			queue.dequeue();
+			softly.assertThat(queue.contains(1)).isFalse();
+			softly.assertThat(queue.contains(2)).isTrue();
+			softly.assertThat(queue.contains(null)).isFalse();
+		}
+
+		@Test
+		void clear_empties_queue(SoftAssertions softly) {
+			queue.enqueue(1);
+			queue.enqueue(2);
+			queue.clear();
+			softly.assertThat(queue.isEmpty()).isTrue();
+			softly.assertThat(queue.offer(3)).isTrue();
+			softly.assertThat(queue.peek()).isEqualTo(3);
+		}
+	}
+	//endregion
+
+	//region Batch Operations
+	@Nested
+	class Batch_Operations {
+
+		@Test
+		void enqueueAll_copies_across_wrap_point(SoftAssertions softly) {
+			queue.enqueue(-1);
+			queue.enqueue(-2);
+			queue.dequeue();
+			queue.dequeue();
+			queue.enqueueAll(new Integer[] {9, 1, 2, 3, 4}, 1, 4);
+			Integer[] drained = new Integer[8];
+			softly.assertThat(queue.dequeueBatch(drained)).isEqualTo(4);
+			softly.assertThat(drained).startsWith(1, 2, 3, 4);
+			softly.assertThat(queue.isEmpty()).isTrue();
+		}
+
+		@Test
+		void enqueueAll_rejects_batch_larger_than_free_space(SoftAssertions softly) {
+			queue.enqueue(1);
+			softly.assertThatThrownBy(() -> queue.enqueueAll(new Integer[] {2, 3, 4, 5}, 0, 4))
+				.isInstanceOf(IllegalStateException.class);
+			softly.assertThat(queue.size()).isEqualTo(1);
+		}
+
+		@Test
+		void drainTo_respects_limit(SoftAssertions softly) {
+			queue.enqueueAll(new Integer[] {1, 2, 3}, 0, 3);
+			java.util.List<Integer> drained = new java.util.ArrayList<>();
+			softly.assertThat(queue.drainTo(drained::add, 2)).isEqualTo(2);
+			softly.assertThat(drained).containsExactly(1, 2);
+			softly.assertThat(queue.peek()).isEqualTo(3);
+		}
+
+		@Test
+		void dequeueBatch_on_empty_queue_returns_zero() {
+			assertThat(queue.dequeueBatch(new Integer[4])).isZero();
+		}
+	}
+	//endregion
+
+	//region Integration
+	@Nested
+	class Integration {
+
+		@Test
+		@Timeout(30)
+		void producer_and_consumer_threads_preserve_order() throws InterruptedException {
+			int count = 200_000;
+			AtomicInteger outOfOrder = new AtomicInteger();
+
+			Thread producer = new Thread(() -> {
+				for (int i = 0; i < count; i++) {
+					while (!queue.offer(i)) {
+						Thread.yield();
+					}
+				}
+			});
+			producer.start();
+
+			for (int expected = 0; expected < count; expected++) {
+				Integer value;
+				while ((value = queue.poll()) == null) {
+					Thread.yield();
+				}
+				if (value != expected) {
+					outOfOrder.incrementAndGet();
+				}
+			}
+
+			producer.join();
+			assertThat(outOfOrder.get()).isZero();
+		}
+	}
+	//endregion
+}
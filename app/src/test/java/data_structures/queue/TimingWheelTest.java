@@ -0,0 +1,161 @@
+package data_structures.queue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import data_structures.queue.TimingWheel.ManualClock;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@SuppressWarnings({"ConstantConditions", "unused"})
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ExtendWith(SoftAssertionsExtension.class)
+class TimingWheelTest {
+
+	ManualClock clock;
+	TimingWheel<String> wheel;
+	List<List<String>> batches;
+
+	@BeforeEach
+	void setUp() {
+		clock = new ManualClock(1_000_000L);
+		wheel = new TimingWheel<>(clock, 1, TimeUnit.MILLISECONDS, 4, 2);
+		batches = new ArrayList<>();
+	}
+
+	//region Constructor
+	@Nested
+	class Constructor {
+
+		@Test
+		void rounds_wheel_size_up_to_power_of_two(SoftAssertions softly) {
+			var wider = new TimingWheel<String>(clock, 1, TimeUnit.MILLISECONDS, 5, 3);
+			softly.assertThat(wider.wheelSize()).isEqualTo(8);
+			softly.assertThat(wider.levelCount()).isEqualTo(3);
+			softly.assertThat(wider.isEmpty()).isTrue();
+		}
+
+		@Test
+		void rejects_invalid_configuration(SoftAssertions softly) {
+			softly.assertThatThrownBy(() -> new TimingWheel<String>(clock, 0, TimeUnit.MILLISECONDS))
+				.isInstanceOf(IllegalArgumentException.class);
+			softly.assertThatThrownBy(() -> new TimingWheel<String>(clock, 1, TimeUnit.MILLISECONDS, 1, 2))
+				.isInstanceOf(IllegalArgumentException.class);
+			softly.assertThatThrownBy(() -> new TimingWheel<String>(clock, 1, TimeUnit.MILLISECONDS, 4, 0))
+				.isInstanceOf(IllegalArgumentException.class);
+		}
+
+		@Test
+		void manual_clock_cannot_move_backwards() {
+			assertThatThrownBy(() -> clock.advance(-1, TimeUnit.MILLISECONDS))
+				.isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+	//endregion
+
+	//region Expiry
+	@Nested
+	class Expiry {
+
+		@Test
+		void fires_at_deadline_and_not_before(SoftAssertions softly) {
+			var timeout = wheel.schedule("a", 3, TimeUnit.MILLISECONDS);
+			clock.advance(2, TimeUnit.MILLISECONDS);
+			softly.assertThat(wheel.advance(batches::add)).isZero();
+			softly.assertThat(timeout.isPending()).isTrue();
+			clock.advance(1, TimeUnit.MILLISECONDS);
+			softly.assertThat(wheel.advance(batch -> batches.add(List.copyOf(batch)))).isEqualTo(1);
+			softly.assertThat(batches).containsExactly(List.of("a"));
+			softly.assertThat(timeout.isExpired()).isTrue();
+			softly.assertThat(wheel.isEmpty()).isTrue();
+		}
+
+		@Test
+		void timeouts_due_in_same_tick_arrive_as_one_batch(SoftAssertions softly) {
+			wheel.schedule("a", 2, TimeUnit.MILLISECONDS);
+			wheel.schedule("b", 2, TimeUnit.MILLISECONDS);
+			wheel.schedule("c", 5, TimeUnit.MILLISECONDS);
+			clock.advance(10, TimeUnit.MILLISECONDS);
+			wheel.advance(batch -> batches.add(List.copyOf(batch)));
+			softly.assertThat(batches).containsExactly(List.of("a", "b"), List.of("c"));
+		}
+
+		@Test
+		void non_positive_delay_expires_on_next_tick() {
+			wheel.schedule("now", 0, TimeUnit.MILLISECONDS);
+			clock.advance(1, TimeUnit.MILLISECONDS);
+			assertThat(wheel.advance(batches::add)).isEqualTo(1);
+		}
+
+		@Test
+		void deadlines_beyond_top_level_cascade_down_from_overflow(SoftAssertions softly) {
+			// 4 slots x 2 levels cover 16 ticks; 40 ticks ends up in the overflow bucket.
+			wheel.schedule("far", 40, TimeUnit.MILLISECONDS);
+			wheel.schedule("mid", 9, TimeUnit.MILLISECONDS);
+			clock.advance(39, TimeUnit.MILLISECONDS);
+			wheel.advance(batch -> batches.add(List.copyOf(batch)));
+			softly.assertThat(batches).containsExactly(List.of("mid"));
+			clock.advance(1, TimeUnit.MILLISECONDS);
+			wheel.advance(batch -> batches.add(List.copyOf(batch)));
+			softly.assertThat(batches).containsExactly(List.of("mid"), List.of("far"));
+		}
+	}
+	//endregion
+
+	//region Cancellation
+	@Nested
+	class Cancellation {
+
+		@Test
+		void cancelled_timeout_never_fires(SoftAssertions softly) {
+			var timeout = wheel.schedule("a", 5, TimeUnit.MILLISECONDS);
+			wheel.schedule("b", 5, TimeUnit.MILLISECONDS);
+			softly.assertThat(timeout.cancel()).isTrue();
+			softly.assertThat(timeout.cancel()).isFalse();
+			softly.assertThat(timeout.isCancelled()).isTrue();
+			softly.assertThat(wheel.size()).isEqualTo(1);
+			clock.advance(5, TimeUnit.MILLISECONDS);
+			wheel.advance(batch -> batches.add(List.copyOf(batch)));
+			softly.assertThat(batches).containsExactly(List.of("b"));
+		}
+
+		@Test
+		void expired_timeout_cannot_be_cancelled() {
+			var timeout = wheel.schedule("a", 1, TimeUnit.MILLISECONDS);
+			clock.advance(1, TimeUnit.MILLISECONDS);
+			wheel.advance(batches::add);
+			assertThat(timeout.cancel()).isFalse();
+		}
+	}
+	//endregion
+
+	//region Integration
+	@Nested
+	class Integration {
+
+		@Test
+		void callback_can_reschedule_periodic_work(SoftAssertions softly) {
+			List<Long> firedAt = new ArrayList<>();
+			wheel.schedule("tick", 3, TimeUnit.MILLISECONDS);
+			for (int step = 0; step < 30; step++) {
+				clock.advance(1, TimeUnit.MILLISECONDS);
+				wheel.advance(batch -> {
+					firedAt.add(wheel.currentTick());
+					wheel.schedule("tick", 3, TimeUnit.MILLISECONDS);
+				});
+			}
+			softly.assertThat(firedAt).containsExactly(3L, 6L, 9L, 12L, 15L, 18L, 21L, 24L, 27L, 30L);
+			softly.assertThat(wheel.size()).isEqualTo(1);
+		}
+	}
+	//endregion
+}
@@ -0,0 +1,220 @@
+package data_structures.stack;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@SuppressWarnings({"ConstantConditions", "unused"})
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ExtendWith(SoftAssertionsExtension.class)
+class BoundedBlockingStackTest {
+
+	BoundedBlockingStack<Integer> stack;
+
+	@BeforeEach
+	void setUp() {
+		stack = new BoundedBlockingStack<>(3);
+	}
+
+	//region Constructor
+	@Nested
+	class Constructor {
+
+		@Test
+		void creates_empty_stack(SoftAssertions softly) {
+			softly.assertThat(stack.isEmpty()).isTrue();
+			softly.assertThat(stack.capacity()).isEqualTo(3);
+			softly.assertThat(stack.remainingCapacity()).isEqualTo(3);
+		}
+
+		@Test
+		void throws_on_zero_capacity() {
+			assertThatThrownBy(() -> new BoundedBlockingStack<Integer>(0))
+				.isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+	//endregion
+
+	//region Non Blocking
+	@Nested
+	class Non_Blocking {
+
+		@Test
+		void pop_throws_on_empty_stack() {
+			assertThatThrownBy(() -> stack.pop())
+				.isInstanceOf(IndexOutOfBoundsException.class);
+		}
+
+		@Test
+		void push_throws_on_full_stack() {
+			stack.push(1);
+			stack.push(2);
+			stack.push(3);
+			assertThatThrownBy(() -> stack.push(4))
+				.isInstanceOf(IllegalStateException.class);
+		}
+
+		@Test
+		void rejects_null_values() {
+			assertThatThrownBy(() -> stack.push(null))
+				.isInstanceOf(NullPointerException.class);
+		}
+
+		@Test
+		void offer_and_poll_report_instead_of_throwing(SoftAssertions softly) {
+			softly.assertThat(stack.poll()).isNull();
+			softly.assertThat(stack.offer(1)).isTrue();
+			softly.assertThat(stack.offer(2)).isTrue();
+			softly.assertThat(stack.offer(3)).isTrue();
+			softly.assertThat(stack.offer(4)).isFalse();
+			softly.assertThat(stack.isFull()).isTrue();
+			softly.assertThat(stack.poll()).isEqualTo(3);
+		}
+
+		@Test
+		void search_returns_distance_from_top(SoftAssertions softly) {
+			stack.push(1);
+			stack.push(2);
+			softly.assertThat(stack.search(2)).isEqualTo(1);
+			softly.assertThat(stack.search(1)).isEqualTo(2);
+			softly.assertThat(stack.contains(5)).isFalse();
+		}
+	}
+	//endregion
+
+	//region Timed
+	@Nested
+	class Timed {
+
+		@Test
+		void pop_times_out_on_empty_stack() throws InterruptedException {
+			assertThat(stack.pop(10, TimeUnit.MILLISECONDS)).isNull();
+		}
+
+		@Test
+		void push_times_out_on_full_stack(SoftAssertions softly) throws InterruptedException {
+			stack.push(1);
+			stack.push(2);
+			stack.push(3);
+			softly.assertThat(stack.push(4, 10, TimeUnit.MILLISECONDS)).isFalse();
+			softly.assertThat(stack.peek()).isEqualTo(3);
+		}
+
+		@Test
+		@Timeout(5)
+		void blocked_push_completes_once_space_frees(SoftAssertions softly) throws InterruptedException {
+			stack.push(1);
+			stack.push(2);
+			stack.push(3);
+			Thread consumer = new Thread(() -> {
+				try {
+					Thread.sleep(20);
+					stack.take();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+			consumer.start();
+			softly.assertThat(stack.push(4, 5, TimeUnit.SECONDS)).isTrue();
+			consumer.join();
+			softly.assertThat(stack.peek()).isEqualTo(4);
+		}
+	}
+	//endregion
+
+	//region Drain
+	@Nested
+	class Drain {
+
+		@Test
+		void drains_in_LIFO_order(SoftAssertions softly) {
+			stack.push(1);
+			stack.push(2);
+			stack.push(3);
+			List<Integer> drained = new ArrayList<>();
+			softly.assertThat(stack.drainTo(drained)).isEqualTo(3);
+			softly.assertThat(drained).containsExactly(3, 2, 1);
+			softly.assertThat(stack.isEmpty()).isTrue();
+		}
+
+		@Test
+		void drain_respects_limit(SoftAssertions softly) {
+			stack.push(1);
+			stack.push(2);
+			stack.push(3);
+			List<Integer> drained = new ArrayList<>();
+			softly.assertThat(stack.drainTo(drained, 2)).isEqualTo(2);
+			softly.assertThat(drained).containsExactly(3, 2);
+			softly.assertThat(stack.toArray()).containsExactly(1);
+		}
+
+		@Test
+		void drain_on_empty_stack_returns_zero() {
+			assertThat(stack.drainTo(new ArrayList<>())).isZero();
+		}
+
+		@Test
+		void toArray_returns_elements_bottom_to_top() {
+			stack.push(1);
+			stack.push(2);
+			stack.push(3);
+			assertThat(stack.toArray()).containsExactly(1, 2, 3);
+		}
+	}
+	//endregion
+
+	//region Integration
+	@Nested
+	class Integration {
+
+		@Test
+		@Timeout(30)
+		void virtual_thread_producers_and_consumers_exchange_everything() throws InterruptedException {
+			int producers = 8;
+			int perProducer = 10_000;
+			AtomicLong sum = new AtomicLong();
+			CountDownLatch done = new CountDownLatch(producers * 2);
+
+			for (int p = 0; p < producers; p++) {
+				Thread.ofVirtual().start(() -> {
+					try {
+						for (int i = 1; i <= perProducer; i++)
+							stack.put(i);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					} finally {
+						done.countDown();
+					}
+				});
+				Thread.ofVirtual().start(() -> {
+					try {
+						for (int i = 0; i < perProducer; i++)
+							sum.addAndGet(stack.take());
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					} finally {
+						done.countDown();
+					}
+				});
+			}
+
+			done.await();
+			assertThat(sum.get()).isEqualTo((long) producers * perProducer * (perProducer + 1) / 2);
+		}
+	}
+	//endregion
+}
@@ -0,0 +1,66 @@
+package data_structures.stack;
+
+/**
+ * Rough break-even benchmark for {@link IndexedArrayStack}: fills a stack to a given depth with a dedup
+ * {@code contains} check before every push, then pops it empty. Run with {@code main}; not part of the test suite.
+ */
+class IndexedArrayStackBenchmark {
+
+	private static final int[] DEPTHS = {2, 4, 8, 16, 32, 64, 128, 256, 1024};
+	private static final long TARGET_NANOS = 200_000_000L;
+
+	public static void main(String[] args) {
+		Integer[] values = new Integer[DEPTHS[DEPTHS.length - 1]];
+		for (int i = 0; i < values.length; i++)
+			values[i] = i * 31;
+
+		System.out.printf("%8s %14s %14s%n", "depth", "scan ns/push", "index ns/push");
+
+		int breakEven = -1;
+
+		for (int depth : DEPTHS) {
+			double scan = measure(new IndexedArrayStack<>(false), values, depth);
+			double indexed = measure(new IndexedArrayStack<>(true), values, depth);
+			System.out.printf("%8d %14.1f %14.1f%n", depth, scan, indexed);
+
+			if (breakEven == -1 && indexed < scan) {
+				breakEven = depth;
+			}
+		}
+
+		System.out.println("index wins from depth " + breakEven);
+	}
+
+	private static double measure(IndexedArrayStack<Integer> stack, Integer[] values, int depth) {
+		run(stack, values, depth, 20_000);
+
+		long rounds = 0;
+		long start = System.nanoTime();
+		long elapsed;
+
+		do {
+			rounds += run(stack, values, depth, 1_000);
+			elapsed = System.nanoTime() - start;
+		} while (elapsed < TARGET_NANOS);
+
+		return (double) elapsed / (rounds * depth);
+	}
+
+	private static int run(IndexedArrayStack<Integer> stack, Integer[] values, int depth, int rounds) {
+		int sink = 0;
+
+		for (int round = 0; round < rounds; round++) {
+			for (int i = 0; i < depth; i++) {
+				if (!stack.contains(values[i])) {
+					stack.push(values[i]);
+				}
+			}
+
+			while (!stack.isEmpty()) {
+				sink += stack.pop();
+			}
+		}
+
+		return sink == 42 ? rounds + 1 : rounds;
+	}
+}
@@ -0,0 +1,194 @@
+package data_structures.stack;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@SuppressWarnings({"ConstantConditions", "unused"})
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ExtendWith(SoftAssertionsExtension.class)
+class IndexedArrayStackTest {
+
+	IndexedArrayStack<Integer> stack;
+
+	@BeforeEach
+	void setUp() {
+		stack = new IndexedArrayStack<>(true);
+	}
+
+	//region Constructor
+	@Nested
+	class Constructor {
+
+		@Test
+		void default_constructor_is_not_indexed(SoftAssertions softly) {
+			IndexedArrayStack<Integer> plain = new IndexedArrayStack<>();
+			softly.assertThat(plain.isIndexed()).isFalse();
+			softly.assertThat(plain.isEmpty()).isTrue();
+		}
+
+		@Test
+		void throws_on_zero_capacity() {
+			assertThatThrownBy(() -> new IndexedArrayStack<Integer>(0, true))
+				.isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+	//endregion
+
+	//region Stack Operations
+	@Nested
+	class Stack_Operations {
+
+		@Test
+		void pop_throws_on_empty_stack() {
+			assertThatThrownBy(() -> stack.pop())
+				.isInstanceOf(IndexOutOfBoundsException.class);
+		}
+
+		@Test
+		void peek_throws_on_empty_stack() {
+			assertThatThrownBy(() -> stack.peek())
+				.isInstanceOf(IndexOutOfBoundsException.class);
+		}
+
+		@Test
+		void maintains_LIFO_order(SoftAssertions softly) {
+			stack.push(1);
+			stack.push(2);
+			stack.push(3);
+			softly.assertThat(stack.pop()).isEqualTo(3);
+			softly.assertThat(stack.pop()).isEqualTo(2);
+			softly.assertThat(stack.peek()).isEqualTo(1);
+		}
+
+		@Test
+		void toArray_returns_elements_bottom_to_top(SoftAssertions softly) {
+			stack.push(1);
+			stack.push(2);
+			stack.push(3);
+			softly.assertThat(stack.toArray()).containsExactly(1, 2, 3);
+			softly.assertThat(stack).hasToString("[1, 2, 3]");
+		}
+	}
+	//endregion
+
+	//region Search
+	@Nested
+	class Search {
+
+		@Test
+		void returns_minus_one_for_empty_stack() {
+			assertThat(stack.search(1)).isEqualTo(-1);
+		}
+
+		@Test
+		void finds_topmost_occurrence(SoftAssertions softly) {
+			stack.push(1);
+			stack.push(2);
+			stack.push(1);
+			softly.assertThat(stack.search(1)).isEqualTo(1);
+			softly.assertThat(stack.search(2)).isEqualTo(2);
+			softly.assertThat(stack.count(1)).isEqualTo(2);
+		}
+
+		@Test
+		void falls_back_to_lower_occurrence_after_pop(SoftAssertions softly) {
+			stack.push(1);
+			stack.push(2);
+			stack.push(1);
+			stack.pop();
+			softly.assertThat(stack.search(1)).isEqualTo(2);
+			softly.assertThat(stack.count(1)).isEqualTo(1);
+		}
+
+		@Test
+		void forgets_value_once_fully_popped(SoftAssertions softly) {
+			stack.push(7);
+			stack.pop();
+			softly.assertThat(stack.contains(7)).isFalse();
+			softly.assertThat(stack.search(7)).isEqualTo(-1);
+			softly.assertThat(stack.count(7)).isZero();
+		}
+
+		@Test
+		void indexes_null_values(SoftAssertions softly) {
+			stack.push(1);
+			stack.push(null);
+			stack.push(2);
+			softly.assertThat(stack.search(null)).isEqualTo(2);
+			softly.assertThat(stack.contains(null)).isTrue();
+		}
+	}
+	//endregion
+
+	//region Index Toggle
+	@Nested
+	class Index_Toggle {
+
+		@Test
+		void enabling_index_builds_it_from_current_contents(SoftAssertions softly) {
+			IndexedArrayStack<Integer> lazy = new IndexedArrayStack<>();
+			lazy.push(5);
+			lazy.push(6);
+			lazy.push(5);
+			lazy.setIndexed(true);
+			softly.assertThat(lazy.isIndexed()).isTrue();
+			softly.assertThat(lazy.search(5)).isEqualTo(1);
+			softly.assertThat(lazy.search(6)).isEqualTo(2);
+			softly.assertThat(lazy.count(5)).isEqualTo(2);
+		}
+
+		@Test
+		void disabling_index_keeps_answers(SoftAssertions softly) {
+			stack.push(1);
+			stack.push(2);
+			stack.setIndexed(false);
+			softly.assertThat(stack.isIndexed()).isFalse();
+			softly.assertThat(stack.search(1)).isEqualTo(2);
+			softly.assertThat(stack.contains(2)).isTrue();
+		}
+
+		@Test
+		void clear_empties_index() {
+			stack.push(1);
+			stack.clear();
+			assertThat(stack.contains(1)).isFalse();
+		}
+	}
+	//endregion
+
+	//region Integration
+	@Nested
+	class Integration {
+
+		@Test
+		void indexed_and_scanning_modes_agree(SoftAssertions softly) {
+			IndexedArrayStack<Integer> scanning = new IndexedArrayStack<>(false);
+			Random random = new Random(42);
+
+			for (int step = 0; step < 2_000; step++) {
+				if (stack.isEmpty() || random.nextInt(3) > 0) {
+					int value = random.nextInt(20);
+					stack.push(value);
+					scanning.push(value);
+				} else {
+					softly.assertThat(stack.pop()).isEqualTo(scanning.pop());
+				}
+
+				int probe = random.nextInt(20);
+				softly.assertThat(stack.search(probe)).isEqualTo(scanning.search(probe));
+				softly.assertThat(stack.count(probe)).isEqualTo(scanning.count(probe));
+			}
+		}
+	}
+	//endregion
+}
@@ -461,4 +461,57 @@ class LinkedStackTest {
         }
     }
     //endregion
+
+    //region - Pooling
+    @Nested
+    class Pooling {
+
+        @Test
+        void default_stack_allocates_every_push(SoftAssertions softly) {
+            for (int i = 0; i < 3; i++) {
+                stack.push(i);
+                stack.pop();
+            }
+            softly.assertThat(stack.pool().allocations()).isEqualTo(3);
+            softly.assertThat(stack.pool().reuses()).isZero();
+        }
+
+        @Test
+        void pooled_stack_reuses_popped_nodes(SoftAssertions softly) {
+            LinkedStack<Integer> pooled = new LinkedStack<>(8);
+            for (int cycle = 0; cycle < 10; cycle++) {
+                pooled.push(cycle);
+                pooled.push(cycle + 1);
+                pooled.pop();
+                pooled.pop();
+            }
+            softly.assertThat(pooled.pool().allocations()).isEqualTo(2);
+            softly.assertThat(pooled.pool().reuses()).isEqualTo(18);
+            softly.assertThat(pooled.isEmpty()).isTrue();
+        }
+
+        @Test
+        void recycled_nodes_keep_LIFO_order(SoftAssertions softly) {
+            LinkedStack<Integer> pooled = new LinkedStack<>(4);
+            pooled.push(1);
+            pooled.pop();
+            pooled.push(2);
+            pooled.push(3);
+            softly.assertThat(pooled.pop()).isEqualTo(3);
+            softly.assertThat(pooled.pop()).isEqualTo(2);
+            softly.assertThat(pooled.isEmpty()).isTrue();
+        }
+
+        @Test
+        void clear_returns_nodes_to_pool(SoftAssertions softly) {
+            LinkedStack<Integer> pooled = new LinkedStack<>(2);
+            for (int i = 0; i < 5; i++)
+                pooled.push(i);
+            pooled.clear();
+            softly.assertThat(pooled.isEmpty()).isTrue();
+            softly.assertThat(pooled.pool().pooled()).isEqualTo(2);
+            softly.assertThat(pooled.pool().discards()).isEqualTo(3);
+        }
+    }
+    //endregion
 }
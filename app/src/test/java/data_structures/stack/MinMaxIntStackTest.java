@@ -0,0 +1,112 @@
+package data_structures.stack;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@SuppressWarnings({"ConstantConditions", "unused"})
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ExtendWith(SoftAssertionsExtension.class)
+class MinMaxIntStackTest {
+
+	MinMaxIntStack stack;
+
+	@BeforeEach
+	void setUp() {
+		stack = MinMaxIntStack.summing();
+	}
+
+	//region Push And Pop
+	@Nested
+	class Push_And_Pop {
+
+		@Test
+		void pop_throws_on_empty_stack() {
+			assertThatThrownBy(() -> stack.pop())
+				.isInstanceOf(IndexOutOfBoundsException.class);
+		}
+
+		@Test
+		void maintains_LIFO_order(SoftAssertions softly) {
+			stack.push(1);
+			stack.push(2);
+			stack.push(3);
+			softly.assertThat(stack.pop()).isEqualTo(3);
+			softly.assertThat(stack.pop()).isEqualTo(2);
+			softly.assertThat(stack.peek()).isEqualTo(1);
+		}
+	}
+	//endregion
+
+	//region Min Max And Sum
+	@Nested
+	class Min_Max_And_Sum {
+
+		@Test
+		void tracks_extremes_and_sum(SoftAssertions softly) {
+			stack.push(10);
+			stack.push(-4);
+			stack.push(25);
+			softly.assertThat(stack.min()).isEqualTo(-4);
+			softly.assertThat(stack.max()).isEqualTo(25);
+			softly.assertThat(stack.aggregate()).isEqualTo(31);
+		}
+
+		@Test
+		void handles_extreme_int_values(SoftAssertions softly) {
+			stack.push(Integer.MAX_VALUE);
+			stack.push(Integer.MIN_VALUE);
+			softly.assertThat(stack.min()).isEqualTo(Integer.MIN_VALUE);
+			softly.assertThat(stack.max()).isEqualTo(Integer.MAX_VALUE);
+		}
+
+		@Test
+		void restores_state_after_pops(SoftAssertions softly) {
+			for (int i = 1; i <= 100; i++)
+				stack.push(i);
+			for (int i = 0; i < 90; i++)
+				stack.pop();
+			softly.assertThat(stack.min()).isEqualTo(1);
+			softly.assertThat(stack.max()).isEqualTo(10);
+			softly.assertThat(stack.aggregate()).isEqualTo(55);
+		}
+
+		@Test
+		void aggregate_throws_without_combiner() {
+			MinMaxIntStack plain = new MinMaxIntStack();
+			plain.push(1);
+			assertThatThrownBy(plain::aggregate)
+				.isInstanceOf(IllegalStateException.class);
+		}
+	}
+	//endregion
+
+	//region Utilities
+	@Nested
+	class Utilities {
+
+		@Test
+		void search_and_contains(SoftAssertions softly) {
+			stack.push(5);
+			stack.push(6);
+			softly.assertThat(stack.search(5)).isEqualTo(2);
+			softly.assertThat(stack.contains(6)).isTrue();
+			softly.assertThat(stack.contains(7)).isFalse();
+		}
+
+		@Test
+		void toArray_returns_bottom_to_top() {
+			stack.push(1);
+			stack.push(2);
+			assertThat(stack.toArray()).containsExactly(1, 2);
+		}
+	}
+	//endregion
+}
@@ -0,0 +1,112 @@
+package data_structures.stack;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@SuppressWarnings({"ConstantConditions", "unused"})
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ExtendWith(SoftAssertionsExtension.class)
+class MinMaxLongStackTest {
+
+	MinMaxLongStack stack;
+
+	@BeforeEach
+	void setUp() {
+		stack = MinMaxLongStack.summing();
+	}
+
+	//region Push And Pop
+	@Nested
+	class Push_And_Pop {
+
+		@Test
+		void pop_throws_on_empty_stack() {
+			assertThatThrownBy(() -> stack.pop())
+				.isInstanceOf(IndexOutOfBoundsException.class);
+		}
+
+		@Test
+		void maintains_LIFO_order(SoftAssertions softly) {
+			stack.push(1L);
+			stack.push(2L);
+			stack.push(3L);
+			softly.assertThat(stack.pop()).isEqualTo(3L);
+			softly.assertThat(stack.pop()).isEqualTo(2L);
+			softly.assertThat(stack.peek()).isEqualTo(1L);
+		}
+	}
+	//endregion
+
+	//region Min Max And Sum
+	@Nested
+	class Min_Max_And_Sum {
+
+		@Test
+		void tracks_extremes_and_sum(SoftAssertions softly) {
+			stack.push(10L);
+			stack.push(-4L);
+			stack.push(25L);
+			softly.assertThat(stack.min()).isEqualTo(-4L);
+			softly.assertThat(stack.max()).isEqualTo(25L);
+			softly.assertThat(stack.aggregate()).isEqualTo(31L);
+		}
+
+		@Test
+		void handles_extreme_long_values(SoftAssertions softly) {
+			stack.push(Long.MAX_VALUE);
+			stack.push(Long.MIN_VALUE);
+			softly.assertThat(stack.min()).isEqualTo(Long.MIN_VALUE);
+			softly.assertThat(stack.max()).isEqualTo(Long.MAX_VALUE);
+		}
+
+		@Test
+		void restores_state_after_pops(SoftAssertions softly) {
+			for (long i = 1; i <= 100; i++)
+				stack.push(i);
+			for (int i = 0; i < 90; i++)
+				stack.pop();
+			softly.assertThat(stack.min()).isEqualTo(1L);
+			softly.assertThat(stack.max()).isEqualTo(10L);
+			softly.assertThat(stack.aggregate()).isEqualTo(55L);
+		}
+
+		@Test
+		void aggregate_throws_without_combiner() {
+			MinMaxLongStack plain = new MinMaxLongStack();
+			plain.push(1L);
+			assertThatThrownBy(plain::aggregate)
+				.isInstanceOf(IllegalStateException.class);
+		}
+	}
+	//endregion
+
+	//region Utilities
+	@Nested
+	class Utilities {
+
+		@Test
+		void search_and_contains(SoftAssertions softly) {
+			stack.push(5L);
+			stack.push(6L);
+			softly.assertThat(stack.search(5L)).isEqualTo(2);
+			softly.assertThat(stack.contains(6L)).isTrue();
+			softly.assertThat(stack.contains(7L)).isFalse();
+		}
+
+		@Test
+		void toArray_returns_bottom_to_top() {
+			stack.push(1L);
+			stack.push(2L);
+			assertThat(stack.toArray()).containsExactly(1L, 2L);
+		}
+	}
+	//endregion
+}
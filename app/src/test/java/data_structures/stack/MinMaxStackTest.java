@@ -0,0 +1,229 @@
+package data_structures.stack;
+
+import java.util.Comparator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@SuppressWarnings({"ConstantConditions", "unused"})
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ExtendWith(SoftAssertionsExtension.class)
+class MinMaxStackTest {
+
+	MinMaxStack<Integer> stack;
+
+	@BeforeEach
+	void setUp() {
+		stack = new MinMaxStack<>(Comparator.naturalOrder(), Integer::sum);
+	}
+
+	//region Constructor
+	@Nested
+	class Constructor {
+
+		@Test
+		void creates_empty_stack(SoftAssertions softly) {
+			softly.assertThat(stack.size()).isZero();
+			softly.assertThat(stack.isEmpty()).isTrue();
+		}
+
+		@Test
+		void throws_on_zero_capacity() {
+			assertThatThrownBy(() -> new MinMaxStack<Integer>(0, Comparator.naturalOrder(), null))
+				.isInstanceOf(IllegalArgumentException.class);
+		}
+
+		@Test
+		void throws_on_null_comparator() {
+			assertThatThrownBy(() -> new MinMaxStack<Integer>(null))
+				.isInstanceOf(NullPointerException.class);
+		}
+	}
+	//endregion
+
+	//region Min And Max
+	@Nested
+	class Min_And_Max {
+
+		@Nested
+		class Size_0_Empty {
+
+			@Test
+			void min_throws_on_empty_stack() {
+				assertThatThrownBy(() -> stack.min())
+					.isInstanceOf(IndexOutOfBoundsException.class);
+			}
+
+			@Test
+			void max_throws_on_empty_stack() {
+				assertThatThrownBy(() -> stack.max())
+					.isInstanceOf(IndexOutOfBoundsException.class);
+			}
+		}
+
+		@Nested
+		class Size_1_Single {
+
+			@Test
+			void min_and_max_are_the_only_element(SoftAssertions softly) {
+				stack.push(7);
+				softly.assertThat(stack.min()).isEqualTo(7);
+				softly.assertThat(stack.max()).isEqualTo(7);
+			}
+		}
+
+		@Nested
+		class Size_N_Multiple {
+
+			@Test
+			void tracks_extremes_while_pushing(SoftAssertions softly) {
+				stack.push(5);
+				stack.push(3);
+				stack.push(8);
+				stack.push(1);
+				softly.assertThat(stack.min()).isEqualTo(1);
+				softly.assertThat(stack.max()).isEqualTo(8);
+			}
+
+			@Test
+			void restores_extremes_after_pop(SoftAssertions softly) {
+				stack.push(5);
+				stack.push(3);
+				stack.push(8);
+				stack.pop();
+				softly.assertThat(stack.max()).isEqualTo(5);
+				stack.pop();
+				softly.assertThat(stack.min()).isEqualTo(5);
+			}
+
+			@Test
+			void duplicate_extremes_survive_popping_one_copy(SoftAssertions softly) {
+				stack.push(2);
+				stack.push(2);
+				stack.pop();
+				softly.assertThat(stack.min()).isEqualTo(2);
+				softly.assertThat(stack.max()).isEqualTo(2);
+			}
+
+			@Test
+			void honours_custom_comparator(SoftAssertions softly) {
+				MinMaxStack<String> byLength = new MinMaxStack<>(Comparator.comparingInt(String::length));
+				byLength.push("ccc");
+				byLength.push("a");
+				byLength.push("bb");
+				softly.assertThat(byLength.min()).isEqualTo("a");
+				softly.assertThat(byLength.max()).isEqualTo("ccc");
+			}
+		}
+
+		@Nested
+		class Null_Values {
+
+			@Test
+			void rejects_null_push() {
+				assertThatThrownBy(() -> stack.push(null))
+					.isInstanceOf(NullPointerException.class);
+			}
+		}
+	}
+	//endregion
+
+	//region Aggregate
+	@Nested
+	class Aggregate {
+
+		@Test
+		void throws_without_combiner() {
+			MinMaxStack<Integer> plain = MinMaxStack.naturalOrder();
+			plain.push(1);
+			assertThatThrownBy(plain::aggregate)
+				.isInstanceOf(IllegalStateException.class);
+		}
+
+		@Test
+		void throws_on_empty_stack() {
+			assertThatThrownBy(() -> stack.aggregate())
+				.isInstanceOf(IndexOutOfBoundsException.class);
+		}
+
+		@Test
+		void keeps_running_sum(SoftAssertions softly) {
+			stack.push(1);
+			stack.push(2);
+			stack.push(3);
+			softly.assertThat(stack.aggregate()).isEqualTo(6);
+			stack.pop();
+			softly.assertThat(stack.aggregate()).isEqualTo(3);
+		}
+	}
+	//endregion
+
+	//region Utilities
+	@Nested
+	class Utilities {
+
+		@Test
+		void search_returns_distance_from_top(SoftAssertions softly) {
+			stack.push(1);
+			stack.push(2);
+			stack.push(3);
+			softly.assertThat(stack.search(3)).isEqualTo(1);
+			softly.assertThat(stack.search(1)).isEqualTo(3);
+			softly.assertThat(stack.search(9)).isEqualTo(-1);
+		}
+
+		@Test
+		void clear_resets_extremes(SoftAssertions softly) {
+			stack.push(1);
+			stack.push(9);
+			stack.clear();
+			softly.assertThat(stack.isEmpty()).isTrue();
+			stack.push(4);
+			softly.assertThat(stack.min()).isEqualTo(4);
+			softly.assertThat(stack.max()).isEqualTo(4);
+		}
+
+		@Test
+		void toArray_returns_bottom_to_top() {
+			stack.push(1);
+			stack.push(2);
+			stack.push(3);
+			assertThat(stack.toArray()).containsExactly(1, 2, 3);
+		}
+
+		@Test
+		void iterator_visits_top_to_bottom() {
+			stack.push(1);
+			stack.push(2);
+			assertThat(stack).containsExactly(2, 1);
+		}
+	}
+	//endregion
+
+	//region Integration
+	@Nested
+	class Integration {
+
+		@Test
+		void extremes_match_after_growth(SoftAssertions softly) {
+			MinMaxStack<Integer> small = new MinMaxStack<>(2, Comparator.naturalOrder(), null);
+			for (int i = 0; i < 100; i++)
+				small.push(i % 2 == 0 ? i : -i);
+			softly.assertThat(small.min()).isEqualTo(-99);
+			softly.assertThat(small.max()).isEqualTo(98);
+			for (int i = 0; i < 50; i++)
+				small.pop();
+			softly.assertThat(small.min()).isEqualTo(-49);
+			softly.assertThat(small.max()).isEqualTo(48);
+		}
+	}
+	//endregion
+}
@@ -0,0 +1,151 @@
+package data_structures.stack;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@SuppressWarnings({"ConstantConditions", "unused"})
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ExtendWith(SoftAssertionsExtension.class)
+class PersistentStackTest {
+
+	PersistentStack<Integer> empty = PersistentStack.empty();
+
+	//region Empty
+	@Nested
+	class Empty {
+
+		@Test
+		void empty_stack_has_no_elements(SoftAssertions softly) {
+			softly.assertThat(empty.size()).isZero();
+			softly.assertThat(empty.isEmpty()).isTrue();
+			softly.assertThat(empty.toArray()).isEmpty();
+		}
+
+		@Test
+		void pop_throws_on_empty_stack() {
+			assertThatThrownBy(() -> empty.pop())
+				.isInstanceOf(IndexOutOfBoundsException.class);
+		}
+
+		@Test
+		void peek_throws_on_empty_stack() {
+			assertThatThrownBy(() -> empty.peek())
+				.isInstanceOf(IndexOutOfBoundsException.class);
+		}
+	}
+	//endregion
+
+	//region Versions
+	@Nested
+	class Versions {
+
+		@Test
+		void push_returns_new_version_and_keeps_original(SoftAssertions softly) {
+			PersistentStack<Integer> one = empty.push(1);
+			PersistentStack<Integer> two = one.push(2);
+			softly.assertThat(empty.isEmpty()).isTrue();
+			softly.assertThat(one.size()).isEqualTo(1);
+			softly.assertThat(one.peek()).isEqualTo(1);
+			softly.assertThat(two.size()).isEqualTo(2);
+			softly.assertThat(two.peek()).isEqualTo(2);
+		}
+
+		@Test
+		void pop_returns_shared_tail(SoftAssertions softly) {
+			PersistentStack<Integer> one = empty.push(1);
+			PersistentStack<Integer> two = one.push(2);
+			softly.assertThat(two.pop()).isSameAs(one);
+			softly.assertThat(two.peek()).isEqualTo(2);
+		}
+
+		@Test
+		void branches_share_common_prefix(SoftAssertions softly) {
+			PersistentStack<Integer> base = PersistentStack.of(1, 2);
+			PersistentStack<Integer> left = base.push(3);
+			PersistentStack<Integer> right = base.push(4);
+			softly.assertThat(left.toArray()).containsExactly(1, 2, 3);
+			softly.assertThat(right.toArray()).containsExactly(1, 2, 4);
+			softly.assertThat(left.pop()).isSameAs(right.pop());
+		}
+
+		@Test
+		void of_pushes_bottom_to_top(SoftAssertions softly) {
+			PersistentStack<Integer> stack = PersistentStack.of(1, 2, 3);
+			softly.assertThat(stack.peek()).isEqualTo(3);
+			softly.assertThat(stack.size()).isEqualTo(3);
+		}
+
+		@Test
+		void accepts_null_values(SoftAssertions softly) {
+			PersistentStack<Integer> stack = empty.push(null);
+			softly.assertThat(stack.peek()).isNull();
+			softly.assertThat(stack.search(null)).isEqualTo(1);
+		}
+	}
+	//endregion
+
+	//region Utilities
+	@Nested
+	class Utilities {
+
+		@Test
+		void search_returns_distance_from_top(SoftAssertions softly) {
+			PersistentStack<Integer> stack = PersistentStack.of(1, 2, 1);
+			softly.assertThat(stack.search(1)).isEqualTo(1);
+			softly.assertThat(stack.search(2)).isEqualTo(2);
+			softly.assertThat(stack.search(9)).isEqualTo(-1);
+		}
+
+		@Test
+		void iterator_visits_top_to_bottom() {
+			List<Integer> visited = new ArrayList<>();
+			for (Integer value : PersistentStack.of(1, 2, 3))
+				visited.add(value);
+			assertThat(visited).containsExactly(3, 2, 1);
+		}
+
+		@Test
+		void equal_contents_are_equal(SoftAssertions softly) {
+			softly.assertThat(PersistentStack.of(1, 2)).isEqualTo(PersistentStack.of(1, 2));
+			softly.assertThat(PersistentStack.of(1, 2).hashCode()).isEqualTo(PersistentStack.of(1, 2).hashCode());
+			softly.assertThat(PersistentStack.of(1, 2)).isNotEqualTo(PersistentStack.of(2, 1));
+		}
+
+		@Test
+		void toString_lists_bottom_to_top() {
+			assertThat(PersistentStack.of(1, 2, 3)).hasToString("[1, 2, 3]");
+		}
+	}
+	//endregion
+
+	//region Integration
+	@Nested
+	class Integration {
+
+		@Test
+		void snapshot_is_stable_across_threads(SoftAssertions softly) throws InterruptedException {
+			PersistentStack<Integer> snapshot = PersistentStack.of(1, 2, 3);
+			List<Integer> seen = new ArrayList<>();
+			Thread reader = new Thread(() -> {
+				for (Integer value : snapshot)
+					seen.add(value);
+			});
+			reader.start();
+			PersistentStack<Integer> next = snapshot.pop().push(9);
+			reader.join();
+			softly.assertThat(seen).containsExactly(3, 2, 1);
+			softly.assertThat(next.toArray()).containsExactly(1, 2, 9);
+		}
+	}
+	//endregion
+}